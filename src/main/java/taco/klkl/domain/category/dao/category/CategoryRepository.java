@@ -2,12 +2,21 @@ package taco.klkl.domain.category.dao.category;
 
 import java.util.List;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
 import taco.klkl.domain.category.domain.category.Category;
+import taco.klkl.global.common.constants.SearchConstants;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_TIMEOUT, value = SearchConstants.SEARCH_QUERY_TIMEOUT_SECONDS))
 	List<Category> findAllByNameContaining(final String partialName);
+
+	@Query("select c from category c left join fetch c.subcategories s order by c.id, s.id")
+	List<Category> findAllWithSubcategories();
 }
@@ -2,12 +2,22 @@ package taco.klkl.domain.category.dao.subcategory;
 
 import java.util.List;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
 import taco.klkl.domain.category.domain.subcategory.Subcategory;
+import taco.klkl.global.common.constants.SearchConstants;
 
 @Repository
 public interface SubcategoryRepository extends JpaRepository<Subcategory, Long> {
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_TIMEOUT, value = SearchConstants.SEARCH_QUERY_TIMEOUT_SECONDS))
 	List<Subcategory> findAllByNameContaining(final String partialName);
+
+	@Query("select s from subcategory s join fetch s.category left join fetch s.subcategoryTags st "
+		+ "left join fetch st.tag order by s.id, st.id")
+	List<Subcategory> findAllWithTags();
 }
@@ -12,6 +12,7 @@ import taco.klkl.domain.category.dao.category.CategoryRepository;
 import taco.klkl.domain.category.domain.category.Category;
 import taco.klkl.domain.category.dto.response.category.CategoryDetailResponse;
 import taco.klkl.domain.category.dto.response.category.CategorySimpleResponse;
+import taco.klkl.global.catalog.ReferenceCatalogProvider;
 
 @Slf4j
 @Primary
@@ -21,11 +22,11 @@ import taco.klkl.domain.category.dto.response.category.CategorySimpleResponse;
 public class CategoryServiceImpl implements CategoryService {
 
 	private final CategoryRepository categoryRepository;
+	private final ReferenceCatalogProvider referenceCatalogProvider;
 
 	@Override
 	public List<CategoryDetailResponse> findAllCategories() {
-		final List<Category> categories = categoryRepository.findAll();
-		return categories.stream()
+		return referenceCatalogProvider.getCatalog().getCategories().stream()
 			.map(CategoryDetailResponse::from)
 			.toList();
 	}
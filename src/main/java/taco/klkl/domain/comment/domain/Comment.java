@@ -10,11 +10,13 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import taco.klkl.domain.member.domain.Member;
 import taco.klkl.domain.product.domain.Product;
+import taco.klkl.global.common.constants.DefaultConstants;
 
 @Getter
 @Entity(name = "comment")
@@ -22,7 +24,12 @@ import taco.klkl.domain.product.domain.Product;
 public class Comment {
 	@Id
 	@Column(name = "comment_id")
-	@GeneratedValue(strategy = GenerationType.AUTO)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq")
+	@SequenceGenerator(
+		name = "comment_seq",
+		sequenceName = "comment_seq",
+		allocationSize = DefaultConstants.SEQUENCE_ALLOCATION_SIZE
+	)
 	private Long id;
 
 	@ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -15,9 +15,11 @@ import taco.klkl.domain.comment.dto.response.CommentResponse;
 import taco.klkl.domain.comment.exception.CommentMemberNotMatchException;
 import taco.klkl.domain.comment.exception.CommentNotFoundException;
 import taco.klkl.domain.comment.exception.CommentProductNotMatchException;
+import taco.klkl.domain.member.cache.MemberPrincipal;
 import taco.klkl.domain.member.domain.Member;
 import taco.klkl.domain.notification.service.NotificationService;
 import taco.klkl.domain.product.domain.Product;
+import taco.klkl.domain.product.ranking.TrendingRanker;
 import taco.klkl.global.util.MemberUtil;
 import taco.klkl.global.util.ProductUtil;
 
@@ -31,6 +33,7 @@ public class CommentServiceImpl implements CommentService {
 	private final CommentRepository commentRepository;
 
 	private final NotificationService notificationService;
+	private final TrendingRanker trendingRanker;
 
 	private final MemberUtil memberUtil;
 	private final ProductUtil productUtil;
@@ -52,6 +55,7 @@ public class CommentServiceImpl implements CommentService {
 	) {
 		final Comment comment = createCommentEntity(productId, commentCreateRequestDto);
 		commentRepository.save(comment);
+		trendingRanker.recordComment(comment.getProduct());
 		if (!isMyProduct(productId)) {
 			notificationService.createNotificationByComment(comment);
 		}
@@ -93,7 +97,7 @@ public class CommentServiceImpl implements CommentService {
 		final Long productId,
 		final CommentCreateUpdateRequest commentCreateUpdateRequest
 	) {
-		final Member member = memberUtil.getCurrentMember();
+		final Member member = memberUtil.getCurrentMemberReference();
 		final Product product = productUtil.findProductEntityById(productId);
 		return Comment.of(
 			product,
@@ -103,9 +107,9 @@ public class CommentServiceImpl implements CommentService {
 	}
 
 	private boolean isMyProduct(final Long productId) {
-		final Member me = memberUtil.getCurrentMember();
+		final MemberPrincipal me = memberUtil.getCurrentPrincipal();
 		final Product product = productUtil.findProductEntityById(productId);
-		return product.getMember().equals(me);
+		return product.getMember().getId().equals(me.id());
 	}
 
 	private void updateCommentEntity(
@@ -120,8 +124,8 @@ public class CommentServiceImpl implements CommentService {
 	}
 
 	private void validateMyComment(final Comment comment) {
-		final Member me = memberUtil.getCurrentMember();
-		if (!comment.getMember().equals(me)) {
+		final MemberPrincipal me = memberUtil.getCurrentPrincipal();
+		if (!comment.getMember().getId().equals(me.id())) {
 			throw new CommentMemberNotMatchException();
 		}
 	}
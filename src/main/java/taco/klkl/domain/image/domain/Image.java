@@ -9,9 +9,11 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import taco.klkl.global.common.constants.DefaultConstants;
 import taco.klkl.infra.cloudfront.CloudFrontUrlGenerator;
 
 @Getter
@@ -24,7 +26,12 @@ public class Image {
 		name = "image_id",
 		nullable = false
 	)
-	@GeneratedValue(strategy = GenerationType.AUTO)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "image_seq")
+	@SequenceGenerator(
+		name = "image_seq",
+		sequenceName = "image_seq",
+		allocationSize = DefaultConstants.SEQUENCE_ALLOCATION_SIZE
+	)
 	private Long id;
 
 	@Enumerated(EnumType.STRING)
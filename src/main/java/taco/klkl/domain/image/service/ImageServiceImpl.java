@@ -26,7 +26,10 @@ import taco.klkl.domain.image.dto.request.SingleImageUpdateRequest;
 import taco.klkl.domain.image.dto.request.SingleImageUploadRequest;
 import taco.klkl.domain.image.dto.response.ImageResponse;
 import taco.klkl.domain.image.dto.response.PresignedUrlResponse;
+import taco.klkl.domain.member.cache.MemberPrincipal;
+import taco.klkl.domain.member.cache.MemberPrincipalCache;
 import taco.klkl.domain.member.domain.Member;
+import taco.klkl.domain.product.cache.ProductDetailCache;
 import taco.klkl.domain.product.domain.Product;
 import taco.klkl.domain.product.domain.ProductImage;
 import taco.klkl.global.util.ImageUtil;
@@ -48,6 +51,8 @@ public class ImageServiceImpl implements ImageService {
 	private final MemberUtil memberUtil;
 	private final ProductUtil productUtil;
 	private final ImageUtil imageUtil;
+	private final ProductDetailCache productDetailCache;
+	private final MemberPrincipalCache memberPrincipalCache;
 
 	@Value("${cloud.aws.s3.bucket}")
 	private String bucketName;
@@ -55,9 +60,9 @@ public class ImageServiceImpl implements ImageService {
 	@Override
 	@Transactional
 	public PresignedUrlResponse createMemberImageUploadUrl(final SingleImageUploadRequest uploadRequest) {
-		final Member currentMember = memberUtil.getCurrentMember();
+		final MemberPrincipal currentMember = memberUtil.getCurrentPrincipal();
 		final FileExtension fileExtension = FileExtension.from(uploadRequest.fileExtension());
-		return createImageUploadUrl(ImageType.MEMBER_IMAGE, currentMember.getId(), fileExtension);
+		return createImageUploadUrl(ImageType.MEMBER_IMAGE, currentMember.id(), fileExtension);
 	}
 
 	@Override
@@ -84,6 +89,8 @@ public class ImageServiceImpl implements ImageService {
 		updatedImage.markAsComplete();
 
 		currentMember.updateProfileImage(updatedImage);
+		memberPrincipalCache.evict(currentMember.getUuid());
+		productDetailCache.invalidateByMember(currentMember.getId());
 
 		return ImageResponse.from(currentMember.getProfileImage());
 	}
@@ -104,6 +111,7 @@ public class ImageServiceImpl implements ImageService {
 
 		Product product = productUtil.findProductEntityById(productId);
 		product.updateImages(updatedImages);
+		productDetailCache.invalidate(productId);
 
 		return product.getImages().stream()
 			.map(ProductImage::getImage)
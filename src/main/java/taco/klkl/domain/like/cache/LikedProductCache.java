@@ -0,0 +1,245 @@
+package taco.klkl.domain.like.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import taco.klkl.domain.like.dao.LikeRepository;
+import taco.klkl.global.common.collection.LongBitmap;
+import taco.klkl.global.common.concurrent.SingleFlight;
+import taco.klkl.global.common.constants.LikeConstants;
+
+/**
+ * 회원별 좋아요 상품 ID 를 {@link LongBitmap} 으로 메모리에 보관합니다.
+ * 비트맵은 처음 조회될 때 짧은 읽기 전용 트랜잭션을 새로 열어 적재하고, 같은 회원을 동시에 적재하는 요청은 하나로 합칩니다.
+ * 호출한 쪽의 트랜잭션이 먼저 잡아 둔 스냅샷으로 읽으면 그 뒤에 커밋된 좋아요가 빠진 채 캐시에 오를 수 있기 때문입니다.
+ * 좋아요 추가/취소는 트랜잭션이 커밋된 뒤에 반영됩니다.
+ * 쓰기 트랜잭션 안에서는 커밋되지 않은 변경을 볼 수 있도록 호출한 쪽의 커넥션으로 읽고 캐시에 올리지 않으며,
+ * 적재 도중 같은 회원의 좋아요가 바뀌었다면 적재한 비트맵은 캐시에 올리지 않습니다.
+ * 조회는 잠금 없이 읽고, 전체 크기가 메모리 예산을 넘으면 가장 오래 사용되지 않은 회원부터 내보냅니다.
+ */
+@Component
+public class LikedProductCache {
+
+	private static final String METRIC_NAME = "like.bitmap.cache";
+	private static final String RESULT_TAG = "result";
+	private static final String LOAD_FLIGHT = "like.bitmap.load";
+
+	private final Map<Long, CachedBitmap> bitmaps = new ConcurrentHashMap<>();
+	private final AtomicLongArray writeStamps = new AtomicLongArray(LikeConstants.LIKED_PRODUCT_CACHE_WRITE_STRIPES);
+	private final AtomicLong totalBytes = new AtomicLong();
+	private final ReentrantLock evictionLock = new ReentrantLock();
+
+	private final LikeRepository likeRepository;
+	private final SingleFlight singleFlight;
+	private final TransactionTemplate loadTransactionTemplate;
+
+	private final Counter hitCounter;
+	private final Counter missCounter;
+
+	public LikedProductCache(
+		final LikeRepository likeRepository,
+		final SingleFlight singleFlight,
+		final PlatformTransactionManager transactionManager,
+		final MeterRegistry meterRegistry
+	) {
+		this.likeRepository = likeRepository;
+		this.singleFlight = singleFlight;
+		this.loadTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.loadTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.loadTransactionTemplate.setReadOnly(true);
+		this.hitCounter = Counter.builder(METRIC_NAME)
+			.tag(RESULT_TAG, "hit")
+			.register(meterRegistry);
+		this.missCounter = Counter.builder(METRIC_NAME)
+			.tag(RESULT_TAG, "miss")
+			.register(meterRegistry);
+		Gauge.builder(METRIC_NAME + ".size", this, LikedProductCache::size)
+			.register(meterRegistry);
+		Gauge.builder(METRIC_NAME + ".bytes", this, LikedProductCache::totalBytes)
+			.register(meterRegistry);
+	}
+
+	public boolean isLiked(final Long memberId, final Long productId) {
+		final LongBitmap bitmap = getOrLoad(memberId);
+		synchronized (bitmap) {
+			return bitmap.contains(productId);
+		}
+	}
+
+	public Set<Long> findLikedProductIds(final Long memberId, final Collection<Long> productIds) {
+		final LongBitmap bitmap = getOrLoad(memberId);
+		synchronized (bitmap) {
+			return productIds.stream()
+				.filter(bitmap::contains)
+				.collect(Collectors.toSet());
+		}
+	}
+
+	public void recordLike(final Long memberId, final Long productId) {
+		afterCommit(memberId, bitmap -> bitmap.add(productId));
+	}
+
+	public void recordUnlike(final Long memberId, final Long productId) {
+		afterCommit(memberId, bitmap -> bitmap.remove(productId));
+	}
+
+	public int size() {
+		return bitmaps.size();
+	}
+
+	public long totalBytes() {
+		return totalBytes.get();
+	}
+
+	private LongBitmap getOrLoad(final Long memberId) {
+		final CachedBitmap cached = bitmaps.get(memberId);
+		if (cached != null) {
+			hitCounter.increment();
+			cached.touch();
+			return cached.bitmap();
+		}
+		missCounter.increment();
+		if (isInReadWriteTransaction()) {
+			return LongBitmap.from(likeRepository.findProductIdsByMemberId(memberId));
+		}
+		return singleFlight.execute(LOAD_FLIGHT, memberId, () -> load(memberId));
+	}
+
+	/**
+	 * 스탬프를 먼저 읽고 새 트랜잭션에서 적재하므로, 스냅샷에 빠진 좋아요는 스탬프를 올려 설치를 막습니다.
+	 */
+	private LongBitmap load(final Long memberId) {
+		final int stripe = stripeOf(memberId);
+		final long stamp = writeStamps.get(stripe);
+		final LongBitmap loaded = loadTransactionTemplate.execute(status ->
+			LongBitmap.from(likeRepository.findProductIdsByMemberId(memberId)));
+		final CachedBitmap cached = bitmaps.computeIfAbsent(memberId, id -> {
+			if (writeStamps.get(stripe) != stamp) {
+				return null;
+			}
+			final CachedBitmap installed = CachedBitmap.of(loaded);
+			totalBytes.addAndGet(installed.bytes());
+			return installed;
+		});
+		evictOverBudget();
+		return cached == null ? loaded : cached.bitmap();
+	}
+
+	private void afterCommit(final Long memberId, final Consumer<LongBitmap> update) {
+		writeStamps.incrementAndGet(stripeOf(memberId));
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			apply(memberId, update);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				apply(memberId, update);
+			}
+		});
+	}
+
+	private void apply(final Long memberId, final Consumer<LongBitmap> update) {
+		writeStamps.incrementAndGet(stripeOf(memberId));
+		bitmaps.computeIfPresent(memberId, (id, cached) -> {
+			final CachedBitmap resized;
+			synchronized (cached.bitmap()) {
+				update.accept(cached.bitmap());
+				resized = cached.resize();
+			}
+			totalBytes.addAndGet(resized.bytes() - cached.bytes());
+			return resized;
+		});
+		evictOverBudget();
+	}
+
+	/**
+	 * 예산을 넘으면 마지막 사용 시각이 오래된 회원부터 내보내 예산의 일부를 비워 둡니다.
+	 * 이미 다른 스레드가 내보내는 중이면 그 스레드에 맡깁니다.
+	 */
+	private void evictOverBudget() {
+		if (totalBytes.get() <= LikeConstants.LIKED_PRODUCT_CACHE_MAX_BYTES || !evictionLock.tryLock()) {
+			return;
+		}
+		try {
+			final List<Map.Entry<Long, CachedBitmap>> entries = new ArrayList<>(bitmaps.entrySet());
+			entries.sort(Comparator.comparingLong(entry -> entry.getValue().lastAccessNanos()));
+			for (final Map.Entry<Long, CachedBitmap> entry : entries) {
+				if (totalBytes.get() <= LikeConstants.LIKED_PRODUCT_CACHE_EVICT_TARGET_BYTES) {
+					return;
+				}
+				if (bitmaps.remove(entry.getKey(), entry.getValue())) {
+					totalBytes.addAndGet(-entry.getValue().bytes());
+				}
+			}
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private static boolean isInReadWriteTransaction() {
+		return TransactionSynchronizationManager.isActualTransactionActive()
+			&& !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+	}
+
+	private static int stripeOf(final Long memberId) {
+		return Math.floorMod(memberId.hashCode(), LikeConstants.LIKED_PRODUCT_CACHE_WRITE_STRIPES);
+	}
+
+	private static final class CachedBitmap {
+
+		private final LongBitmap bitmap;
+		private final long bytes;
+		private volatile long lastAccessNanos;
+
+		private CachedBitmap(final LongBitmap bitmap, final long bytes, final long lastAccessNanos) {
+			this.bitmap = bitmap;
+			this.bytes = bytes;
+			this.lastAccessNanos = lastAccessNanos;
+		}
+
+		static CachedBitmap of(final LongBitmap bitmap) {
+			return new CachedBitmap(bitmap, bitmap.sizeInBytes(), System.nanoTime());
+		}
+
+		CachedBitmap resize() {
+			return new CachedBitmap(bitmap, bitmap.sizeInBytes(), lastAccessNanos);
+		}
+
+		void touch() {
+			lastAccessNanos = System.nanoTime();
+		}
+
+		LongBitmap bitmap() {
+			return bitmap;
+		}
+
+		long bytes() {
+			return bytes;
+		}
+
+		long lastAccessNanos() {
+			return lastAccessNanos;
+		}
+	}
+}
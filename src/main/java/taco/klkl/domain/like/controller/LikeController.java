@@ -1,5 +1,8 @@
 package taco.klkl.domain.like.controller;
 
+import java.util.List;
+import java.util.Set;
+
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
@@ -8,17 +11,24 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import taco.klkl.domain.like.dto.response.LikeResponse;
+import taco.klkl.domain.like.dto.response.LikeStatusResponse;
 import taco.klkl.domain.like.service.LikeService;
 import taco.klkl.domain.product.dto.response.ProductSimpleResponse;
+import taco.klkl.global.common.constants.DefaultConstants;
 import taco.klkl.global.common.constants.ProductConstants;
+import taco.klkl.global.common.response.CursorResponse;
 import taco.klkl.global.common.response.PagedResponse;
 
 @Slf4j
@@ -38,6 +48,28 @@ public class LikeController {
 		return likeService.getLikes(pageable);
 	}
 
+	@GetMapping("/cursor")
+	@Operation(
+		summary = "좋아요 목록 커서 기반 조회",
+		description = "좋아요를 누른 상품 목록을 커서 기반으로 조회합니다. 전체 개수는 조회하지 않습니다."
+	)
+	public CursorResponse<ProductSimpleResponse> getMyLikesWithCursor(
+		@RequestParam(name = "cursor", required = false) final String cursor,
+		@RequestParam(name = "size", required = false, defaultValue = ProductConstants.DEFAULT_PAGE_SIZE_STRING)
+		@Positive @Max(ProductConstants.MAX_PAGE_SIZE) final int size
+	) {
+		return likeService.getLikesWithCursor(cursor, size);
+	}
+
+	@GetMapping("/status")
+	@Operation(summary = "좋아요 여부 일괄 조회", description = "여러 상품에 대한 좋아요 여부를 한 번에 조회합니다.")
+	public List<LikeStatusResponse> getLikeStatuses(
+		@RequestParam(name = "product_id")
+		@Size(max = DefaultConstants.MAX_STATUS_IDS_SIZE) final Set<Long> productIds
+	) {
+		return likeService.getLikeStatuses(productIds);
+	}
+
 	@PostMapping("/{productId}")
 	@ResponseStatus(HttpStatus.CREATED)
 	@Operation(summary = "좋아요 누르기", description = "상품에 좋아요를 누릅니다.")
@@ -0,0 +1,254 @@
+package taco.klkl.domain.like.counter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import taco.klkl.domain.like.exception.LikeCountBelowMinimumException;
+import taco.klkl.domain.like.exception.LikeCountOverMaximumException;
+import taco.klkl.domain.product.domain.Product;
+import taco.klkl.global.common.constants.ProductConstants;
+
+/**
+ * 상품 좋아요 수 변화를 메모리에 모았다가 주기적으로 product.like_count 에 반영합니다.
+ * 상품별 LongAdder 로 동시 좋아요가 행 잠금을 기다리지 않게 하고,
+ * 트랜잭션 안의 변화는 커밋된 뒤에만 반영 대기열에 넣습니다.
+ *
+ * <p>반영할 변화가 없고 진행 중인 트랜잭션도 없는 카운터는 한동안 쓰이지 않으면 반영 직후 제거합니다.
+ * 다음에 그 상품을 보면 DB 의 like_count 를 다시 기준값으로 읽습니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeCountEngine {
+
+	private static final String FLUSH_SQL =
+		"UPDATE product SET like_count = GREATEST(like_count + ?, 0) WHERE product_id = ?";
+	private static final long COUNTER_IDLE_NANOS =
+		TimeUnit.MILLISECONDS.toNanos(ProductConstants.LIKE_COUNT_COUNTER_IDLE_MILLIS);
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final Map<Long, LikeCounter> counters = new ConcurrentHashMap<>();
+
+	public int increase(final Product product) throws LikeCountOverMaximumException {
+		final long likeCount = getLiveLikeCount(product);
+		if (likeCount >= Integer.MAX_VALUE) {
+			throw new LikeCountOverMaximumException();
+		}
+		record(product, 1);
+		return (int)(likeCount + 1);
+	}
+
+	public int decrease(final Product product) throws LikeCountBelowMinimumException {
+		final long likeCount = getLiveLikeCount(product);
+		if (likeCount <= 0) {
+			throw new LikeCountBelowMinimumException();
+		}
+		record(product, -1);
+		return (int)(likeCount - 1);
+	}
+
+	/**
+	 * 처음 본 상품은 엔티티의 like_count 를 기준값으로 삼고,
+	 * 이후 커밋된 변화와 현재 트랜잭션의 변화를 더해 반환합니다.
+	 */
+	public int getLiveLikeCount(final Product product) {
+		final long now = System.nanoTime();
+		final LikeCounter counter = counters.computeIfAbsent(
+			product.getId(),
+			id -> new LikeCounter(product.getLikeCount(), now)
+		);
+		counter.touch(now);
+		final long likeCount = counter.value() + findTransactionDelta(product.getId());
+		return (int)Math.max(0, Math.min(Integer.MAX_VALUE, likeCount));
+	}
+
+	/**
+	 * 엔티티 없이 상품 ID 로 현재 좋아요 수를 구합니다.
+	 * 아직 변화가 기록되지 않은 상품은 저장된 like_count 가 현재 값입니다.
+	 */
+	public int findLiveLikeCount(final Long productId, final int storedLikeCount) {
+		final LikeCounter counter = counters.get(productId);
+		final long baseValue = counter == null ? storedLikeCount : counter.value();
+		final long likeCount = baseValue + findTransactionDelta(productId);
+		return (int)Math.max(0, Math.min(Integer.MAX_VALUE, likeCount));
+	}
+
+	@Scheduled(fixedDelay = ProductConstants.LIKE_COUNT_FLUSH_INTERVAL_MILLIS)
+	public void flush() {
+		final List<Object[]> batchArgs = new ArrayList<>();
+		final Map<Long, Long> drainedDeltas = new HashMap<>();
+		counters.forEach((productId, counter) -> {
+			final long delta = counter.drain();
+			if (delta != 0) {
+				batchArgs.add(new Object[] {delta, productId});
+				drainedDeltas.put(productId, delta);
+			}
+		});
+		if (!batchArgs.isEmpty()) {
+			try {
+				jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+			} catch (RuntimeException e) {
+				log.error("좋아요 수 반영 실패, 다음 주기에 재시도합니다. products={}", drainedDeltas.size(), e);
+				drainedDeltas.forEach((productId, delta) -> counters.get(productId).restore(delta));
+				return;
+			}
+		}
+		evictIdleCounters(System.nanoTime());
+	}
+
+	/**
+	 * 제거 여부는 상품별 compute 안에서 판단하므로, 같은 상품에 동시에 기록되는 변화와 엇갈리지 않습니다.
+	 */
+	void evictIdleCounters(final long now) {
+		counters.keySet().forEach(productId ->
+			counters.computeIfPresent(productId, (id, counter) -> counter.isIdle(now) ? null : counter)
+		);
+	}
+
+	@PreDestroy
+	public void flushOnShutdown() {
+		flush();
+	}
+
+	private void record(final Product product, final int delta) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			updateCounter(product, counter -> counter.add(delta));
+			return;
+		}
+		final Map<Long, Integer> transactionDeltas = getTransactionDeltas();
+		if (!transactionDeltas.containsKey(product.getId())) {
+			updateCounter(product, LikeCounter::enterTransaction);
+		}
+		transactionDeltas.merge(product.getId(), delta, Integer::sum);
+	}
+
+	/**
+	 * 카운터 제거와 같은 잠금 안에서 변경하므로, 변경 대상 카운터가 맵에서 빠져 변화가 사라지지 않습니다.
+	 */
+	private void updateCounter(final Product product, final Consumer<LikeCounter> update) {
+		final long now = System.nanoTime();
+		counters.compute(product.getId(), (id, existingCounter) -> {
+			final LikeCounter counter = existingCounter == null
+				? new LikeCounter(product.getLikeCount(), now)
+				: existingCounter;
+			update.accept(counter);
+			counter.touch(now);
+			return counter;
+		});
+	}
+
+	/**
+	 * 트랜잭션에 들어간 카운터는 완료될 때까지 제거되지 않으므로 항상 맵에 있습니다.
+	 */
+	private void completeTransaction(final Long productId, final long delta, final boolean committed) {
+		final LikeCounter counter = counters.get(productId);
+		if (committed) {
+			counter.add(delta);
+		}
+		counter.exitTransaction();
+	}
+
+	private long findTransactionDelta(final Long productId) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return 0;
+		}
+		@SuppressWarnings("unchecked")
+		final Map<Long, Integer> transactionDeltas =
+			(Map<Long, Integer>)TransactionSynchronizationManager.getResource(this);
+		if (transactionDeltas == null) {
+			return 0;
+		}
+		return transactionDeltas.getOrDefault(productId, 0);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<Long, Integer> getTransactionDeltas() {
+		final Map<Long, Integer> existingDeltas =
+			(Map<Long, Integer>)TransactionSynchronizationManager.getResource(this);
+		if (existingDeltas != null) {
+			return existingDeltas;
+		}
+		final Map<Long, Integer> transactionDeltas = new HashMap<>();
+		TransactionSynchronizationManager.bindResource(this, transactionDeltas);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(final int status) {
+				TransactionSynchronizationManager.unbindResourceIfPossible(LikeCountEngine.this);
+				final boolean committed = status == STATUS_COMMITTED;
+				transactionDeltas.forEach((productId, delta) -> completeTransaction(productId, delta, committed));
+			}
+		});
+		return transactionDeltas;
+	}
+
+	private static final class LikeCounter {
+
+		private final long baseValue;
+		private final LongAdder committedDelta = new LongAdder();
+		private final LongAdder pendingDelta = new LongAdder();
+		private final AtomicInteger activeTransactions = new AtomicInteger();
+		private volatile long lastAccessNanos;
+
+		private LikeCounter(final long baseValue, final long now) {
+			this.baseValue = baseValue;
+			this.lastAccessNanos = now;
+		}
+
+		private long value() {
+			return baseValue + committedDelta.sum();
+		}
+
+		private void add(final long delta) {
+			committedDelta.add(delta);
+			pendingDelta.add(delta);
+		}
+
+		/**
+		 * 반영할 변화량을 꺼냅니다. 그 사이에 더해진 값은 다음 주기에 남습니다.
+		 */
+		private long drain() {
+			final long delta = pendingDelta.sum();
+			pendingDelta.add(-delta);
+			return delta;
+		}
+
+		private void restore(final long delta) {
+			pendingDelta.add(delta);
+		}
+
+		private void touch(final long now) {
+			lastAccessNanos = now;
+		}
+
+		private void enterTransaction() {
+			activeTransactions.incrementAndGet();
+		}
+
+		private void exitTransaction() {
+			activeTransactions.decrementAndGet();
+		}
+
+		private boolean isIdle(final long now) {
+			return pendingDelta.sum() == 0
+				&& activeTransactions.get() == 0
+				&& now - lastAccessNanos >= COUNTER_IDLE_NANOS;
+		}
+	}
+}
@@ -1,19 +1,49 @@
 package taco.klkl.domain.like.dao;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import taco.klkl.domain.like.domain.Like;
-import taco.klkl.domain.member.domain.Member;
-import taco.klkl.domain.product.domain.Product;
 
 @Repository
 public interface LikeRepository extends JpaRepository<Like, Long> {
 	Page<Like> findByMemberId(final Long memberId, final Pageable pageable);
 
-	void deleteByProductAndMember(final Product product, final Member member);
+	@Query("select l.product.id from member_product_like l where l.member.id = :memberId")
+	List<Long> findProductIdsByMemberId(@Param("memberId") final Long memberId);
+
+	/**
+	 * (product_id, member_id) 유니크 제약으로 중복을 걸러 한 번의 INSERT 로 좋아요를 저장합니다.
+	 * 유니크 키 충돌만 흡수하고, 외래 키 위반 같은 다른 오류는 그대로 던집니다.
+	 * MySQL 은 {@code useAffectedRows=true} 로 연결해야 이미 존재할 때 0 을 돌려줍니다.
+	 *
+	 * @return 새로 저장되었으면 1, 이미 존재하면 1 이 아닌 값(MySQL 은 0, H2 는 2)
+	 */
+	@Modifying
+	@Query(value = "INSERT INTO member_product_like (product_id, member_id, created_at) "
+		+ "VALUES (:productId, :memberId, :createdAt) "
+		+ "ON DUPLICATE KEY UPDATE member_id = member_id", nativeQuery = true)
+	int insertIfAbsent(
+		@Param("productId") final Long productId,
+		@Param("memberId") final Long memberId,
+		@Param("createdAt") final LocalDateTime createdAt
+	);
 
-	boolean existsByProductAndMember(final Product product, final Member member);
+	/**
+	 * @return 삭제된 행의 수
+	 */
+	@Modifying
+	@Query("delete from member_product_like l where l.product.id = :productId and l.member.id = :memberId")
+	int deleteByProductIdAndMemberId(
+		@Param("productId") final Long productId,
+		@Param("memberId") final Long memberId
+	);
 }
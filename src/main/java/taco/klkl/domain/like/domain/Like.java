@@ -8,6 +8,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -23,13 +24,16 @@ import taco.klkl.domain.product.domain.Product;
 @Table(
 	uniqueConstraints = {
 		@UniqueConstraint(columnNames = {"product_id", "member_id"})
+	},
+	indexes = {
+		@Index(name = "idx_like_member_product", columnList = "member_id, product_id")
 	}
 )
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Like {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.AUTO)
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
 
 	@ManyToOne(
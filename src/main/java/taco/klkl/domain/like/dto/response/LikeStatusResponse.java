@@ -0,0 +1,10 @@
+package taco.klkl.domain.like.dto.response;
+
+public record LikeStatusResponse(
+	Long productId,
+	boolean isLiked
+) {
+	public static LikeStatusResponse of(final Long productId, final boolean isLiked) {
+		return new LikeStatusResponse(productId, isLiked);
+	}
+}
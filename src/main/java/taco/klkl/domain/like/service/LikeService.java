@@ -1,18 +1,32 @@
 package taco.klkl.domain.like.service;
 
+import java.util.List;
+import java.util.Set;
+
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import taco.klkl.domain.like.dto.response.LikeResponse;
+import taco.klkl.domain.like.dto.response.LikeStatusResponse;
 import taco.klkl.domain.member.domain.Member;
 import taco.klkl.domain.product.domain.Product;
 import taco.klkl.domain.product.dto.response.ProductSimpleResponse;
+import taco.klkl.global.common.response.CursorResponse;
 import taco.klkl.global.common.response.PagedResponse;
 
 public interface LikeService {
 
 	PagedResponse<ProductSimpleResponse> getLikes(final Pageable pageable);
 
+	CursorResponse<ProductSimpleResponse> getLikesWithCursor(final String cursor, final int size);
+
+	/**
+	 * 여러 상품에 대한 좋아요 여부를 한 번에 조회
+	 * @param productIds
+	 * @return 요청한 순서대로 정렬된 좋아요 여부
+	 */
+	List<LikeStatusResponse> getLikeStatuses(final Set<Long> productIds);
+
 	/**
 	 * 상품에 좋아요를 누르는 경우
 	 * @param productId
@@ -1,22 +1,41 @@
 package taco.klkl.domain.like.service;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import taco.klkl.domain.like.cache.LikedProductCache;
+import taco.klkl.domain.like.counter.LikeCountEngine;
 import taco.klkl.domain.like.dao.LikeRepository;
 import taco.klkl.domain.like.domain.Like;
+import taco.klkl.domain.like.domain.QLike;
 import taco.klkl.domain.like.dto.response.LikeResponse;
+import taco.klkl.domain.like.dto.response.LikeStatusResponse;
+import taco.klkl.domain.member.cache.MemberPrincipal;
 import taco.klkl.domain.member.domain.Member;
 import taco.klkl.domain.product.domain.Product;
+import taco.klkl.domain.product.domain.SortCriteria;
+import taco.klkl.domain.product.dto.request.ProductCursor;
 import taco.klkl.domain.product.dto.response.ProductSimpleResponse;
-import taco.klkl.domain.product.service.ProductService;
+import taco.klkl.domain.product.ranking.LikeCountLeaderboards;
+import taco.klkl.domain.product.ranking.TrendingRanker;
+import taco.klkl.global.common.response.CursorResponse;
 import taco.klkl.global.common.response.PagedResponse;
+import taco.klkl.global.util.LikeUtil;
 import taco.klkl.global.util.MemberUtil;
 import taco.klkl.global.util.PageUtil;
 import taco.klkl.global.util.ProductUtil;
@@ -28,10 +47,14 @@ import taco.klkl.global.util.ProductUtil;
 @RequiredArgsConstructor
 public class LikeServiceImpl implements LikeService {
 
+	private final JPAQueryFactory queryFactory;
 	private final LikeRepository likeRepository;
+	private final LikeCountEngine likeCountEngine;
+	private final LikedProductCache likedProductCache;
+	private final TrendingRanker trendingRanker;
+	private final LikeCountLeaderboards likeCountLeaderboards;
 
-	private final ProductService productService;
-
+	private final LikeUtil likeUtil;
 	private final MemberUtil memberUtil;
 	private final ProductUtil productUtil;
 
@@ -39,35 +62,98 @@ public class LikeServiceImpl implements LikeService {
 	@Transactional(readOnly = true)
 	public PagedResponse<ProductSimpleResponse> getLikes(final Pageable pageable) {
 		final Pageable sortedPageable = PageUtil.createPageableSortedByCreatedAtDesc(pageable);
-		final Member member = memberUtil.getCurrentMember();
-		final Page<Like> likes = likeRepository.findByMemberId(member.getId(), sortedPageable);
+		final MemberPrincipal member = memberUtil.getCurrentPrincipal();
+		final Page<Like> likes = likeRepository.findByMemberId(member.id(), sortedPageable);
 		final Page<Product> likedProducts = likes.map(Like::getProduct);
-		return PagedResponse.of(likedProducts, productUtil::createProductSimpleResponse);
+		return PagedResponse.of(
+			likedProducts,
+			productUtil.createProductSimpleResponseMapper(likedProducts.getContent())
+		);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public CursorResponse<ProductSimpleResponse> getLikesWithCursor(final String cursor, final int size) {
+		final MemberPrincipal member = memberUtil.getCurrentPrincipal();
+		final String scope = ProductCursor.scopeOf(member.id());
+		final ProductCursor likeCursor = ProductCursor.decode(
+			cursor,
+			SortCriteria.CREATED_AT,
+			Sort.Direction.DESC,
+			scope
+		);
+		final QLike like = QLike.like;
+
+		final List<Tuple> likes = queryFactory
+			.select(like.product.id, like.createdAt)
+			.from(like)
+			.where(like.member.id.eq(member.id()), createCursorFilter(likeCursor))
+			.orderBy(like.createdAt.desc(), like.product.id.desc())
+			.limit(size + 1L)
+			.fetch();
+
+		final boolean hasNext = likes.size() > size;
+		final List<Tuple> content = hasNext ? likes.subList(0, size) : likes;
+		final List<Long> productIds = content.stream()
+			.map(tuple -> tuple.get(like.product.id))
+			.toList();
+		final String nextCursor = hasNext ? createNextCursor(content.get(size - 1), scope) : null;
+		return CursorResponse.of(productUtil.createProductSimpleResponsesByIds(productIds), size, nextCursor);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<LikeStatusResponse> getLikeStatuses(final Set<Long> productIds) {
+		final MemberPrincipal member = memberUtil.getCurrentPrincipal();
+		final Set<Long> likedProductIds = likeUtil.findLikedProductIdsByMemberId(member.id(), productIds);
+		return productIds.stream()
+			.map(productId -> LikeStatusResponse.of(productId, likedProductIds.contains(productId)))
+			.toList();
 	}
 
 	@Override
 	public LikeResponse createLike(final Long productId) {
 		final Product product = findProductById(productId);
-		final Member member = memberUtil.getCurrentMember();
-		if (isLikePresent(product, member)) {
-			return LikeResponse.of(true, product.getLikeCount());
+		final MemberPrincipal member = memberUtil.getCurrentPrincipal();
+		final int insertedCount = likeRepository.insertIfAbsent(product.getId(), member.id(), LocalDateTime.now());
+		if (insertedCount != 1) {
+			return LikeResponse.of(true, likeCountEngine.getLiveLikeCount(product));
 		}
-		Like like = Like.of(product, member);
-		likeRepository.save(like);
-		int likeCount = productService.increaseLikeCount(product);
+		likedProductCache.recordLike(member.id(), product.getId());
+		trendingRanker.recordLike(product);
+		final int likeCount = likeCountEngine.increase(product);
+		likeCountLeaderboards.updateLikeCount(product, likeCount);
 		return LikeResponse.of(true, likeCount);
 	}
 
 	@Override
 	public LikeResponse deleteLike(final Long productId) {
 		final Product product = findProductById(productId);
-		final Member member = memberUtil.getCurrentMember();
-		if (isLikePresent(product, member)) {
-			likeRepository.deleteByProductAndMember(product, member);
-			int likeCount = productService.decreaseLikeCount(product);
+		final MemberPrincipal member = memberUtil.getCurrentPrincipal();
+		final int deletedCount = likeRepository.deleteByProductIdAndMemberId(product.getId(), member.id());
+		if (deletedCount > 0) {
+			likedProductCache.recordUnlike(member.id(), product.getId());
+			trendingRanker.recordUnlike(product);
+			final int likeCount = likeCountEngine.decrease(product);
+			likeCountLeaderboards.updateLikeCount(product, likeCount);
 			return LikeResponse.of(false, likeCount);
 		}
-		return LikeResponse.of(false, product.getLikeCount());
+		return LikeResponse.of(false, likeCountEngine.getLiveLikeCount(product));
+	}
+
+	private BooleanExpression createCursorFilter(final ProductCursor likeCursor) {
+		if (likeCursor == null) {
+			return null;
+		}
+		final QLike like = QLike.like;
+		final LocalDateTime createdAt = likeCursor.createdAtValue();
+		return like.createdAt.lt(createdAt)
+			.or(like.createdAt.eq(createdAt).and(like.product.id.lt(likeCursor.productId())));
+	}
+
+	private String createNextCursor(final Tuple lastLike, final String scope) {
+		final QLike like = QLike.like;
+		return ProductCursor.of(lastLike.get(like.createdAt), lastLike.get(like.product.id), scope).encode();
 	}
 
 	private Product findProductById(final Long productId) {
@@ -75,7 +161,7 @@ public class LikeServiceImpl implements LikeService {
 	}
 
 	@Override
-	public boolean isLikePresent(Product product, Member member) {
-		return likeRepository.existsByProductAndMember(product, member);
+	public boolean isLikePresent(final Product product, final Member member) {
+		return likedProductCache.isLiked(member.getId(), product.getId());
 	}
 }
@@ -0,0 +1,33 @@
+package taco.klkl.domain.member.cache;
+
+import java.util.UUID;
+
+import taco.klkl.domain.image.dto.response.ImageResponse;
+import taco.klkl.domain.member.domain.Member;
+import taco.klkl.domain.member.domain.Role;
+
+/**
+ * 요청 간에 공유하는 현재 회원의 읽기 전용 스냅샷입니다.
+ * 영속성 컨텍스트와 분리된 불변 값이므로 여러 스레드가 함께 읽어도 안전합니다.
+ */
+public record MemberPrincipal(
+	Long id,
+	UUID uuid,
+	String handle,
+	String displayName,
+	String description,
+	ImageResponse profileImage,
+	Role role
+) {
+	public static MemberPrincipal from(final Member member) {
+		return new MemberPrincipal(
+			member.getId(),
+			member.getUuid(),
+			member.getHandle(),
+			member.getDisplayName(),
+			member.getDescription(),
+			ImageResponse.from(member.getProfileImage()),
+			member.getRole()
+		);
+	}
+}
@@ -0,0 +1,116 @@
+package taco.klkl.domain.member.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import taco.klkl.global.common.constants.MemberConstants;
+
+/**
+ * 인증 주체의 UUID 로 현재 회원의 스냅샷을 요청 간에 보관합니다.
+ * 조회 경로는 스냅샷만 읽어 DB 를 거치지 않고, 회원 정보가 바뀌면 커밋 이후에 지웁니다.
+ *
+ * <p>무효화 번호는 증가만 하므로, 조회 전에 읽은 번호가 저장 시점에도 같을 때만 저장해
+ * 조회 도중 커밋된 변경을 낡은 스냅샷으로 덮어쓰지 않습니다.</p>
+ */
+@Component
+public class MemberPrincipalCache {
+
+	private static final String METRIC_NAME = "member.principal.cache";
+	private static final String RESULT_TAG = "result";
+
+	private final Map<UUID, MemberPrincipal> principals = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<UUID, MemberPrincipal> eldest) {
+			return size() > MemberConstants.PRINCIPAL_CACHE_MAX_SIZE;
+		}
+	};
+	private final AtomicLong generation = new AtomicLong();
+
+	private final Counter hitCounter;
+	private final Counter missCounter;
+
+	public MemberPrincipalCache(final MeterRegistry meterRegistry) {
+		this.hitCounter = Counter.builder(METRIC_NAME)
+			.tag(RESULT_TAG, "hit")
+			.register(meterRegistry);
+		this.missCounter = Counter.builder(METRIC_NAME)
+			.tag(RESULT_TAG, "miss")
+			.register(meterRegistry);
+		Gauge.builder(METRIC_NAME + ".size", this, MemberPrincipalCache::size)
+			.register(meterRegistry);
+	}
+
+	public Optional<MemberPrincipal> find(final UUID uuid) {
+		final MemberPrincipal principal;
+		synchronized (principals) {
+			principal = principals.get(uuid);
+		}
+		if (principal == null) {
+			missCounter.increment();
+			return Optional.empty();
+		}
+		hitCounter.increment();
+		return Optional.of(principal);
+	}
+
+	/**
+	 * 스냅샷을 만들기 전에 호출합니다.
+	 */
+	public long currentVersion() {
+		return generation.get();
+	}
+
+	/**
+	 * 쓰기 트랜잭션 안에서 읽은 값은 커밋되지 않았을 수 있으므로 저장하지 않습니다.
+	 */
+	public void put(final MemberPrincipal principal, final long version) {
+		if (TransactionSynchronizationManager.isActualTransactionActive()
+			&& !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			return;
+		}
+		synchronized (principals) {
+			if (version != generation.get()) {
+				return;
+			}
+			principals.put(principal.uuid(), principal);
+		}
+	}
+
+	public void evict(final UUID uuid) {
+		afterCommit(() -> {
+			synchronized (principals) {
+				generation.incrementAndGet();
+				principals.remove(uuid);
+			}
+		});
+	}
+
+	public int size() {
+		synchronized (principals) {
+			return principals.size();
+		}
+	}
+
+	private void afterCommit(final Runnable task) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			task.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				task.run();
+			}
+		});
+	}
+}
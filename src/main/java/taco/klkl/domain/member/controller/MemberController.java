@@ -19,16 +19,22 @@ import org.springframework.web.bind.annotation.RestController;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import taco.klkl.domain.member.domain.Member;
+import taco.klkl.domain.member.cache.MemberPrincipal;
 import taco.klkl.domain.member.dto.request.MemberUpdateRequest;
 import taco.klkl.domain.member.dto.response.FollowResponse;
+import taco.klkl.domain.member.dto.response.FollowStatusResponse;
 import taco.klkl.domain.member.dto.response.MemberDetailResponse;
 import taco.klkl.domain.member.dto.response.MemberSimpleResponse;
 import taco.klkl.domain.member.service.MemberService;
 import taco.klkl.domain.product.dto.response.ProductSimpleResponse;
+import taco.klkl.global.common.constants.DefaultConstants;
 import taco.klkl.global.common.constants.ProductConstants;
+import taco.klkl.global.common.response.CursorResponse;
 import taco.klkl.global.common.response.PagedResponse;
 import taco.klkl.global.util.MemberUtil;
 
@@ -44,8 +50,8 @@ public class MemberController {
 	@GetMapping("/v1/me")
 	@Operation(summary = "내 정보 조회", description = "내 정보를 조회합니다.")
 	public MemberDetailResponse getMe() {
-		final Member me = memberUtil.getCurrentMember();
-		return memberService.getMemberById(me.getId());
+		final MemberPrincipal me = memberUtil.getCurrentPrincipal();
+		return memberService.getMemberById(me.id());
 	}
 
 	@PutMapping("/v1/me")
@@ -59,8 +65,8 @@ public class MemberController {
 	public PagedResponse<ProductSimpleResponse> getMyProducts(
 		@PageableDefault(size = ProductConstants.DEFAULT_PAGE_SIZE) Pageable pageable
 	) {
-		final Member me = memberUtil.getCurrentMember();
-		return memberService.getMemberProductsById(me.getId(), pageable);
+		final MemberPrincipal me = memberUtil.getCurrentPrincipal();
+		return memberService.getMemberProductsById(me.id(), pageable);
 	}
 
 	@GetMapping("/v1/me/following")
@@ -69,6 +75,15 @@ public class MemberController {
 		return memberService.getFollowings();
 	}
 
+	@GetMapping("/v1/me/following/status")
+	@Operation(summary = "여러 회원의 팔로우 여부 일괄 조회", description = "여러 회원을 팔로우했는지 여부를 한 번에 조회합니다.")
+	public List<FollowStatusResponse> getFollowingStatuses(
+		@RequestParam(name = "member_id")
+		@Size(max = DefaultConstants.MAX_STATUS_IDS_SIZE) final Set<Long> memberIds
+	) {
+		return memberService.getFollowingStatuses(memberIds);
+	}
+
 	@GetMapping("/v1/me/following/{memberId}")
 	@Operation(summary = "특정 회원의 팔로우 여부 조회", description = "특정 회원을 팔로우했는지 여부를 조회합니다.")
 	public FollowResponse getFollowingStatus(@PathVariable final Long memberId) {
@@ -97,6 +112,20 @@ public class MemberController {
 		return memberService.getFollowingProducts(pageable, memberIds);
 	}
 
+	@GetMapping("/v1/me/following/products/cursor")
+	@Operation(
+		summary = "내 팔로잉의 상품 목록 커서 기반 조회",
+		description = "내 팔로잉 유저들의 상품 목록을 커서 기반으로 조회합니다. 전체 개수는 조회하지 않습니다."
+	)
+	public CursorResponse<ProductSimpleResponse> getMyFollowingProductsWithCursor(
+		@RequestParam(name = "cursor", required = false) final String cursor,
+		@RequestParam(name = "size", required = false, defaultValue = ProductConstants.DEFAULT_PAGE_SIZE_STRING)
+		@Positive @Max(ProductConstants.MAX_PAGE_SIZE) final int size,
+		@RequestParam(value = "member_id", required = false) final Set<Long> memberIds
+	) {
+		return memberService.getFollowingProductsWithCursor(cursor, size, memberIds);
+	}
+
 	@GetMapping("/v1/members/{memberId}")
 	@Operation(summary = "유저 정보 조회", description = "유저 정보를 조회합니다.")
 	public MemberDetailResponse getMember(@PathVariable final Long memberId) {
@@ -1,8 +1,11 @@
 package taco.klkl.domain.member.dao;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import taco.klkl.domain.member.domain.Follow;
@@ -15,4 +18,11 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
 	boolean existsByFollowerAndFollowing(final Member follower, final Member following);
 
 	void deleteByFollowerAndFollowing(final Member follower, final Member following);
+
+	@Query("select f.following.id from follow f "
+		+ "where f.follower.id = :followerId and f.following.id in :followingIds")
+	List<Long> findFollowingIds(
+		@Param("followerId") final Long followerId,
+		@Param("followingIds") final Collection<Long> followingIds
+	);
 }
@@ -10,11 +10,13 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import taco.klkl.global.common.constants.DefaultConstants;
 
 @Getter
 @Entity(name = "follow")
@@ -27,7 +29,12 @@ import lombok.NoArgsConstructor;
 public class Follow {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.AUTO)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "follow_seq")
+	@SequenceGenerator(
+		name = "follow_seq",
+		sequenceName = "follow_seq",
+		allocationSize = DefaultConstants.SEQUENCE_ALLOCATION_SIZE
+	)
 	@Column(name = "follow_id")
 	private Long id;
 
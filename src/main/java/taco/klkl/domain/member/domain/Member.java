@@ -15,6 +15,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
@@ -22,6 +23,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import taco.klkl.domain.image.domain.Image;
 import taco.klkl.domain.member.domain.profile.ProfileImage;
+import taco.klkl.global.common.constants.DefaultConstants;
 
 @Getter
 @Entity
@@ -29,7 +31,12 @@ import taco.klkl.domain.member.domain.profile.ProfileImage;
 public class Member {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.AUTO)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq")
+	@SequenceGenerator(
+		name = "member_seq",
+		sequenceName = "member_seq",
+		allocationSize = DefaultConstants.SEQUENCE_ALLOCATION_SIZE
+	)
 	private Long id;
 
 	@Column(columnDefinition = "BINARY(16)", unique = true, nullable = false, updatable = false)
@@ -0,0 +1,10 @@
+package taco.klkl.domain.member.dto.response;
+
+public record FollowStatusResponse(
+	Long memberId,
+	boolean isFollowing
+) {
+	public static FollowStatusResponse of(final Long memberId, final boolean isFollowing) {
+		return new FollowStatusResponse(memberId, isFollowing);
+	}
+}
@@ -8,10 +8,12 @@ import org.springframework.data.domain.Pageable;
 import taco.klkl.domain.member.domain.Member;
 import taco.klkl.domain.member.dto.request.MemberUpdateRequest;
 import taco.klkl.domain.member.dto.response.FollowResponse;
+import taco.klkl.domain.member.dto.response.FollowStatusResponse;
 import taco.klkl.domain.member.dto.response.MemberDetailResponse;
 import taco.klkl.domain.member.dto.response.MemberSimpleResponse;
 import taco.klkl.domain.oauth.dto.response.OAuth2UserInfo;
 import taco.klkl.domain.product.dto.response.ProductSimpleResponse;
+import taco.klkl.global.common.response.CursorResponse;
 import taco.klkl.global.common.response.PagedResponse;
 
 public interface MemberService {
@@ -24,8 +26,16 @@ public interface MemberService {
 
 	FollowResponse getFollowingStatus(final Long followingId);
 
+	List<FollowStatusResponse> getFollowingStatuses(final Set<Long> followingIds);
+
 	PagedResponse<ProductSimpleResponse> getFollowingProducts(final Pageable pageable, final Set<Long> memberIds);
 
+	CursorResponse<ProductSimpleResponse> getFollowingProductsWithCursor(
+		final String cursor,
+		final int size,
+		final Set<Long> memberIds
+	);
+
 	FollowResponse createFollow(final Long followingId);
 
 	FollowResponse removeFollow(final Long followingId);
@@ -9,24 +9,33 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import taco.klkl.domain.member.cache.MemberPrincipal;
+import taco.klkl.domain.member.cache.MemberPrincipalCache;
 import taco.klkl.domain.member.dao.FollowRepository;
 import taco.klkl.domain.member.dao.MemberRepository;
 import taco.klkl.domain.member.domain.Follow;
 import taco.klkl.domain.member.domain.Member;
 import taco.klkl.domain.member.dto.request.MemberUpdateRequest;
 import taco.klkl.domain.member.dto.response.FollowResponse;
+import taco.klkl.domain.member.dto.response.FollowStatusResponse;
 import taco.klkl.domain.member.dto.response.MemberDetailResponse;
 import taco.klkl.domain.member.dto.response.MemberSimpleResponse;
 import taco.klkl.domain.member.exception.MemberNotFoundException;
 import taco.klkl.domain.member.exception.SelfFollowNotAllowedException;
 import taco.klkl.domain.oauth.dto.response.OAuth2UserInfo;
+import taco.klkl.domain.product.cache.ProductDetailCache;
 import taco.klkl.domain.product.domain.Product;
 import taco.klkl.domain.product.dto.response.ProductSimpleResponse;
+import taco.klkl.domain.product.service.ProductService;
+import taco.klkl.global.common.concurrent.SingleFlight;
+import taco.klkl.global.common.response.CursorResponse;
 import taco.klkl.global.common.response.PagedResponse;
+import taco.klkl.global.common.transaction.ReadOnlyTransactionExecutor;
 import taco.klkl.global.util.MemberUtil;
 import taco.klkl.global.util.PageUtil;
 import taco.klkl.global.util.ProductUtil;
@@ -38,21 +47,30 @@ import taco.klkl.global.util.ProductUtil;
 @RequiredArgsConstructor
 public class MemberServiceImpl implements MemberService {
 
+	private static final String MEMBER_DETAIL_FLIGHT = "member.detail";
+
 	private final MemberRepository memberRepository;
 	private final FollowRepository followRepository;
 
+	private final ProductService productService;
+	private final ProductDetailCache productDetailCache;
+	private final MemberPrincipalCache memberPrincipalCache;
+
 	private final ProductUtil productUtil;
 	private final MemberUtil memberUtil;
+	private final SingleFlight singleFlight;
+	private final ReadOnlyTransactionExecutor readOnlyTransactionExecutor;
 
 	/**
 	 * 임시 나의 정보 조회
 	 * name 속성이 "testUser"인 유저를 반환합니다.
+	 * 같은 회원을 동시에 조회하면 한 번만 읽어 결과를 나눠 받습니다.
+	 * 기다리는 호출이 커넥션을 잡지 않도록 트랜잭션 밖에서 실행하고, 실제로 읽는 호출만 읽기 전용 트랜잭션을 엽니다.
 	 */
 	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public MemberDetailResponse getMemberById(final Long id) {
-		final Member member = memberRepository.findById(id)
-			.orElseThrow(MemberNotFoundException::new);
-		return MemberDetailResponse.from(member);
+		return singleFlight.execute(MEMBER_DETAIL_FLIGHT, id, () -> loadMemberDetail(id));
 	}
 
 	@Override
@@ -60,13 +78,16 @@ public class MemberServiceImpl implements MemberService {
 		validateUser(id);
 		final Pageable sortedPageable = PageUtil.createPageableSortedByCreatedAtDesc(pageable);
 		final Page<Product> memberProducts = productUtil.findProductsByMemberId(id, sortedPageable);
-		return PagedResponse.of(memberProducts, productUtil::createProductSimpleResponse);
+		return PagedResponse.of(
+			memberProducts,
+			productUtil.createProductSimpleResponseMapper(memberProducts.getContent())
+		);
 	}
 
 	@Override
 	public List<MemberSimpleResponse> getFollowings() {
-		final Member follower = memberUtil.getCurrentMember();
-		return followRepository.findByFollowerId(follower.getId()).stream()
+		final MemberPrincipal follower = memberUtil.getCurrentPrincipal();
+		return followRepository.findByFollowerId(follower.id()).stream()
 			.map(Follow::getFollowing)
 			.map(MemberSimpleResponse::from)
 			.toList();
@@ -78,28 +99,48 @@ public class MemberServiceImpl implements MemberService {
 		final Set<Long> memberIds
 	) {
 		final Pageable sortedPageable = PageUtil.createPageableSortedByCreatedAtDesc(pageable);
-		final Set<Long> followingIds = Optional.ofNullable(memberIds)
-			.filter(ids -> !ids.isEmpty())
-			.orElseGet(() -> getFollowings().stream()
-				.map(MemberSimpleResponse::id)
-				.collect(Collectors.toSet()));
+		final Set<Long> followingIds = resolveFollowingIds(memberIds);
 		final Page<Product> followingProducts = productUtil.findProductsByMemberIdIn(followingIds, sortedPageable);
-		return PagedResponse.of(followingProducts, productUtil::createProductSimpleResponse);
+		return PagedResponse.of(
+			followingProducts,
+			productUtil.createProductSimpleResponseMapper(followingProducts.getContent())
+		);
+	}
+
+	@Override
+	public CursorResponse<ProductSimpleResponse> getFollowingProductsWithCursor(
+		final String cursor,
+		final int size,
+		final Set<Long> memberIds
+	) {
+		final Set<Long> followingIds = resolveFollowingIds(memberIds);
+		return productService.findProductsByMemberIdsWithCursor(followingIds, cursor, size);
 	}
 
 	@Override
 	public FollowResponse getFollowingStatus(final Long followingId) {
-		final Member follower = memberUtil.getCurrentMember();
+		final Member follower = memberUtil.getCurrentMemberReference();
 		final Member following = memberRepository.findById(followingId)
 			.orElseThrow(MemberNotFoundException::new);
 		final boolean isFollowing = followRepository.existsByFollowerAndFollowing(follower, following);
 		return FollowResponse.of(isFollowing, follower, following);
 	}
 
+	@Override
+	public List<FollowStatusResponse> getFollowingStatuses(final Set<Long> followingIds) {
+		final MemberPrincipal follower = memberUtil.getCurrentPrincipal();
+		final Set<Long> followedIds = followingIds.isEmpty()
+			? Set.of()
+			: Set.copyOf(followRepository.findFollowingIds(follower.id(), followingIds));
+		return followingIds.stream()
+			.map(followingId -> FollowStatusResponse.of(followingId, followedIds.contains(followingId)))
+			.toList();
+	}
+
 	@Override
 	@Transactional
 	public FollowResponse createFollow(final Long followingId) {
-		final Member follower = memberUtil.getCurrentMember();
+		final Member follower = memberUtil.getCurrentMemberReference();
 		final Member following = memberRepository.findById(followingId)
 			.orElseThrow(MemberNotFoundException::new);
 		validateNotMe(follower, following);
@@ -114,7 +155,7 @@ public class MemberServiceImpl implements MemberService {
 	@Override
 	@Transactional
 	public FollowResponse removeFollow(final Long followingId) {
-		final Member follower = memberUtil.getCurrentMember();
+		final Member follower = memberUtil.getCurrentMemberReference();
 		final Member following = memberRepository.findById(followingId)
 			.orElseThrow(MemberNotFoundException::new);
 		if (isFollowPresent(follower, following)) {
@@ -128,6 +169,8 @@ public class MemberServiceImpl implements MemberService {
 	public MemberDetailResponse updateMember(final MemberUpdateRequest updateRequest) {
 		Member member = memberUtil.getCurrentMember();
 		updateMemberEntity(member, updateRequest);
+		memberPrincipalCache.evict(member.getUuid());
+		productDetailCache.invalidateByMember(member.getId());
 		return MemberDetailResponse.from(member);
 	}
 
@@ -147,6 +190,14 @@ public class MemberServiceImpl implements MemberService {
 			});
 	}
 
+	private MemberDetailResponse loadMemberDetail(final Long id) {
+		return readOnlyTransactionExecutor.execute(() -> {
+			final Member member = memberRepository.findById(id)
+				.orElseThrow(MemberNotFoundException::new);
+			return MemberDetailResponse.from(member);
+		});
+	}
+
 	private void updateMemberEntity(final Member member, final MemberUpdateRequest updateRequest) {
 		final String name = updateRequest.name();
 		final String description = updateRequest.description();
@@ -154,6 +205,14 @@ public class MemberServiceImpl implements MemberService {
 		member.update(name, description);
 	}
 
+	private Set<Long> resolveFollowingIds(final Set<Long> memberIds) {
+		return Optional.ofNullable(memberIds)
+			.filter(ids -> !ids.isEmpty())
+			.orElseGet(() -> getFollowings().stream()
+				.map(MemberSimpleResponse::id)
+				.collect(Collectors.toSet()));
+	}
+
 	private boolean isFollowPresent(final Member follower, final Member following) {
 		return followRepository.existsByFollowerAndFollowing(follower, following);
 	}
@@ -165,7 +224,7 @@ public class MemberServiceImpl implements MemberService {
 	}
 
 	private void validateNotMe(final Member follower, final Member following) {
-		if (follower.equals(following)) {
+		if (follower.getId().equals(following.getId())) {
 			throw new SelfFollowNotAllowedException();
 		}
 	}
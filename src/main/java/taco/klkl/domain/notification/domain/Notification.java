@@ -16,10 +16,12 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.SequenceGenerator;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import taco.klkl.domain.comment.domain.Comment;
+import taco.klkl.global.common.constants.DefaultConstants;
 import taco.klkl.global.common.constants.NotificationConstants;
 
 @Getter
@@ -30,7 +32,12 @@ public class Notification {
 
 	@Id
 	@Column(name = "notification_id")
-	@GeneratedValue(strategy = GenerationType.AUTO)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_seq")
+	@SequenceGenerator(
+		name = "notification_seq",
+		sequenceName = "notification_seq",
+		allocationSize = DefaultConstants.SEQUENCE_ALLOCATION_SIZE
+	)
 	private long id;
 
 	@Column(name = "is_read")
@@ -11,6 +11,7 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import taco.klkl.domain.comment.domain.Comment;
+import taco.klkl.domain.member.cache.MemberPrincipal;
 import taco.klkl.domain.member.domain.Member;
 import taco.klkl.domain.member.domain.QMember;
 import taco.klkl.domain.notification.dao.NotificationRepository;
@@ -41,12 +42,12 @@ public class NotificationServiceImpl implements NotificationService {
 	public List<NotificationResponse> findAllNotifications() {
 		final QNotification notification = QNotification.notification;
 		final QMember member = QMember.member;
-		final Member receiver = findReceiver();
+		final MemberPrincipal receiver = memberUtil.getCurrentPrincipal();
 
 		final List<Notification> notifications = queryFactory
 			.selectFrom(notification)
 			.join(notification.comment.product.member, member)
-			.where(member.id.eq(receiver.getId()))
+			.where(member.id.eq(receiver.id()))
 			.orderBy(notification.createdAt.desc(),
 				notification.id.desc())
 			.fetch();
@@ -94,12 +95,12 @@ public class NotificationServiceImpl implements NotificationService {
 	}
 
 	private Member findReceiver() {
-		return memberUtil.getCurrentMember();
+		return memberUtil.getCurrentMemberReference();
 	}
 
 	private void validateMyNotification(final Notification notification) {
-		final Member receiver = findReceiver();
-		if (!notification.getComment().getProduct().getMember().equals(receiver)) {
+		final MemberPrincipal receiver = memberUtil.getCurrentPrincipal();
+		if (!notification.getComment().getProduct().getMember().getId().equals(receiver.id())) {
 			throw new NotificationNotFoundException();
 		}
 	}
@@ -0,0 +1,118 @@
+package taco.klkl.domain.product.cache;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import taco.klkl.domain.product.domain.TagMatch;
+import taco.klkl.domain.product.dto.request.ProductFilterOptions;
+import taco.klkl.global.common.constants.ProductConstants;
+
+/**
+ * 필터 조건별 상품 전체 개수를 짧은 시간 동안 보관합니다.
+ * 상품이 등록, 수정, 삭제되면 커밋 이후에 모든 값을 무효화합니다.
+ */
+@Component
+public class ProductCountCache {
+
+	private static final long TTL_NANOS = Duration.ofSeconds(ProductConstants.COUNT_CACHE_TTL_SECONDS).toNanos();
+
+	private final Map<CountKey, CachedCount> counts = new ConcurrentHashMap<>();
+	private final AtomicLong generation = new AtomicLong();
+
+	public OptionalLong find(final ProductFilterOptions filterOptions) {
+		final CountKey key = CountKey.from(filterOptions);
+		final CachedCount cachedCount = counts.get(key);
+		if (cachedCount == null) {
+			return OptionalLong.empty();
+		}
+		if (cachedCount.isExpired(System.nanoTime())) {
+			counts.remove(key, cachedCount);
+			return OptionalLong.empty();
+		}
+		return OptionalLong.of(cachedCount.count());
+	}
+
+	/**
+	 * 개수 조회를 시작하기 전에 호출합니다.
+	 * 조회 도중 무효화가 일어났다면 put에서 해당 값을 저장하지 않습니다.
+	 */
+	public long currentGeneration() {
+		return generation.get();
+	}
+
+	public void put(final ProductFilterOptions filterOptions, final long count, final long queriedGeneration) {
+		if (queriedGeneration != generation.get()) {
+			return;
+		}
+		final long now = System.nanoTime();
+		if (counts.size() >= ProductConstants.COUNT_CACHE_MAX_SIZE) {
+			counts.values().removeIf(cachedCount -> cachedCount.isExpired(now));
+			if (counts.size() >= ProductConstants.COUNT_CACHE_MAX_SIZE) {
+				return;
+			}
+		}
+		counts.put(CountKey.from(filterOptions), new CachedCount(count, now + TTL_NANOS));
+	}
+
+	public void invalidateAll() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					clear();
+				}
+			});
+			return;
+		}
+		clear();
+	}
+
+	private void clear() {
+		generation.incrementAndGet();
+		counts.clear();
+	}
+
+	private record CountKey(
+		List<Long> cityIds,
+		List<Long> subcategoryIds,
+		List<Long> tagIds,
+		TagMatch tagMatch
+	) {
+		private static CountKey from(final ProductFilterOptions filterOptions) {
+			return new CountKey(
+				normalize(filterOptions.cityIds()),
+				normalize(filterOptions.subcategoryIds()),
+				normalize(filterOptions.tagIds()),
+				filterOptions.tagMatch()
+			);
+		}
+
+		private static List<Long> normalize(final Set<Long> ids) {
+			if (ids == null || ids.isEmpty()) {
+				return Collections.emptyList();
+			}
+			return ids.stream()
+				.sorted()
+				.toList();
+		}
+	}
+
+	private record CachedCount(
+		long count,
+		long expiresAtNanos
+	) {
+		private boolean isExpired(final long now) {
+			return now - expiresAtNanos >= 0;
+		}
+	}
+}
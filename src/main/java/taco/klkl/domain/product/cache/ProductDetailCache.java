@@ -0,0 +1,113 @@
+package taco.klkl.domain.product.cache;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import taco.klkl.domain.product.dto.response.ProductDetailResponse;
+import taco.klkl.global.catalog.ReferenceCatalogReloadedEvent;
+import taco.klkl.global.common.constants.ProductConstants;
+
+/**
+ * 조회하는 회원과 무관한 상품 상세 응답을 보관합니다. 좋아요 여부와 좋아요 수는 요청마다 덧씌웁니다.
+ *
+ * <p>상품별 버전은 상품 ID 를 나눈 구간마다 하나씩 두는 쓰기 번호와 전체 무효화 번호의 합입니다.
+ * 두 값 모두 증가만 하므로, 조회 전에 읽은 버전이 저장 시점에도 같을 때만 저장해
+ * 조회 도중 커밋된 변경을 덮어쓰지 않습니다. 무효화는 커밋 이후에 일어납니다.</p>
+ */
+@Component
+public class ProductDetailCache {
+
+	private final Map<Long, ProductDetailResponse> details = new ConcurrentHashMap<>();
+	private final AtomicLongArray writeStamps = new AtomicLongArray(ProductConstants.DETAIL_CACHE_WRITE_STRIPES);
+	private final AtomicLong generation = new AtomicLong();
+
+	public Optional<ProductDetailResponse> find(final Long productId) {
+		return Optional.ofNullable(details.get(productId));
+	}
+
+	/**
+	 * 상세 응답을 만들기 전에 호출합니다.
+	 */
+	public long currentVersion(final Long productId) {
+		return writeStamps.get(stripeOf(productId)) + generation.get();
+	}
+
+	/**
+	 * 쓰기 트랜잭션 안에서 읽은 값은 커밋되지 않았을 수 있으므로 저장하지 않습니다.
+	 */
+	public void put(final Long productId, final ProductDetailResponse detail, final long version) {
+		if (TransactionSynchronizationManager.isActualTransactionActive()
+			&& !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			return;
+		}
+		if (version != currentVersion(productId)) {
+			return;
+		}
+		if (details.size() >= ProductConstants.DETAIL_CACHE_MAX_SIZE && !details.containsKey(productId)) {
+			evictOne();
+		}
+		details.put(productId, detail);
+	}
+
+	public void invalidate(final Long productId) {
+		afterCommit(() -> {
+			writeStamps.incrementAndGet(stripeOf(productId));
+			details.remove(productId);
+		});
+	}
+
+	/**
+	 * 작성자 정보가 바뀌면 그 회원의 상품 상세를 모두 지웁니다.
+	 * 아직 저장되지 않은 상품도 있을 수 있으므로 진행 중인 모든 조회의 저장을 막습니다.
+	 */
+	public void invalidateByMember(final Long memberId) {
+		afterCommit(() -> {
+			generation.incrementAndGet();
+			details.values().removeIf(detail -> detail.member().id().equals(memberId));
+		});
+	}
+
+	@EventListener
+	public void onCatalogReloaded(final ReferenceCatalogReloadedEvent event) {
+		generation.incrementAndGet();
+		details.clear();
+	}
+
+	public int size() {
+		return details.size();
+	}
+
+	private void evictOne() {
+		final Iterator<Long> iterator = details.keySet().iterator();
+		if (iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+		}
+	}
+
+	private int stripeOf(final Long productId) {
+		return Math.floorMod(productId.hashCode(), writeStamps.length());
+	}
+
+	private void afterCommit(final Runnable task) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			task.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				task.run();
+			}
+		});
+	}
+}
@@ -22,15 +22,20 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
+import taco.klkl.domain.product.domain.TagMatch;
 import taco.klkl.domain.product.dto.request.ProductCreateUpdateRequest;
 import taco.klkl.domain.product.dto.request.ProductFilterOptions;
 import taco.klkl.domain.product.dto.request.ProductSortOptions;
 import taco.klkl.domain.product.dto.response.ProductDetailResponse;
+import taco.klkl.domain.product.dto.response.ProductFacetResponse;
 import taco.klkl.domain.product.dto.response.ProductSimpleResponse;
 import taco.klkl.domain.product.service.ProductService;
 import taco.klkl.global.common.constants.ProductConstants;
+import taco.klkl.global.common.response.CursorResponse;
 import taco.klkl.global.common.response.PagedResponse;
 
 @RestController
@@ -48,13 +53,15 @@ public class ProductController {
 		@RequestParam(name = "city_id", required = false) final Set<Long> cityIds,
 		@RequestParam(name = "subcategory_id", required = false) final Set<Long> subcategoryIds,
 		@RequestParam(name = "tag_id", required = false) final Set<Long> tagIds,
+		@RequestParam(name = "tag_match", required = false, defaultValue = "any") final String tagMatch,
 		@RequestParam(name = "sort_by", required = false, defaultValue = "created_at") final String sortBy,
 		@RequestParam(name = "sort_direction", required = false, defaultValue = "DESC") final String sortDirection
 	) {
 		final ProductFilterOptions filterOptions = new ProductFilterOptions(
 			cityIds,
 			subcategoryIds,
-			tagIds
+			tagIds,
+			TagMatch.fromQuery(tagMatch)
 		);
 		final ProductSortOptions sortOptions = new ProductSortOptions(
 			sortBy,
@@ -63,6 +70,60 @@ public class ProductController {
 		return productService.findProductsByFilterOptionsAndSortOptions(pageable, filterOptions, sortOptions);
 	}
 
+	@GetMapping("/cursor")
+	@Operation(
+		summary = "상품 목록 커서 기반 조회",
+		description = "상품 목록을 커서 기반으로 조회합니다. 전체 개수는 조회하지 않습니다."
+	)
+	public CursorResponse<ProductSimpleResponse> getProductsWithCursor(
+		@RequestParam(name = "cursor", required = false) final String cursor,
+		@RequestParam(name = "size", required = false, defaultValue = ProductConstants.DEFAULT_PAGE_SIZE_STRING)
+		@Positive @Max(ProductConstants.MAX_PAGE_SIZE) final int size,
+		@RequestParam(name = "city_id", required = false) final Set<Long> cityIds,
+		@RequestParam(name = "subcategory_id", required = false) final Set<Long> subcategoryIds,
+		@RequestParam(name = "tag_id", required = false) final Set<Long> tagIds,
+		@RequestParam(name = "tag_match", required = false, defaultValue = "any") final String tagMatch,
+		@RequestParam(name = "sort_by", required = false, defaultValue = "created_at") final String sortBy,
+		@RequestParam(name = "sort_direction", required = false, defaultValue = "DESC") final String sortDirection
+	) {
+		final ProductFilterOptions filterOptions = new ProductFilterOptions(
+			cityIds,
+			subcategoryIds,
+			tagIds,
+			TagMatch.fromQuery(tagMatch)
+		);
+		final ProductSortOptions sortOptions = new ProductSortOptions(
+			sortBy,
+			sortDirection
+		);
+		return productService.findProductsByFilterOptionsAndSortOptionsWithCursor(
+			cursor,
+			size,
+			filterOptions,
+			sortOptions
+		);
+	}
+
+	@GetMapping("/facets")
+	@Operation(
+		summary = "상품 필터 패싯 개수 조회",
+		description = "현재 필터 조건에서 도시, 소분류, 태그 값별 상품 수를 조회합니다."
+	)
+	public ProductFacetResponse getProductFacets(
+		@RequestParam(name = "city_id", required = false) final Set<Long> cityIds,
+		@RequestParam(name = "subcategory_id", required = false) final Set<Long> subcategoryIds,
+		@RequestParam(name = "tag_id", required = false) final Set<Long> tagIds,
+		@RequestParam(name = "tag_match", required = false, defaultValue = "any") final String tagMatch
+	) {
+		final ProductFilterOptions filterOptions = new ProductFilterOptions(
+			cityIds,
+			subcategoryIds,
+			tagIds,
+			TagMatch.fromQuery(tagMatch)
+		);
+		return productService.findFacetCounts(filterOptions);
+	}
+
 	@GetMapping("/search")
 	@Operation(summary = "제목으로 상품 목록 조회", description = "제목으로 상품 목록을 조회합니다.")
 	public PagedResponse<ProductSimpleResponse> searchProductsByName(
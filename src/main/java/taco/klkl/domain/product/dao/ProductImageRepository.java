@@ -0,0 +1,16 @@
+package taco.klkl.domain.product.dao;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import taco.klkl.domain.product.domain.ProductImage;
+
+@Repository
+public interface ProductImageRepository extends JpaRepository<ProductImage, Long> {
+	@EntityGraph(attributePaths = {"image"})
+	List<ProductImage> findByProduct_IdIn(final Collection<Long> productIds);
+}
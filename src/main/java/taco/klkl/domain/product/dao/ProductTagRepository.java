@@ -1,7 +1,9 @@
 package taco.klkl.domain.product.dao;
 
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,5 +12,7 @@ import taco.klkl.domain.product.domain.ProductTag;
 @Repository
 public interface ProductTagRepository extends JpaRepository<ProductTag, Long> {
 	List<ProductTag> findByProduct_Id(final Long productId);
-}
 
+	@EntityGraph(attributePaths = {"tag"})
+	List<ProductTag> findByProduct_IdIn(final Collection<Long> productIds);
+}
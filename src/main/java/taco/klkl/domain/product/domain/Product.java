@@ -2,13 +2,18 @@ package taco.klkl.domain.product.domain;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.DynamicInsert;
+import org.hibernate.annotations.DynamicUpdate;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
@@ -18,11 +23,14 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderBy;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -41,12 +49,24 @@ import taco.klkl.global.common.constants.ProductConstants;
 
 @Getter
 @Entity(name = "product")
+@Table(
+	indexes = {
+		@Index(name = "idx_product_city_like_count", columnList = "city_id, like_count"),
+		@Index(name = "idx_product_subcategory_like_count", columnList = "subcategory_id, like_count")
+	}
+)
 @DynamicInsert
+@DynamicUpdate
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Product {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.AUTO)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+	@SequenceGenerator(
+		name = "product_seq",
+		sequenceName = "product_seq",
+		allocationSize = DefaultConstants.SEQUENCE_ALLOCATION_SIZE
+	)
 	@Column(name = "product_id")
 	private Long id;
 
@@ -212,9 +232,21 @@ public class Product {
 		tags.forEach(this::addTag);
 	}
 
+	/**
+	 * 기존 태그와 비교해 빠진 태그만 삭제하고 새로 생긴 태그만 추가합니다.
+	 */
 	public void updateTags(final Set<Tag> updatedTags) {
-		this.productTags.clear();
-		updatedTags.forEach(this::addTag);
+		final Set<Long> updatedTagIds = updatedTags.stream()
+			.map(Tag::getId)
+			.collect(Collectors.toSet());
+		this.productTags.removeIf(productTag -> !updatedTagIds.contains(productTag.getTag().getId()));
+
+		final Set<Long> currentTagIds = this.productTags.stream()
+			.map(productTag -> productTag.getTag().getId())
+			.collect(Collectors.toSet());
+		updatedTags.stream()
+			.filter(tag -> !currentTagIds.contains(tag.getId()))
+			.forEach(this::addTag);
 	}
 
 	public void addTag(final Tag tag) {
@@ -240,13 +272,28 @@ public class Product {
 		return this.likeCount;
 	}
 
+	/**
+	 * 기존 이미지와 비교해 빠진 이미지만 삭제하고 새로 생긴 이미지만 추가합니다.
+	 * 남아 있는 이미지는 순서만 갱신합니다.
+	 */
 	public void updateImages(final List<Image> updateImages) {
-		this.images.clear();
+		final Map<Long, Integer> updatedOrders = new HashMap<>();
 		IntStream.range(0, updateImages.size())
-			.forEach(i -> {
-				final ProductImage productImage = ProductImage.of(this, updateImages.get(i), i);
-				this.images.add(productImage);
-			});
+			.forEach(i -> updatedOrders.putIfAbsent(updateImages.get(i).getId(), i));
+		this.images.removeIf(productImage -> !updatedOrders.containsKey(productImage.getImage().getId()));
+
+		final Set<Long> currentImageIds = new HashSet<>();
+		this.images.forEach(productImage -> {
+			final Long imageId = productImage.getImage().getId();
+			productImage.updateOrder(updatedOrders.get(imageId));
+			currentImageIds.add(imageId);
+		});
+		updatedOrders.forEach((imageId, order) -> {
+			if (!currentImageIds.contains(imageId)) {
+				this.images.add(ProductImage.of(this, updateImages.get(order), order));
+			}
+		});
+		this.images.sort(Comparator.comparing(ProductImage::getOrder));
 	}
 
 	public Image getMainImage() {
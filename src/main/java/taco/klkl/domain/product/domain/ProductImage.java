@@ -8,10 +8,12 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import taco.klkl.domain.image.domain.Image;
+import taco.klkl.global.common.constants.DefaultConstants;
 
 @Getter
 @Entity(name = "product_image")
@@ -20,7 +22,12 @@ public class ProductImage {
 
 	@Id
 	@Column(name = "product_image_id")
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_image_seq")
+	@SequenceGenerator(
+		name = "product_image_seq",
+		sequenceName = "product_image_seq",
+		allocationSize = DefaultConstants.SEQUENCE_ALLOCATION_SIZE
+	)
 	private Long id;
 
 	@ManyToOne(
@@ -56,6 +63,10 @@ public class ProductImage {
 		return new ProductImage(product, image, order);
 	}
 
+	public void updateOrder(final Integer order) {
+		this.order = order;
+	}
+
 	private ProductImage(
 		final Product product,
 		final Image image,
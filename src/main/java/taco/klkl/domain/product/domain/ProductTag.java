@@ -1,7 +1,5 @@
 package taco.klkl.domain.product.domain;
 
-import org.hibernate.annotations.DynamicInsert;
-
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -10,19 +8,25 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import taco.klkl.domain.category.domain.tag.Tag;
+import taco.klkl.global.common.constants.DefaultConstants;
 
 @Getter
 @Entity(name = "product_tag")
-@DynamicInsert
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ProductTag {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.AUTO)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_tag_seq")
+	@SequenceGenerator(
+		name = "product_tag_seq",
+		sequenceName = "product_tag_seq",
+		allocationSize = DefaultConstants.SEQUENCE_ALLOCATION_SIZE
+	)
 	@Column(name = "product_tag_id")
 	private Long id;
 
@@ -12,6 +12,7 @@ public enum SortCriteria {
 	LIKE_COUNT("like_count", "likeCount"),
 	RATING("rating", "rating"),
 	CREATED_AT("created_at", "createdAt"),
+	TRENDING("trending", "trending"),
 	;
 
 	private final String query;
@@ -0,0 +1,27 @@
+package taco.klkl.domain.product.domain;
+
+import java.util.Arrays;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import taco.klkl.domain.product.exception.TagMatchNotFoundException;
+
+/**
+ * 여러 태그로 필터링할 때 태그 중 하나라도 가진 상품(ANY)을 찾을지, 모두 가진 상품(ALL)을 찾을지 나타냅니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TagMatch {
+	ANY("any"),
+	ALL("all"),
+	;
+
+	private final String query;
+
+	public static TagMatch fromQuery(final String query) {
+		return Arrays.stream(TagMatch.values())
+			.filter(tagMatch -> tagMatch.query.equals(query))
+			.findFirst()
+			.orElseThrow(TagMatchNotFoundException::new);
+	}
+}
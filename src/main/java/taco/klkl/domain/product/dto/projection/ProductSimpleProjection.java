@@ -0,0 +1,16 @@
+package taco.klkl.domain.product.dto.projection;
+
+import java.time.LocalDateTime;
+
+import taco.klkl.domain.product.domain.Rating;
+
+public record ProductSimpleProjection(
+	Long id,
+	String name,
+	Integer likeCount,
+	Rating rating,
+	String countryName,
+	String categoryName,
+	LocalDateTime createdAt
+) {
+}
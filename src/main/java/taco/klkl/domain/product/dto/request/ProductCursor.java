@@ -0,0 +1,176 @@
+package taco.klkl.domain.product.dto.request;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+import org.springframework.data.domain.Sort;
+
+import taco.klkl.domain.product.domain.Rating;
+import taco.klkl.domain.product.domain.SortCriteria;
+import taco.klkl.domain.product.dto.projection.ProductSimpleProjection;
+import taco.klkl.domain.product.exception.CursorInvalidException;
+import taco.klkl.domain.product.exception.RatingNotFoundException;
+
+/**
+ * 커서 기반 페이지네이션의 위치를 나타냅니다.
+ * 마지막으로 조회한 상품의 정렬 기준 값과, 값이 같은 경우를 구분하기 위한 상품 ID를 담습니다.
+ * 정렬 방향과 필터 조건의 해시(scope)도 함께 담아, 다른 조건으로 발급된 커서는 거부합니다.
+ */
+public record ProductCursor(
+	SortCriteria sortBy,
+	Sort.Direction direction,
+	String scope,
+	String sortValue,
+	Long productId
+) {
+	private static final String DELIMITER = "|";
+	private static final String DELIMITER_REGEX = "\\|";
+	private static final String SCOPE_DELIMITER = ";";
+	private static final String SCOPE_VALUE_DELIMITER = ",";
+	private static final int TOKEN_COUNT = 5;
+
+	public static ProductCursor of(
+		final SortCriteria sortBy,
+		final Sort.Direction direction,
+		final String scope,
+		final ProductSimpleProjection projection
+	) {
+		final String sortValue = switch (sortBy) {
+			case LIKE_COUNT -> String.valueOf(projection.likeCount());
+			case RATING -> String.valueOf(projection.rating().getValue());
+			case CREATED_AT -> projection.createdAt().toString();
+			case TRENDING -> throw new IllegalArgumentException("인기 급상승 커서는 순위 키로 생성해야 합니다.");
+		};
+		return new ProductCursor(sortBy, direction, scope, sortValue, projection.id());
+	}
+
+	public static ProductCursor of(final LocalDateTime createdAt, final Long productId, final String scope) {
+		return new ProductCursor(SortCriteria.CREATED_AT, Sort.Direction.DESC, scope, createdAt.toString(), productId);
+	}
+
+	public static ProductCursor of(final double trendingRankKey, final Long productId, final String scope) {
+		return new ProductCursor(
+			SortCriteria.TRENDING,
+			Sort.Direction.DESC,
+			scope,
+			String.valueOf(trendingRankKey),
+			productId
+		);
+	}
+
+	/**
+	 * 커서를 발급한 조회 조건을 짧은 해시로 만듭니다.
+	 * 컬렉션은 순서와 상관없이 같은 값이 나오도록 정렬하고, null 은 빈 조건으로 취급합니다.
+	 */
+	public static String scopeOf(final Object... keys) {
+		final String canonical = Arrays.stream(keys)
+			.map(ProductCursor::canonicalize)
+			.collect(Collectors.joining(SCOPE_DELIMITER));
+		final CRC32 crc = new CRC32();
+		crc.update(canonical.getBytes(StandardCharsets.UTF_8));
+		return Long.toHexString(crc.getValue());
+	}
+
+	/**
+	 * 클라이언트가 전달한 커서를 해석합니다.
+	 * 커서가 없으면 첫 페이지를 의미하므로 null을 반환합니다.
+	 * 정렬 기준, 정렬 방향, 조건 해시 중 하나라도 현재 요청과 다르면 거부합니다.
+	 */
+	public static ProductCursor decode(
+		final String cursor,
+		final SortCriteria sortBy,
+		final Sort.Direction direction,
+		final String scope
+	) throws CursorInvalidException {
+		if (cursor == null || cursor.isBlank()) {
+			return null;
+		}
+		try {
+			final String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			final String[] tokens = decoded.split(DELIMITER_REGEX, -1);
+			if (tokens.length != TOKEN_COUNT
+				|| !tokens[0].equals(sortBy.getQuery())
+				|| !tokens[1].equals(encodeDirection(direction))
+				|| !tokens[2].equals(scope)) {
+				throw new CursorInvalidException();
+			}
+			final ProductCursor productCursor = new ProductCursor(
+				sortBy,
+				direction,
+				scope,
+				tokens[3],
+				Long.parseLong(tokens[4])
+			);
+			productCursor.validateSortValue();
+			return productCursor;
+		} catch (IllegalArgumentException | DateTimeParseException | RatingNotFoundException e) {
+			throw new CursorInvalidException();
+		}
+	}
+
+	public String encode() {
+		final String raw = String.join(
+			DELIMITER,
+			sortBy.getQuery(),
+			encodeDirection(direction),
+			scope,
+			sortValue,
+			String.valueOf(productId)
+		);
+		return Base64.getUrlEncoder()
+			.withoutPadding()
+			.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public int likeCountValue() {
+		return Integer.parseInt(sortValue);
+	}
+
+	public Rating ratingValue() {
+		return Rating.from(Double.parseDouble(sortValue));
+	}
+
+	public LocalDateTime createdAtValue() {
+		return LocalDateTime.parse(sortValue);
+	}
+
+	public double trendingRankKeyValue() {
+		final double rankKey = Double.parseDouble(sortValue);
+		if (!Double.isFinite(rankKey)) {
+			throw new CursorInvalidException();
+		}
+		return rankKey;
+	}
+
+	private static String encodeDirection(final Sort.Direction direction) {
+		return direction.name().toLowerCase();
+	}
+
+	private static String canonicalize(final Object key) {
+		if (key == null) {
+			return "";
+		}
+		if (key instanceof Collection<?> values) {
+			return values.stream()
+				.map(String::valueOf)
+				.sorted()
+				.collect(Collectors.joining(SCOPE_VALUE_DELIMITER));
+		}
+		return String.valueOf(key);
+	}
+
+	private void validateSortValue() {
+		switch (sortBy) {
+			case LIKE_COUNT -> likeCountValue();
+			case RATING -> ratingValue();
+			case CREATED_AT -> createdAtValue();
+			case TRENDING -> trendingRankKeyValue();
+		}
+	}
+}
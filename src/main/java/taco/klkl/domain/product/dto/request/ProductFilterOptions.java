@@ -2,9 +2,33 @@ package taco.klkl.domain.product.dto.request;
 
 import java.util.Set;
 
+import taco.klkl.domain.product.domain.TagMatch;
+
 public record ProductFilterOptions(
 	Set<Long> cityIds,
 	Set<Long> subcategoryIds,
-	Set<Long> tagIds
+	Set<Long> tagIds,
+	TagMatch tagMatch
 ) {
+	public ProductFilterOptions {
+		if (tagMatch == null) {
+			tagMatch = TagMatch.ANY;
+		}
+	}
+
+	public ProductFilterOptions(
+		final Set<Long> cityIds,
+		final Set<Long> subcategoryIds,
+		final Set<Long> tagIds
+	) {
+		this(cityIds, subcategoryIds, tagIds, TagMatch.ANY);
+	}
+
+	public boolean hasTagFilter() {
+		return tagIds != null && !tagIds.isEmpty();
+	}
+
+	public String cursorScope() {
+		return ProductCursor.scopeOf(cityIds, subcategoryIds, tagIds, tagMatch);
+	}
 }
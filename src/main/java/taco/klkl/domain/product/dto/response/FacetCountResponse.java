@@ -0,0 +1,10 @@
+package taco.klkl.domain.product.dto.response;
+
+public record FacetCountResponse(
+	Long id,
+	long count
+) {
+	public static FacetCountResponse of(final Long id, final long count) {
+		return new FacetCountResponse(id, count);
+	}
+}
@@ -49,4 +49,27 @@ public record ProductDetailResponse(
 			product.getCreatedAt()
 		);
 	}
+
+	/**
+	 * 조회하는 회원에 따라 달라지는 좋아요 여부와 현재 좋아요 수만 바꾼 응답을 반환합니다.
+	 */
+	public ProductDetailResponse withViewerState(final int likeCount, final boolean isLiked) {
+		return new ProductDetailResponse(
+			id,
+			images,
+			name,
+			description,
+			address,
+			price,
+			likeCount,
+			rating,
+			member,
+			city,
+			subcategory,
+			currency,
+			tags,
+			isLiked,
+			createdAt
+		);
+	}
 }
@@ -0,0 +1,37 @@
+package taco.klkl.domain.product.dto.response;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import taco.klkl.domain.product.facet.FacetCounts;
+
+/**
+ * @param total 현재 필터 조건에 맞는 상품 수
+ * @param cities 도시별 상품 수. 도시 필터를 제외한 나머지 필터를 적용해 센 값입니다.
+ * @param subcategories 소분류별 상품 수. 소분류 필터를 제외한 나머지 필터를 적용해 센 값입니다.
+ * @param tags 태그별 상품 수. 태그 필터를 제외한 나머지 필터를 적용해 센 값입니다.
+ */
+public record ProductFacetResponse(
+	long total,
+	List<FacetCountResponse> cities,
+	List<FacetCountResponse> subcategories,
+	List<FacetCountResponse> tags
+) {
+	public static ProductFacetResponse from(final FacetCounts facetCounts) {
+		return new ProductFacetResponse(
+			facetCounts.total(),
+			toResponses(facetCounts.cityCounts()),
+			toResponses(facetCounts.subcategoryCounts()),
+			toResponses(facetCounts.tagCounts())
+		);
+	}
+
+	private static List<FacetCountResponse> toResponses(final Map<Long, Long> counts) {
+		return counts.entrySet().stream()
+			.sorted(Map.Entry.<Long, Long>comparingByValue(Comparator.reverseOrder())
+				.thenComparing(Map.Entry.comparingByKey()))
+			.map(entry -> FacetCountResponse.of(entry.getKey(), entry.getValue()))
+			.toList();
+	}
+}
@@ -5,6 +5,7 @@ import java.util.Set;
 import taco.klkl.domain.category.dto.response.tag.TagSimpleResponse;
 import taco.klkl.domain.image.dto.response.ImageResponse;
 import taco.klkl.domain.product.domain.Product;
+import taco.klkl.domain.product.dto.projection.ProductSimpleProjection;
 import taco.klkl.global.util.ProductUtil;
 
 public record ProductSimpleResponse(
@@ -31,4 +32,23 @@ public record ProductSimpleResponse(
 			isLiked
 		);
 	}
+
+	public static ProductSimpleResponse of(
+		final ProductSimpleProjection projection,
+		final ImageResponse image,
+		final Set<TagSimpleResponse> tags,
+		final boolean isLiked
+	) {
+		return new ProductSimpleResponse(
+			projection.id(),
+			image,
+			projection.name(),
+			projection.likeCount(),
+			projection.rating().getValue(),
+			projection.countryName(),
+			projection.categoryName(),
+			tags,
+			isLiked
+		);
+	}
 }
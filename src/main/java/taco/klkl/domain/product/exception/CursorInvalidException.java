@@ -0,0 +1,10 @@
+package taco.klkl.domain.product.exception;
+
+import taco.klkl.global.error.exception.CustomException;
+import taco.klkl.global.error.exception.ErrorCode;
+
+public class CursorInvalidException extends CustomException {
+	public CursorInvalidException() {
+		super(ErrorCode.CURSOR_INVALID);
+	}
+}
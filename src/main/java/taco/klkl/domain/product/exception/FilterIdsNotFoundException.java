@@ -0,0 +1,34 @@
+package taco.klkl.domain.product.exception;
+
+import java.util.Set;
+
+import lombok.Getter;
+import taco.klkl.global.error.exception.CustomException;
+import taco.klkl.global.error.exception.ErrorCode;
+
+@Getter
+public class FilterIdsNotFoundException extends CustomException {
+
+	private final Set<Long> cityIds;
+	private final Set<Long> subcategoryIds;
+	private final Set<Long> tagIds;
+
+	public FilterIdsNotFoundException(
+		final Set<Long> cityIds,
+		final Set<Long> subcategoryIds,
+		final Set<Long> tagIds
+	) {
+		super(ErrorCode.FILTER_IDS_NOT_FOUND, createDetail(cityIds, subcategoryIds, tagIds));
+		this.cityIds = cityIds;
+		this.subcategoryIds = subcategoryIds;
+		this.tagIds = tagIds;
+	}
+
+	private static String createDetail(
+		final Set<Long> cityIds,
+		final Set<Long> subcategoryIds,
+		final Set<Long> tagIds
+	) {
+		return "city_id=" + cityIds + ", subcategory_id=" + subcategoryIds + ", tag_id=" + tagIds;
+	}
+}
@@ -0,0 +1,10 @@
+package taco.klkl.domain.product.exception;
+
+import taco.klkl.global.error.exception.CustomException;
+import taco.klkl.global.error.exception.ErrorCode;
+
+public class TagMatchNotFoundException extends CustomException {
+	public TagMatchNotFoundException() {
+		super(ErrorCode.TAG_MATCH_NOT_FOUND);
+	}
+}
@@ -0,0 +1,23 @@
+package taco.klkl.domain.product.facet;
+
+import java.util.Map;
+
+/**
+ * 필터 조건에 맞는 상품 수와 도시, 소분류, 태그 값별 상품 수입니다.
+ * 각 패싯의 개수는 그 패싯을 제외한 나머지 필터만 적용해 센 값입니다.
+ */
+public record FacetCounts(
+	long total,
+	Map<Long, Long> cityCounts,
+	Map<Long, Long> subcategoryCounts,
+	Map<Long, Long> tagCounts
+) {
+	public static FacetCounts of(
+		final long total,
+		final Map<Long, Long> cityCounts,
+		final Map<Long, Long> subcategoryCounts,
+		final Map<Long, Long> tagCounts
+	) {
+		return new FacetCounts(total, cityCounts, subcategoryCounts, tagCounts);
+	}
+}
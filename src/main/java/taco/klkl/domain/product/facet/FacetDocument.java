@@ -0,0 +1,36 @@
+package taco.klkl.domain.product.facet;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import taco.klkl.domain.product.domain.Product;
+
+/**
+ * 패싯 개수를 세는 데 필요한 상품의 도시, 소분류, 태그입니다.
+ */
+public record FacetDocument(
+	Long productId,
+	Long cityId,
+	Long subcategoryId,
+	Set<Long> tagIds
+) {
+	public static FacetDocument of(
+		final Long productId,
+		final Long cityId,
+		final Long subcategoryId,
+		final Set<Long> tagIds
+	) {
+		return new FacetDocument(productId, cityId, subcategoryId, Set.copyOf(tagIds));
+	}
+
+	public static FacetDocument from(final Product product) {
+		return of(
+			product.getId(),
+			product.getCity().getId(),
+			product.getSubcategory().getId(),
+			product.getProductTags().stream()
+				.map(productTag -> productTag.getTag().getId())
+				.collect(Collectors.toSet())
+		);
+	}
+}
@@ -0,0 +1,451 @@
+package taco.klkl.domain.product.facet;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import taco.klkl.domain.product.domain.Product;
+import taco.klkl.domain.product.domain.QProduct;
+import taco.klkl.domain.product.domain.QProductTag;
+import taco.klkl.domain.product.domain.TagMatch;
+import taco.klkl.domain.product.dto.request.ProductFilterOptions;
+import taco.klkl.global.common.collection.LongBitmap;
+
+/**
+ * 도시, 소분류, 태그별로 해당 상품 ID 를 {@link LongBitmap} 으로 담은 역색인입니다.
+ *
+ * <p>필터 조건의 후보 상품은 같은 패싯 안에서는 합집합(태그는 ALL 이면 교집합)으로,
+ * 패싯 사이에서는 교집합으로 구하고, 패싯 개수는 각 값의 비트맵과 나머지 조건의 교집합 크기로 셉니다.
+ * 애플리케이션이 뜰 때 한 번 적재하고, 이후에는 상품 등록, 수정, 삭제 시 해당 상품만 바꿉니다.</p>
+ *
+ * <p>변경은 트랜잭션이 커밋된 뒤에 반영하므로 다른 요청은 커밋되지 않은 상품을 보지 않습니다.
+ * 같은 트랜잭션 안의 조회는 인덱스 위에 그 트랜잭션의 변경을 덧씌워 방금 등록한 상품도 찾습니다.
+ * 적재와 변경은 같은 쓰기 잠금 안에서 일어납니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductFacetIndex {
+
+	private static final LongBitmap EMPTY_POSTING = LongBitmap.empty();
+
+	private final JPAQueryFactory queryFactory;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Map<Long, FacetDocument> documents = new HashMap<>();
+	private LongBitmap allProducts = LongBitmap.empty();
+	private final Map<Long, LongBitmap> cityPostings = new HashMap<>();
+	private final Map<Long, LongBitmap> subcategoryPostings = new HashMap<>();
+	private final Map<Long, LongBitmap> tagPostings = new HashMap<>();
+	private volatile boolean loaded;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void initialize() {
+		ensureLoaded();
+		log.info("Product facet index loaded: {} products", size());
+	}
+
+	/**
+	 * 도시와 소분류 필터는 값 중 하나라도 일치하면 통과하고, 태그 필터는 {@link TagMatch} 를 따릅니다.
+	 * 태그가 ALL 이면 태그별 개수도 선택한 태그를 모두 가진 상품 안에서 셉니다.
+	 */
+	public FacetCounts count(final ProductFilterOptions filterOptions) {
+		ensureLoaded();
+		final Map<Long, FacetDocument> changes = findTransactionChanges();
+		lock.readLock().lock();
+		try {
+			final LongBitmap cityMatches = select(cityPostings, filterOptions.cityIds(), TagMatch.ANY);
+			final LongBitmap subcategoryMatches =
+				select(subcategoryPostings, filterOptions.subcategoryIds(), TagMatch.ANY);
+			final LongBitmap tagMatches = select(tagPostings, filterOptions.tagIds(), filterOptions.tagMatch());
+
+			final LongBitmap cityBase = subcategoryMatches.and(tagMatches);
+			final LongBitmap subcategoryBase = cityMatches.and(tagMatches);
+			final LongBitmap tagBase = filterOptions.tagMatch() == TagMatch.ALL
+				? subcategoryBase.and(subcategoryMatches)
+				: cityMatches.and(subcategoryMatches);
+			final CountBuilder counts = new CountBuilder(
+				filterOptions,
+				cityBase.andCardinality(cityMatches),
+				countByValue(cityPostings, cityBase),
+				countByValue(subcategoryPostings, subcategoryBase),
+				countByValue(tagPostings, tagBase)
+			);
+			changes.forEach((productId, document) -> {
+				final FacetDocument indexed = documents.get(productId);
+				if (indexed != null) {
+					counts.add(indexed, -1L);
+				}
+				if (document != null) {
+					counts.add(document, 1L);
+				}
+			});
+			return counts.build();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 필터 조건에 맞는 상품 ID 를 오름차순으로 반환합니다. limit 개를 넘으면 비어 있는 값을 반환합니다.
+	 */
+	public Optional<List<Long>> findProductIds(final ProductFilterOptions filterOptions, final int limit) {
+		ensureLoaded();
+		final Map<Long, FacetDocument> changes = findTransactionChanges();
+		lock.readLock().lock();
+		try {
+			final LongBitmap matches = findMatches(filterOptions);
+			if (matches.cardinality() > (long)limit + changes.size()) {
+				return Optional.empty();
+			}
+			final List<Long> productIds = new ArrayList<>();
+			matches.forEach(productId -> {
+				if (!changes.containsKey(productId)) {
+					productIds.add(productId);
+				}
+			});
+			changes.values().stream()
+				.filter(document -> document != null && isMatching(document, filterOptions))
+				.forEach(document -> productIds.add(document.productId()));
+			if (productIds.size() > limit) {
+				return Optional.empty();
+			}
+			productIds.sort(null);
+			return Optional.of(productIds);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 주어진 상품 중 필터 조건에 맞는 상품의 ID 를 반환합니다.
+	 */
+	public Set<Long> findMatchingProductIds(
+		final Collection<Long> productIds,
+		final ProductFilterOptions filterOptions
+	) {
+		ensureLoaded();
+		final Map<Long, FacetDocument> changes = findTransactionChanges();
+		lock.readLock().lock();
+		try {
+			final LongBitmap matches = findMatches(filterOptions);
+			final Set<Long> matchingIds = new HashSet<>();
+			for (final Long productId : productIds) {
+				final boolean matching = changes.containsKey(productId)
+					? changes.get(productId) != null && isMatching(changes.get(productId), filterOptions)
+					: matches.contains(productId);
+				if (matching) {
+					matchingIds.add(productId);
+				}
+			}
+			return matchingIds;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 태그를 붙이거나 바꾼 뒤에 호출해 상품의 현재 도시, 소분류, 태그를 반영합니다.
+	 */
+	public void put(final Product product) {
+		final FacetDocument document = FacetDocument.from(product);
+		stage(document.productId(), document);
+	}
+
+	public void remove(final Long productId) {
+		stage(productId, null);
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return documents.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	void load(final Collection<FacetDocument> loadedDocuments) {
+		write(() -> {
+			documents.clear();
+			cityPostings.clear();
+			subcategoryPostings.clear();
+			tagPostings.clear();
+			allProducts = LongBitmap.empty();
+			loadedDocuments.forEach(document -> replace(document.productId(), document));
+			loaded = true;
+		});
+	}
+
+	private void ensureLoaded() {
+		if (loaded) {
+			return;
+		}
+		lock.writeLock().lock();
+		try {
+			if (!loaded) {
+				load(findDocuments());
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private LongBitmap findMatches(final ProductFilterOptions filterOptions) {
+		return select(cityPostings, filterOptions.cityIds(), TagMatch.ANY)
+			.and(select(subcategoryPostings, filterOptions.subcategoryIds(), TagMatch.ANY))
+			.and(select(tagPostings, filterOptions.tagIds(), filterOptions.tagMatch()));
+	}
+
+	/**
+	 * 값이 주어지지 않으면 모든 상품을, ANY 이면 값들의 합집합을, ALL 이면 교집합을 반환합니다.
+	 * 값이 하나이면 인덱스의 비트맵을 그대로 돌려주므로 호출하는 쪽은 결과를 바꾸지 않아야 합니다.
+	 */
+	private LongBitmap select(final Map<Long, LongBitmap> postings, final Set<Long> ids, final TagMatch match) {
+		if (ids == null || ids.isEmpty()) {
+			return allProducts;
+		}
+		LongBitmap result = null;
+		for (final Long id : ids) {
+			final LongBitmap posting = postings.getOrDefault(id, EMPTY_POSTING);
+			if (result == null) {
+				result = posting;
+			} else if (match == TagMatch.ALL) {
+				result = result.and(posting);
+			} else {
+				result = result.or(posting);
+			}
+		}
+		return result;
+	}
+
+	private static Map<Long, Long> countByValue(final Map<Long, LongBitmap> postings, final LongBitmap base) {
+		final Map<Long, Long> counts = new HashMap<>();
+		postings.forEach((id, posting) -> {
+			final long count = posting.andCardinality(base);
+			if (count > 0) {
+				counts.put(id, count);
+			}
+		});
+		return counts;
+	}
+
+	private static boolean isMatching(final FacetDocument document, final ProductFilterOptions filterOptions) {
+		return matchesAny(filterOptions.cityIds(), document.cityId())
+			&& matchesAny(filterOptions.subcategoryIds(), document.subcategoryId())
+			&& matchesTags(document, filterOptions);
+	}
+
+	private static boolean matchesAny(final Set<Long> ids, final Long value) {
+		return ids == null || ids.isEmpty() || ids.contains(value);
+	}
+
+	private static boolean matchesTags(final FacetDocument document, final ProductFilterOptions filterOptions) {
+		final Set<Long> tagIds = filterOptions.tagIds();
+		if (tagIds == null || tagIds.isEmpty()) {
+			return true;
+		}
+		return filterOptions.tagMatch() == TagMatch.ALL
+			? document.tagIds().containsAll(tagIds)
+			: tagIds.stream().anyMatch(document.tagIds()::contains);
+	}
+
+	private void replace(final Long productId, final FacetDocument document) {
+		final FacetDocument previous = document == null
+			? documents.remove(productId)
+			: documents.put(productId, document);
+		if (previous != null) {
+			removePostings(previous);
+		}
+		if (document != null) {
+			addPostings(document);
+		}
+	}
+
+	private void addPostings(final FacetDocument document) {
+		final long productId = document.productId();
+		allProducts.add(productId);
+		cityPostings.computeIfAbsent(document.cityId(), id -> LongBitmap.empty()).add(productId);
+		subcategoryPostings.computeIfAbsent(document.subcategoryId(), id -> LongBitmap.empty()).add(productId);
+		document.tagIds()
+			.forEach(tagId -> tagPostings.computeIfAbsent(tagId, id -> LongBitmap.empty()).add(productId));
+	}
+
+	private void removePostings(final FacetDocument document) {
+		final long productId = document.productId();
+		allProducts.remove(productId);
+		removePosting(cityPostings, document.cityId(), productId);
+		removePosting(subcategoryPostings, document.subcategoryId(), productId);
+		document.tagIds().forEach(tagId -> removePosting(tagPostings, tagId, productId));
+	}
+
+	private static void removePosting(final Map<Long, LongBitmap> postings, final Long id, final long productId) {
+		final LongBitmap posting = postings.get(id);
+		if (posting == null) {
+			return;
+		}
+		posting.remove(productId);
+		if (posting.isEmpty()) {
+			postings.remove(id);
+		}
+	}
+
+	private List<FacetDocument> findDocuments() {
+		final QProduct product = QProduct.product;
+		final QProductTag productTag = QProductTag.productTag;
+		final Map<Long, Set<Long>> tagIdsByProductId = new HashMap<>();
+		queryFactory
+			.select(productTag.product.id, productTag.tag.id)
+			.from(productTag)
+			.fetch()
+			.forEach(tuple -> tagIdsByProductId
+				.computeIfAbsent(tuple.get(productTag.product.id), id -> new HashSet<>())
+				.add(tuple.get(productTag.tag.id)));
+		return queryFactory
+			.select(product.id, product.city.id, product.subcategory.id)
+			.from(product)
+			.fetch().stream()
+			.map(tuple -> toDocument(tuple, product, tagIdsByProductId))
+			.toList();
+	}
+
+	private FacetDocument toDocument(
+		final Tuple tuple,
+		final QProduct product,
+		final Map<Long, Set<Long>> tagIdsByProductId
+	) {
+		final Long productId = tuple.get(product.id);
+		return FacetDocument.of(
+			productId,
+			tuple.get(product.city.id),
+			tuple.get(product.subcategory.id),
+			tagIdsByProductId.getOrDefault(productId, Set.of())
+		);
+	}
+
+	private void write(final Runnable task) {
+		lock.writeLock().lock();
+		try {
+			task.run();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 트랜잭션 밖이면 바로 반영하고, 안이면 트랜잭션별 변경으로 모아 두었다가 커밋된 뒤에 반영합니다.
+	 */
+	private void stage(final Long productId, final FacetDocument document) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			write(() -> replace(productId, document));
+			return;
+		}
+		getTransactionChanges().put(productId, document);
+	}
+
+	/**
+	 * 현재 트랜잭션에서 바뀐 상품입니다. 값이 null 이면 삭제된 상품입니다.
+	 */
+	@SuppressWarnings("unchecked")
+	private Map<Long, FacetDocument> findTransactionChanges() {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return Map.of();
+		}
+		final Map<Long, FacetDocument> transactionChanges =
+			(Map<Long, FacetDocument>)TransactionSynchronizationManager.getResource(this);
+		return transactionChanges == null ? Map.of() : transactionChanges;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<Long, FacetDocument> getTransactionChanges() {
+		final Map<Long, FacetDocument> existingChanges =
+			(Map<Long, FacetDocument>)TransactionSynchronizationManager.getResource(this);
+		if (existingChanges != null) {
+			return existingChanges;
+		}
+		final Map<Long, FacetDocument> transactionChanges = new HashMap<>();
+		TransactionSynchronizationManager.bindResource(this, transactionChanges);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(final int status) {
+				TransactionSynchronizationManager.unbindResourceIfPossible(ProductFacetIndex.this);
+				if (status == STATUS_COMMITTED) {
+					write(() -> transactionChanges.forEach(ProductFacetIndex.this::replace));
+				}
+			}
+		});
+		return transactionChanges;
+	}
+
+	/**
+	 * 인덱스에 반영된 개수에 트랜잭션에서 바뀐 상품을 문서 단위로 빼고 더합니다.
+	 */
+	private static final class CountBuilder {
+
+		private final ProductFilterOptions filterOptions;
+		private long total;
+		private final Map<Long, Long> cityCounts;
+		private final Map<Long, Long> subcategoryCounts;
+		private final Map<Long, Long> tagCounts;
+
+		private CountBuilder(
+			final ProductFilterOptions filterOptions,
+			final long total,
+			final Map<Long, Long> cityCounts,
+			final Map<Long, Long> subcategoryCounts,
+			final Map<Long, Long> tagCounts
+		) {
+			this.filterOptions = filterOptions;
+			this.total = total;
+			this.cityCounts = cityCounts;
+			this.subcategoryCounts = subcategoryCounts;
+			this.tagCounts = tagCounts;
+		}
+
+		private void add(final FacetDocument document, final long delta) {
+			final boolean inCity = matchesAny(filterOptions.cityIds(), document.cityId());
+			final boolean inSubcategory = matchesAny(filterOptions.subcategoryIds(), document.subcategoryId());
+			final boolean inTags = matchesTags(document, filterOptions);
+			if (inCity && inSubcategory && inTags) {
+				total += delta;
+			}
+			if (inSubcategory && inTags) {
+				cityCounts.merge(document.cityId(), delta, Long::sum);
+			}
+			if (inCity && inTags) {
+				subcategoryCounts.merge(document.subcategoryId(), delta, Long::sum);
+			}
+			final boolean inTagBase = filterOptions.tagMatch() == TagMatch.ALL
+				? inCity && inSubcategory && inTags
+				: inCity && inSubcategory;
+			if (inTagBase) {
+				document.tagIds().forEach(tagId -> tagCounts.merge(tagId, delta, Long::sum));
+			}
+		}
+
+		private FacetCounts build() {
+			cityCounts.values().removeIf(count -> count <= 0);
+			subcategoryCounts.values().removeIf(count -> count <= 0);
+			tagCounts.values().removeIf(count -> count <= 0);
+			return FacetCounts.of(total, cityCounts, subcategoryCounts, tagCounts);
+		}
+	}
+}
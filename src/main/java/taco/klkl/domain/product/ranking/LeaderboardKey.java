@@ -0,0 +1,53 @@
+package taco.klkl.domain.product.ranking;
+
+import java.util.List;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+
+import taco.klkl.domain.product.domain.Product;
+import taco.klkl.domain.product.domain.QProduct;
+
+/**
+ * 좋아요 순위표를 구분하는 기준(도시, 국가, 소분류)과 그 ID 입니다.
+ */
+public record LeaderboardKey(
+	Facet facet,
+	Long id
+) {
+	public enum Facet {
+		CITY,
+		COUNTRY,
+		SUBCATEGORY,
+	}
+
+	public static LeaderboardKey city(final Long cityId) {
+		return new LeaderboardKey(Facet.CITY, cityId);
+	}
+
+	public static LeaderboardKey country(final Long countryId) {
+		return new LeaderboardKey(Facet.COUNTRY, countryId);
+	}
+
+	public static LeaderboardKey subcategory(final Long subcategoryId) {
+		return new LeaderboardKey(Facet.SUBCATEGORY, subcategoryId);
+	}
+
+	/**
+	 * 상품이 속한 모든 순위표의 키를 반환합니다.
+	 */
+	public static List<LeaderboardKey> of(final Product product) {
+		return List.of(
+			city(product.getCity().getId()),
+			country(product.getCity().getCountry().getId()),
+			subcategory(product.getSubcategory().getId())
+		);
+	}
+
+	public BooleanExpression toPredicate(final QProduct product) {
+		return switch (facet) {
+			case CITY -> product.city.id.eq(id);
+			case COUNTRY -> product.city.country.id.eq(id);
+			case SUBCATEGORY -> product.subcategory.id.eq(id);
+		};
+	}
+}
@@ -0,0 +1,17 @@
+package taco.klkl.domain.product.ranking;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * 순위표에서 꺼낸 한 페이지입니다.
+ * 순위표가 범위 안의 모든 상품을 담고 있으면 total 에 전체 상품 수가 들어 있어 개수를 따로 셀 필요가 없습니다.
+ */
+public record LeaderboardPage(
+	List<Long> productIds,
+	OptionalLong total
+) {
+	public static LeaderboardPage of(final List<Long> productIds, final OptionalLong total) {
+		return new LeaderboardPage(productIds, total);
+	}
+}
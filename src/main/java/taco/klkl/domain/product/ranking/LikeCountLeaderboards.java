@@ -0,0 +1,239 @@
+package taco.klkl.domain.product.ranking;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import taco.klkl.domain.like.counter.LikeCountEngine;
+import taco.klkl.domain.product.domain.Product;
+import taco.klkl.domain.product.domain.QProduct;
+import taco.klkl.global.common.constants.ProductConstants;
+
+/**
+ * 도시, 국가, 소분류별로 좋아요 수 상위 상품을 유지하는 순위표입니다.
+ *
+ * <p>순위표는 처음 조회될 때 상위 {@link ProductConstants#LEADERBOARD_SIZE} 개를 읽어 아직 반영되지 않은 좋아요까지 더한 값으로 채우고,
+ * 이후 좋아요/좋아요 취소와 상품 등록/삭제가 커밋될 때마다 갱신됩니다.
+ * 순위표 밖 상품의 좋아요 수 상한(floor)을 함께 기록해 두어, 그보다 좋아요가 많은 앞쪽 항목만
+ * 정확한 순위로 보고 응답에 사용합니다. 그 뒤의 페이지는 SQL 로 조회해야 합니다.</p>
+ *
+ * <p>좋아요 수는 변경이 계산한 값이 아니라 커밋이 끝난 시점의 {@link LikeCountEngine} 값으로 갱신하므로,
+ * 커밋 순서가 계산 순서와 달라도 마지막 값이 남습니다.
+ * 적재는 호출한 쪽의 스냅샷이 아닌 새 읽기 전용 트랜잭션에서 하고, 적재 도중 같은 순위표에 변경이 커밋되었다면 올리지 않습니다.</p>
+ */
+@Component
+public class LikeCountLeaderboards {
+
+	private final JPAQueryFactory queryFactory;
+	private final LikeCountEngine likeCountEngine;
+	private final TransactionTemplate loadTransactionTemplate;
+
+	private final Map<LeaderboardKey, Leaderboard> leaderboards = new ConcurrentHashMap<>();
+	private final Map<LeaderboardKey, Long> versions = new ConcurrentHashMap<>();
+	private final AtomicLong generation = new AtomicLong();
+
+	public LikeCountLeaderboards(
+		final JPAQueryFactory queryFactory,
+		final LikeCountEngine likeCountEngine,
+		final PlatformTransactionManager transactionManager
+	) {
+		this.queryFactory = queryFactory;
+		this.likeCountEngine = likeCountEngine;
+		this.loadTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.loadTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.loadTransactionTemplate.setReadOnly(true);
+	}
+
+	/**
+	 * 순위표만으로 정확히 답할 수 있는 페이지라면 상품 ID 를 순서대로 반환합니다.
+	 */
+	public Optional<LeaderboardPage> findPage(final LeaderboardKey key, final long offset, final int size) {
+		return getOrLoad(key).findPage(offset, size);
+	}
+
+	/**
+	 * likeCount 는 엔진에 카운터가 없을 때만 쓰는 기준값입니다.
+	 */
+	public void updateLikeCount(final Product product, final int likeCount) {
+		final Long productId = product.getId();
+		final List<LeaderboardKey> keys = LeaderboardKey.of(product);
+		afterCommit(() -> keys.forEach(key -> applyChange(key, board ->
+			board.update(productId, likeCountEngine.findLiveLikeCount(productId, likeCount)))));
+	}
+
+	public void addProduct(final Product product) {
+		updateLikeCount(product, ProductConstants.DEFAULT_LIKE_COUNT);
+	}
+
+	public void removeProduct(final Product product) {
+		final Long productId = product.getId();
+		final List<LeaderboardKey> keys = LeaderboardKey.of(product);
+		afterCommit(() -> keys.forEach(key -> applyChange(key, board -> board.remove(productId))));
+	}
+
+	/**
+	 * 상품의 도시나 소분류가 바뀌는 경우처럼 어느 순위표가 영향을 받는지 알 수 없을 때 모두 비웁니다.
+	 */
+	public void invalidateAll() {
+		afterCommit(() -> {
+			generation.incrementAndGet();
+			leaderboards.clear();
+		});
+	}
+
+	/**
+	 * 버전을 올리고 순위표를 바꾸는 일은 적재한 순위표를 올리는 일과 같은 키 잠금 안에서 일어납니다.
+	 */
+	private void applyChange(final LeaderboardKey key, final Consumer<Leaderboard> change) {
+		leaderboards.compute(key, (k, board) -> {
+			versions.merge(k, 1L, Long::sum);
+			if (board != null) {
+				change.accept(board);
+			}
+			return board;
+		});
+	}
+
+	private Leaderboard getOrLoad(final LeaderboardKey key) {
+		final Leaderboard loaded = leaderboards.get(key);
+		if (loaded != null) {
+			return loaded;
+		}
+		final long queriedGeneration = generation.get();
+		final long queriedVersion = versions.getOrDefault(key, 0L);
+		final Leaderboard leaderboard = loadTransactionTemplate.execute(status -> load(key));
+		final Leaderboard installed = leaderboards.compute(key, (k, existing) -> {
+			if (existing != null) {
+				return existing;
+			}
+			final boolean isUnchanged = queriedGeneration == generation.get()
+				&& queriedVersion == versions.getOrDefault(k, 0L);
+			return isUnchanged ? leaderboard : null;
+		});
+		return installed != null ? installed : leaderboard;
+	}
+
+	private Leaderboard load(final LeaderboardKey key) {
+		final QProduct product = QProduct.product;
+		final List<Tuple> rows = queryFactory
+			.select(product.id, product.likeCount)
+			.from(product)
+			.where(key.toPredicate(product))
+			.orderBy(product.likeCount.desc(), product.id.desc())
+			.limit(ProductConstants.LEADERBOARD_SIZE + 1L)
+			.fetch();
+
+		final Leaderboard leaderboard = new Leaderboard();
+		rows.forEach(row -> {
+			final Long productId = row.get(product.id);
+			leaderboard.update(productId, likeCountEngine.findLiveLikeCount(productId, row.get(product.likeCount)));
+		});
+		return leaderboard;
+	}
+
+	/**
+	 * {@link LikeCountEngine} 은 커밋된 변화를 afterCompletion 에서 반영하므로,
+	 * 그보다 뒤에 등록된 이 작업도 afterCompletion 에서 실행해 엔진이 반영한 값을 읽습니다.
+	 */
+	private void afterCommit(final Runnable task) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			task.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(final int status) {
+				if (status == STATUS_COMMITTED) {
+					task.run();
+				}
+			}
+		});
+	}
+
+	static final class Leaderboard {
+
+		private static final int COMPLETE = -1;
+
+		private final NavigableSet<Ranked> ranking = new TreeSet<>(
+			Comparator.comparingInt(Ranked::likeCount).reversed()
+				.thenComparing(Ranked::productId, Comparator.reverseOrder())
+		);
+		private final Map<Long, Ranked> rankedByProductId = new HashMap<>();
+
+		/**
+		 * 순위표에 없는 상품의 좋아요 수 상한입니다. 순위표가 해당 범위의 모든 상품을 담고 있으면 COMPLETE 입니다.
+		 */
+		private int floor = COMPLETE;
+
+		synchronized Optional<LeaderboardPage> findPage(final long offset, final int size) {
+			final List<Long> exactProductIds = ranking.stream()
+				.takeWhile(ranked -> floor == COMPLETE || ranked.likeCount() > floor)
+				.map(Ranked::productId)
+				.toList();
+			final boolean isComplete = floor == COMPLETE;
+			if (!isComplete && offset + size > exactProductIds.size()) {
+				return Optional.empty();
+			}
+			final int from = (int)Math.min(offset, exactProductIds.size());
+			final int to = Math.min(from + size, exactProductIds.size());
+			final OptionalLong total = isComplete ? OptionalLong.of(exactProductIds.size()) : OptionalLong.empty();
+			return Optional.of(LeaderboardPage.of(exactProductIds.subList(from, to), total));
+		}
+
+		synchronized void update(final Long productId, final int likeCount) {
+			final Ranked current = rankedByProductId.get(productId);
+			if (current == null && ranking.size() >= ProductConstants.LEADERBOARD_SIZE
+				&& likeCount <= ranking.last().likeCount()) {
+				floor = Math.max(floor, likeCount);
+				return;
+			}
+			put(productId, likeCount);
+			if (ranking.size() > ProductConstants.LEADERBOARD_SIZE) {
+				final Ranked lowest = ranking.pollLast();
+				rankedByProductId.remove(lowest.productId());
+				floor = Math.max(floor, lowest.likeCount());
+			}
+		}
+
+		synchronized void remove(final Long productId) {
+			final Ranked current = rankedByProductId.remove(productId);
+			if (current != null) {
+				ranking.remove(current);
+			}
+		}
+
+		private void put(final Long productId, final int likeCount) {
+			final Ranked current = rankedByProductId.remove(productId);
+			if (current != null) {
+				ranking.remove(current);
+			}
+			final Ranked updated = new Ranked(productId, likeCount);
+			rankedByProductId.put(productId, updated);
+			ranking.add(updated);
+		}
+	}
+
+	private record Ranked(
+		Long productId,
+		int likeCount
+	) {
+	}
+}
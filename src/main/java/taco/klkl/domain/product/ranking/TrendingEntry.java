@@ -0,0 +1,21 @@
+package taco.klkl.domain.product.ranking;
+
+/**
+ * 인기 급상승 순위에 올라 있는 상품입니다.
+ * rankKey 는 감쇠 기준 시각으로 환산한 점수의 로그 값이라 시간이 흘러도 순서가 바뀌지 않습니다.
+ */
+public record TrendingEntry(
+	Long productId,
+	Long cityId,
+	Long subcategoryId,
+	double rankKey
+) {
+	public static TrendingEntry of(
+		final Long productId,
+		final Long cityId,
+		final Long subcategoryId,
+		final double rankKey
+	) {
+		return new TrendingEntry(productId, cityId, subcategoryId, rankKey);
+	}
+}
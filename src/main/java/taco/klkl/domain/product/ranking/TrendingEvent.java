@@ -0,0 +1,43 @@
+package taco.klkl.domain.product.ranking;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import taco.klkl.domain.product.domain.Product;
+
+/**
+ * 인기 급상승 점수에 반영되는 좋아요, 댓글 등의 사건입니다. weight 가 음수이면 점수를 되돌립니다.
+ */
+public record TrendingEvent(
+	Long productId,
+	Long cityId,
+	Long subcategoryId,
+	double weight,
+	long occurredAtMillis
+) {
+	public static TrendingEvent of(final Product product, final double weight) {
+		return new TrendingEvent(
+			product.getId(),
+			product.getCity().getId(),
+			product.getSubcategory().getId(),
+			weight,
+			System.currentTimeMillis()
+		);
+	}
+
+	public static TrendingEvent of(
+		final Long productId,
+		final Long cityId,
+		final Long subcategoryId,
+		final double weight,
+		final LocalDateTime occurredAt
+	) {
+		return new TrendingEvent(
+			productId,
+			cityId,
+			subcategoryId,
+			weight,
+			occurredAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+		);
+	}
+}
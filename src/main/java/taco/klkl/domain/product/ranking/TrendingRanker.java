@@ -0,0 +1,189 @@
+package taco.klkl.domain.product.ranking;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.UnaryOperator;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import taco.klkl.domain.product.domain.Product;
+import taco.klkl.global.common.constants.ProductConstants;
+
+/**
+ * 좋아요와 댓글로 점수를 쌓고, 시간이 지날수록 지수적으로 감쇠하는 인기 급상승 상품 순위입니다.
+ *
+ * <p>점수 w·e^(-λ(now - t)) 를 매번 다시 계산하지 않도록, 모든 사건을 고정된 기준 시각으로 환산한
+ * ln(Σ w·e^(λt)) 를 정렬 키로 씁니다. 시간이 흘러도 모든 상품의 점수가 같은 비율로 줄어들 뿐이므로
+ * 사건이 들어온 상품의 키만 갱신하면 순서가 유지됩니다.
+ * 순위에는 상위 {@link ProductConstants#TRENDING_MAX_SIZE} 개 상품만 남기며,
+ * 상품 테이블을 조회하거나 정렬하지 않고 도시와 소분류로 거른 순위를 돌려줍니다.</p>
+ */
+@Component
+public class TrendingRanker {
+
+	private static final double DECAY_RATE = Math.log(2)
+		/ Duration.ofHours(ProductConstants.TRENDING_HALF_LIFE_HOURS).toMillis();
+
+	private static final Comparator<TrendingEntry> RANK_ORDER = Comparator
+		.comparingDouble(TrendingEntry::rankKey).reversed()
+		.thenComparing(TrendingEntry::productId, Comparator.reverseOrder());
+
+	private final NavigableSet<TrendingEntry> ranking = new ConcurrentSkipListSet<>(RANK_ORDER);
+	private final Map<Long, TrendingEntry> entries = new ConcurrentHashMap<>();
+
+	public void recordLike(final Product product) {
+		afterCommit(TrendingEvent.of(product, ProductConstants.TRENDING_LIKE_WEIGHT));
+	}
+
+	public void recordUnlike(final Product product) {
+		afterCommit(TrendingEvent.of(product, -ProductConstants.TRENDING_LIKE_WEIGHT));
+	}
+
+	public void recordComment(final Product product) {
+		afterCommit(TrendingEvent.of(product, ProductConstants.TRENDING_COMMENT_WEIGHT));
+	}
+
+	/**
+	 * 상품의 도시나 소분류가 바뀌면 필터 조건에 맞도록 순위 항목을 갱신합니다.
+	 */
+	public void updateProduct(final Product product) {
+		final Long productId = product.getId();
+		final Long cityId = product.getCity().getId();
+		final Long subcategoryId = product.getSubcategory().getId();
+		afterCommit(() -> replace(productId, current ->
+			TrendingEntry.of(productId, cityId, subcategoryId, current.rankKey())
+		));
+	}
+
+	public void removeProduct(final Long productId) {
+		afterCommit(() -> replace(productId, current -> null));
+	}
+
+	public synchronized void load(final Collection<TrendingEvent> events) {
+		events.forEach(this::accumulate);
+		trimToMaxSize();
+	}
+
+	/**
+	 * 순위 순서대로 조건에 맞는 항목을 반환합니다. 조건이 비어 있으면 거르지 않습니다.
+	 */
+	public List<TrendingEntry> findEntries(final Set<Long> cityIds, final Set<Long> subcategoryIds) {
+		return ranking.stream()
+			.filter(entry -> matches(cityIds, entry.cityId()))
+			.filter(entry -> matches(subcategoryIds, entry.subcategoryId()))
+			.toList();
+	}
+
+	/**
+	 * 현재 시각 기준으로 감쇠가 반영된 점수입니다.
+	 */
+	public double currentScore(final TrendingEntry entry) {
+		return Math.exp(entry.rankKey() - DECAY_RATE * System.currentTimeMillis());
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	synchronized void apply(final TrendingEvent event) {
+		accumulate(event);
+		trimToMaxSize();
+	}
+
+	private void accumulate(final TrendingEvent event) {
+		final double eventKey = Math.log(Math.abs(event.weight())) + DECAY_RATE * event.occurredAtMillis();
+		final TrendingEntry current = entries.get(event.productId());
+		final double rankKey;
+		if (current == null) {
+			if (event.weight() <= 0) {
+				return;
+			}
+			rankKey = eventKey;
+		} else {
+			ranking.remove(current);
+			entries.remove(event.productId());
+			rankKey = event.weight() > 0
+				? logAddExp(current.rankKey(), eventKey)
+				: logSubtractExp(current.rankKey(), eventKey);
+			if (rankKey == Double.NEGATIVE_INFINITY) {
+				return;
+			}
+		}
+		final TrendingEntry updated = TrendingEntry.of(
+			event.productId(),
+			event.cityId(),
+			event.subcategoryId(),
+			rankKey
+		);
+		entries.put(updated.productId(), updated);
+		ranking.add(updated);
+	}
+
+	private synchronized void replace(
+		final Long productId,
+		final UnaryOperator<TrendingEntry> replacement
+	) {
+		final TrendingEntry current = entries.remove(productId);
+		if (current == null) {
+			return;
+		}
+		ranking.remove(current);
+		final TrendingEntry updated = replacement.apply(current);
+		if (updated != null) {
+			entries.put(productId, updated);
+			ranking.add(updated);
+		}
+	}
+
+	private void trimToMaxSize() {
+		while (entries.size() > ProductConstants.TRENDING_MAX_SIZE) {
+			final TrendingEntry lowest = ranking.pollLast();
+			if (lowest == null) {
+				return;
+			}
+			entries.remove(lowest.productId());
+		}
+	}
+
+	private void afterCommit(final TrendingEvent event) {
+		afterCommit(() -> apply(event));
+	}
+
+	private void afterCommit(final Runnable task) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			task.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				task.run();
+			}
+		});
+	}
+
+	private static boolean matches(final Set<Long> filterIds, final Long id) {
+		return filterIds == null || filterIds.isEmpty() || filterIds.contains(id);
+	}
+
+	private static double logAddExp(final double a, final double b) {
+		final double max = Math.max(a, b);
+		return max + Math.log1p(Math.exp(Math.min(a, b) - max));
+	}
+
+	private static double logSubtractExp(final double a, final double b) {
+		if (b >= a) {
+			return Double.NEGATIVE_INFINITY;
+		}
+		return a + Math.log1p(-Math.exp(b - a));
+	}
+}
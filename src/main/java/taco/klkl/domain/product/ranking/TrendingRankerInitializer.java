@@ -0,0 +1,86 @@
+package taco.klkl.domain.product.ranking;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import taco.klkl.domain.comment.domain.QComment;
+import taco.klkl.domain.like.domain.QLike;
+import taco.klkl.domain.product.domain.QProduct;
+import taco.klkl.global.common.constants.ProductConstants;
+
+/**
+ * 애플리케이션이 뜰 때 최근 좋아요와 댓글로 인기 급상승 순위를 채웁니다.
+ * 감쇠 반감기에 비해 충분히 오래된 사건은 점수에 거의 영향이 없으므로 읽지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrendingRankerInitializer {
+
+	private final JPAQueryFactory queryFactory;
+	private final TrendingRanker trendingRanker;
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public void initialize() {
+		final LocalDateTime since = LocalDateTime.now().minusDays(ProductConstants.TRENDING_SEED_DAYS);
+		final List<TrendingEvent> events = new ArrayList<>();
+		events.addAll(findLikeEvents(since));
+		events.addAll(findCommentEvents(since));
+		trendingRanker.load(events);
+		log.info("Trending ranking loaded: {} events, {} products", events.size(), trendingRanker.size());
+	}
+
+	private List<TrendingEvent> findLikeEvents(final LocalDateTime since) {
+		final QLike like = QLike.like;
+		final QProduct product = QProduct.product;
+		return queryFactory
+			.select(product.id, product.city.id, product.subcategory.id, like.createdAt)
+			.from(like)
+			.join(like.product, product)
+			.where(like.createdAt.goe(since))
+			.fetch().stream()
+			.map(tuple -> toEvent(tuple, product, like.createdAt, ProductConstants.TRENDING_LIKE_WEIGHT))
+			.toList();
+	}
+
+	private List<TrendingEvent> findCommentEvents(final LocalDateTime since) {
+		final QComment comment = QComment.comment;
+		final QProduct product = QProduct.product;
+		return queryFactory
+			.select(product.id, product.city.id, product.subcategory.id, comment.createdAt)
+			.from(comment)
+			.join(comment.product, product)
+			.where(comment.createdAt.goe(since))
+			.fetch().stream()
+			.map(tuple -> toEvent(tuple, product, comment.createdAt, ProductConstants.TRENDING_COMMENT_WEIGHT))
+			.toList();
+	}
+
+	private TrendingEvent toEvent(
+		final Tuple tuple,
+		final QProduct product,
+		final DateTimePath<LocalDateTime> createdAt,
+		final double weight
+	) {
+		return TrendingEvent.of(
+			tuple.get(product.id),
+			tuple.get(product.city.id),
+			tuple.get(product.subcategory.id),
+			weight,
+			tuple.get(createdAt)
+		);
+	}
+}
@@ -0,0 +1,328 @@
+package taco.klkl.domain.product.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 상품명을 글자 단위 1-gram, 2-gram 으로 나눈 역색인입니다.
+ * 한글은 음절 단위 2-gram 으로도 충분히 걸러지므로 형태소 분석 없이 한국어와 영어를 함께 다룹니다.
+ *
+ * <p>검색어의 모든 2-gram 을 가진 상품만 후보로 삼고, 실제로 검색어를 포함하는지 확인해
+ * {@code name LIKE '%검색어%'} 와 같은 결과를 상품 수에 비례하지 않는 비용으로 돌려줍니다.
+ * 트랜잭션 안의 색인 변경은 그 트랜잭션에만 보이도록 따로 모아 두었다가 커밋된 뒤에 반영하므로,
+ * 다른 요청은 커밋되지 않은 상품명을 검색하지 않고 같은 트랜잭션은 자신의 변경을 바로 검색합니다.</p>
+ *
+ * <p>처음 색인을 만들기 전에는 {@link #isReady()} 가 false 이므로 호출한 쪽은 DB 로 검색해야 합니다.</p>
+ */
+@Component
+public class ProductSearchIndex {
+
+	private static final int GRAM_SIZE = 2;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Map<Long, String> namesByProductId = new HashMap<>();
+	private final Map<String, Set<Long>> postings = new HashMap<>();
+	private Map<Long, String> changesDuringRebuild;
+	private volatile boolean ready;
+
+	public boolean isReady() {
+		return ready;
+	}
+
+	/**
+	 * 검색어를 포함하는 상품 ID 를 관련도 순으로 최대 limit 개 반환합니다.
+	 * 상품명이 검색어와 같거나, 검색어로 시작하거나, 앞쪽에서 검색어가 나올수록 앞에 둡니다.
+	 */
+	public List<Long> search(final String query, final int limit) {
+		final String normalizedQuery = normalize(query);
+		if (normalizedQuery.isEmpty()) {
+			return List.of();
+		}
+		final Map<Long, String> transactionChanges = findTransactionChanges();
+		final List<Match> matches = new ArrayList<>();
+		lock.readLock().lock();
+		try {
+			addIndexedMatches(normalizedQuery, transactionChanges, matches);
+		} finally {
+			lock.readLock().unlock();
+		}
+		transactionChanges.forEach((productId, name) -> addIfMatches(productId, name, normalizedQuery, matches));
+		return matches.stream()
+			.sorted(Match.RELEVANCE_ORDER)
+			.limit(limit)
+			.map(Match::productId)
+			.toList();
+	}
+
+	/**
+	 * 상품명이 검색어를 포함하는지 확인합니다. 색인에 없는 상품은 포함하지 않는 것으로 봅니다.
+	 */
+	public boolean matches(final Long productId, final String query) {
+		final String normalizedQuery = normalize(query);
+		if (normalizedQuery.isEmpty()) {
+			return false;
+		}
+		final Map<Long, String> transactionChanges = findTransactionChanges();
+		if (transactionChanges.containsKey(productId)) {
+			final String name = transactionChanges.get(productId);
+			return name != null && name.contains(normalizedQuery);
+		}
+		lock.readLock().lock();
+		try {
+			final String name = namesByProductId.get(productId);
+			return name != null && name.contains(normalizedQuery);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public void index(final Long productId, final String name) {
+		stage(productId, normalize(name));
+	}
+
+	public void remove(final Long productId) {
+		stage(productId, null);
+	}
+
+	/**
+	 * 스냅샷으로 색인을 다시 만듭니다.
+	 * 스냅샷을 읽는 동안 커밋된 변경은 스냅샷에 빠져 있을 수 있으므로 따로 모아 두었다가 스냅샷 위에 다시 반영합니다.
+	 */
+	public void rebuild(final Supplier<Map<Long, String>> snapshot) {
+		lock.writeLock().lock();
+		try {
+			changesDuringRebuild = new HashMap<>();
+		} finally {
+			lock.writeLock().unlock();
+		}
+		final Map<Long, String> names;
+		try {
+			names = snapshot.get();
+		} catch (RuntimeException e) {
+			lock.writeLock().lock();
+			try {
+				changesDuringRebuild = null;
+			} finally {
+				lock.writeLock().unlock();
+			}
+			throw e;
+		}
+		lock.writeLock().lock();
+		try {
+			namesByProductId.clear();
+			postings.clear();
+			names.forEach((productId, name) -> putWithoutLock(productId, normalize(name)));
+			changesDuringRebuild.forEach(this::putWithoutLock);
+			changesDuringRebuild = null;
+			ready = true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return namesByProductId.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private void put(final Long productId, final String normalizedName) {
+		lock.writeLock().lock();
+		try {
+			recordDuringRebuild(productId, normalizedName);
+			putWithoutLock(productId, normalizedName);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 상품명을 바꾸거나 null 이면 제거합니다.
+	 */
+	private void putWithoutLock(final Long productId, final String normalizedName) {
+		final String previousName = normalizedName == null
+			? namesByProductId.remove(productId)
+			: namesByProductId.put(productId, normalizedName);
+		if (previousName != null) {
+			for (final String gram : documentGrams(previousName)) {
+				final Set<Long> posting = postings.get(gram);
+				posting.remove(productId);
+				if (posting.isEmpty()) {
+					postings.remove(gram);
+				}
+			}
+		}
+		if (normalizedName != null) {
+			for (final String gram : documentGrams(normalizedName)) {
+				postings.computeIfAbsent(gram, key -> new HashSet<>()).add(productId);
+			}
+		}
+	}
+
+	private void addIndexedMatches(
+		final String normalizedQuery,
+		final Map<Long, String> excludedProducts,
+		final List<Match> matches
+	) {
+		final List<Set<Long>> queryPostings = new ArrayList<>();
+		for (final String gram : queryGrams(normalizedQuery)) {
+			final Set<Long> posting = postings.get(gram);
+			if (posting == null) {
+				return;
+			}
+			queryPostings.add(posting);
+		}
+		queryPostings.sort(Comparator.comparingInt(Set::size));
+		for (final Long productId : queryPostings.get(0)) {
+			if (!excludedProducts.containsKey(productId) && isInAll(queryPostings, productId)) {
+				addIfMatches(productId, namesByProductId.get(productId), normalizedQuery, matches);
+			}
+		}
+	}
+
+	private static void addIfMatches(
+		final Long productId,
+		final String name,
+		final String normalizedQuery,
+		final List<Match> matches
+	) {
+		if (name == null) {
+			return;
+		}
+		final int position = name.indexOf(normalizedQuery);
+		if (position >= 0) {
+			matches.add(new Match(productId, name, position, name.length() == normalizedQuery.length()));
+		}
+	}
+
+	/**
+	 * 트랜잭션 밖이면 바로 반영하고, 안이면 트랜잭션별 변경으로 모아 두었다가 커밋된 뒤에 반영합니다.
+	 */
+	private void stage(final Long productId, final String normalizedName) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			put(productId, normalizedName);
+			return;
+		}
+		getTransactionChanges().put(productId, normalizedName);
+	}
+
+	/**
+	 * 현재 트랜잭션에서 바뀐 상품명입니다. 값이 null 이면 삭제된 상품입니다.
+	 */
+	@SuppressWarnings("unchecked")
+	private Map<Long, String> findTransactionChanges() {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return Map.of();
+		}
+		final Map<Long, String> transactionChanges =
+			(Map<Long, String>)TransactionSynchronizationManager.getResource(this);
+		return transactionChanges == null ? Map.of() : transactionChanges;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<Long, String> getTransactionChanges() {
+		final Map<Long, String> existingChanges =
+			(Map<Long, String>)TransactionSynchronizationManager.getResource(this);
+		if (existingChanges != null) {
+			return existingChanges;
+		}
+		final Map<Long, String> transactionChanges = new HashMap<>();
+		TransactionSynchronizationManager.bindResource(this, transactionChanges);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(final int status) {
+				TransactionSynchronizationManager.unbindResourceIfPossible(ProductSearchIndex.this);
+				if (status == STATUS_COMMITTED) {
+					putAll(transactionChanges);
+				}
+			}
+		});
+		return transactionChanges;
+	}
+
+	private void putAll(final Map<Long, String> normalizedNames) {
+		lock.writeLock().lock();
+		try {
+			normalizedNames.forEach((productId, normalizedName) -> {
+				recordDuringRebuild(productId, normalizedName);
+				putWithoutLock(productId, normalizedName);
+			});
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void recordDuringRebuild(final Long productId, final String normalizedName) {
+		if (changesDuringRebuild != null) {
+			changesDuringRebuild.put(productId, normalizedName);
+		}
+	}
+
+	private static boolean isInAll(final List<Set<Long>> queryPostings, final Long productId) {
+		for (int i = 1; i < queryPostings.size(); i++) {
+			if (!queryPostings.get(i).contains(productId)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	static String normalize(final String text) {
+		if (text == null) {
+			return "";
+		}
+		return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+	}
+
+	private static Set<String> queryGrams(final String normalizedQuery) {
+		if (normalizedQuery.length() < GRAM_SIZE) {
+			return Set.of(normalizedQuery);
+		}
+		return grams(normalizedQuery, GRAM_SIZE);
+	}
+
+	private static Set<String> documentGrams(final String normalizedName) {
+		final Set<String> grams = grams(normalizedName, 1);
+		grams.addAll(grams(normalizedName, GRAM_SIZE));
+		return grams;
+	}
+
+	private static Set<String> grams(final String text, final int size) {
+		final Set<String> grams = new LinkedHashSet<>();
+		for (int i = 0; i + size <= text.length(); i++) {
+			grams.add(text.substring(i, i + size));
+		}
+		return grams;
+	}
+
+	private record Match(
+		Long productId,
+		String name,
+		int position,
+		boolean isExact
+	) {
+		private static final Comparator<Match> RELEVANCE_ORDER = Comparator
+			.comparing(Match::isExact).reversed()
+			.thenComparingInt(Match::position)
+			.thenComparingInt(match -> match.name().length())
+			.thenComparing(Match::productId, Comparator.reverseOrder());
+	}
+}
@@ -0,0 +1,45 @@
+package taco.klkl.domain.product.search;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import taco.klkl.domain.product.domain.QProduct;
+import taco.klkl.global.common.transaction.ReadOnlyTransactionExecutor;
+
+/**
+ * 애플리케이션이 요청을 받기 전에 DB 의 상품명으로 검색 색인을 만듭니다.
+ * 싱글톤 빈이 모두 만들어진 뒤, 웹 서버가 시작되기 전에 실행됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndexInitializer implements SmartInitializingSingleton {
+
+	private final JPAQueryFactory queryFactory;
+	private final ProductSearchIndex productSearchIndex;
+	private final ReadOnlyTransactionExecutor readOnlyTransactionExecutor;
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		productSearchIndex.rebuild(() -> readOnlyTransactionExecutor.execute(this::findProductNames));
+		log.info("Product search index built: {} products", productSearchIndex.size());
+	}
+
+	private Map<Long, String> findProductNames() {
+		final QProduct product = QProduct.product;
+		final Map<Long, String> names = new HashMap<>();
+		queryFactory
+			.select(product.id, product.name)
+			.from(product)
+			.fetch()
+			.forEach(row -> names.put(row.get(product.id), row.get(product.name)));
+		return names;
+	}
+}
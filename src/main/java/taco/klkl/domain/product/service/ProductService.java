@@ -1,14 +1,17 @@
 package taco.klkl.domain.product.service;
 
+import java.util.Set;
+
 import org.springframework.data.domain.Pageable;
 
-import taco.klkl.domain.product.domain.Product;
 import taco.klkl.domain.product.dto.request.ProductCreateUpdateRequest;
 import taco.klkl.domain.product.dto.request.ProductFilterOptions;
 import taco.klkl.domain.product.dto.request.ProductSortOptions;
 import taco.klkl.domain.product.dto.response.ProductDetailResponse;
+import taco.klkl.domain.product.dto.response.ProductFacetResponse;
 import taco.klkl.domain.product.dto.response.ProductSimpleResponse;
 import taco.klkl.domain.product.exception.ProductNotFoundException;
+import taco.klkl.global.common.response.CursorResponse;
 import taco.klkl.global.common.response.PagedResponse;
 
 public interface ProductService {
@@ -19,20 +22,31 @@ public interface ProductService {
 		final ProductSortOptions sortOptions
 	);
 
+	CursorResponse<ProductSimpleResponse> findProductsByFilterOptionsAndSortOptionsWithCursor(
+		final String cursor,
+		final int size,
+		final ProductFilterOptions filterOptions,
+		final ProductSortOptions sortOptions
+	);
+
+	CursorResponse<ProductSimpleResponse> findProductsByMemberIdsWithCursor(
+		final Set<Long> memberIds,
+		final String cursor,
+		final int size
+	);
+
 	PagedResponse<ProductSimpleResponse> findProductsByPartialName(
 		final String partialName,
 		final Pageable pageable,
 		final ProductSortOptions sortOptions
 	);
 
+	ProductFacetResponse findFacetCounts(final ProductFilterOptions filterOptions);
+
 	ProductDetailResponse findProductById(final Long id) throws ProductNotFoundException;
 
 	ProductDetailResponse createProduct(final ProductCreateUpdateRequest createRequest);
 
-	int increaseLikeCount(Product product);
-
-	int decreaseLikeCount(Product product);
-
 	ProductDetailResponse updateProduct(final Long id, final ProductCreateUpdateRequest updateRequest);
 
 	void deleteProduct(final Long id) throws ProductNotFoundException;
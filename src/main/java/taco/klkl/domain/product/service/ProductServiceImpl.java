@@ -1,8 +1,13 @@
 package taco.klkl.domain.product.service;
 
+import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import org.springframework.context.annotation.Primary;
@@ -12,6 +17,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.querydsl.core.BooleanBuilder;
@@ -19,6 +25,8 @@ import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
@@ -27,32 +35,50 @@ import lombok.extern.slf4j.Slf4j;
 import taco.klkl.domain.category.domain.category.QCategory;
 import taco.klkl.domain.category.domain.subcategory.QSubcategory;
 import taco.klkl.domain.category.domain.subcategory.Subcategory;
-import taco.klkl.domain.category.domain.tag.QTag;
 import taco.klkl.domain.category.domain.tag.Tag;
 import taco.klkl.domain.category.exception.subcategory.SubcategoryNotFoundException;
+import taco.klkl.domain.member.cache.MemberPrincipal;
 import taco.klkl.domain.member.domain.Member;
+import taco.klkl.domain.product.cache.ProductCountCache;
+import taco.klkl.domain.product.cache.ProductDetailCache;
 import taco.klkl.domain.product.dao.ProductRepository;
 import taco.klkl.domain.product.domain.Product;
 import taco.klkl.domain.product.domain.QProduct;
 import taco.klkl.domain.product.domain.QProductTag;
 import taco.klkl.domain.product.domain.Rating;
 import taco.klkl.domain.product.domain.SortCriteria;
+import taco.klkl.domain.product.domain.TagMatch;
+import taco.klkl.domain.product.dto.projection.ProductSimpleProjection;
 import taco.klkl.domain.product.dto.request.ProductCreateUpdateRequest;
+import taco.klkl.domain.product.dto.request.ProductCursor;
 import taco.klkl.domain.product.dto.request.ProductFilterOptions;
 import taco.klkl.domain.product.dto.request.ProductSortOptions;
 import taco.klkl.domain.product.dto.response.ProductDetailResponse;
+import taco.klkl.domain.product.dto.response.ProductFacetResponse;
 import taco.klkl.domain.product.dto.response.ProductSimpleResponse;
+import taco.klkl.domain.product.exception.FilterIdsNotFoundException;
 import taco.klkl.domain.product.exception.InvalidCityIdsException;
 import taco.klkl.domain.product.exception.ProductMemberNotMatchException;
 import taco.klkl.domain.product.exception.ProductNotFoundException;
 import taco.klkl.domain.product.exception.SortDirectionNotFoundException;
+import taco.klkl.domain.product.facet.ProductFacetIndex;
+import taco.klkl.domain.product.ranking.LeaderboardKey;
+import taco.klkl.domain.product.ranking.LeaderboardPage;
+import taco.klkl.domain.product.ranking.LikeCountLeaderboards;
+import taco.klkl.domain.product.ranking.TrendingEntry;
+import taco.klkl.domain.product.ranking.TrendingRanker;
+import taco.klkl.domain.product.search.ProductSearchIndex;
 import taco.klkl.domain.region.domain.city.City;
 import taco.klkl.domain.region.domain.city.QCity;
 import taco.klkl.domain.region.domain.country.QCountry;
 import taco.klkl.domain.region.domain.currency.Currency;
 import taco.klkl.domain.region.exception.city.CityNotFoundException;
 import taco.klkl.domain.region.exception.currency.CurrencyNotFoundException;
+import taco.klkl.global.common.constants.ProductConstants;
+import taco.klkl.global.common.concurrent.SingleFlight;
+import taco.klkl.global.common.response.CursorResponse;
 import taco.klkl.global.common.response.PagedResponse;
+import taco.klkl.global.common.transaction.ReadOnlyTransactionExecutor;
 import taco.klkl.global.util.CityUtil;
 import taco.klkl.global.util.CurrencyUtil;
 import taco.klkl.global.util.MemberUtil;
@@ -67,8 +93,22 @@ import taco.klkl.global.util.TagUtil;
 @RequiredArgsConstructor
 public class ProductServiceImpl implements ProductService {
 
+	private static final String PRODUCT_DETAIL_FLIGHT = "product.detail";
+	private static final ProductSortOptions LATEST_SORT_OPTIONS = new ProductSortOptions(
+		SortCriteria.CREATED_AT.getQuery(),
+		Sort.Direction.DESC.name()
+	);
+
 	private final JPAQueryFactory queryFactory;
 	private final ProductRepository productRepository;
+	private final ProductCountCache productCountCache;
+	private final ProductDetailCache productDetailCache;
+	private final TrendingRanker trendingRanker;
+	private final LikeCountLeaderboards likeCountLeaderboards;
+	private final ProductSearchIndex productSearchIndex;
+	private final ProductFacetIndex productFacetIndex;
+	private final SingleFlight singleFlight;
+	private final ReadOnlyTransactionExecutor readOnlyTransactionExecutor;
 
 	private final MemberUtil memberUtil;
 	private final TagUtil tagUtil;
@@ -84,13 +124,76 @@ public class ProductServiceImpl implements ProductService {
 		final ProductSortOptions sortOptions
 	) {
 		validateFilterOptions(filterOptions);
+		if (isTrending(sortOptions)) {
+			return findTrendingProducts(pageable, filterOptions);
+		}
+		final Optional<LeaderboardPage> leaderboardPage = findLeaderboardPage(pageable, filterOptions, sortOptions);
+		if (leaderboardPage.isPresent()) {
+			return createLeaderboardPagedResponse(leaderboardPage.get(), pageable, filterOptions);
+		}
 
-		final JPAQuery<?> baseQuery = createBaseQuery(filterOptions);
-		final long total = getCount(baseQuery);
-		final List<Product> products = fetchProducts(baseQuery, pageable, sortOptions);
-		final Page<Product> productPage = new PageImpl<>(products, pageable, total);
+		final Optional<List<Long>> candidateIds = findTagFilterCandidateIds(filterOptions);
+		if (candidateIds.isPresent() && candidateIds.get().isEmpty()) {
+			return createPagedResponse(Collections.emptyList(), pageable, 0L, true);
+		}
+		final JPAQuery<?> baseQuery = candidateIds
+			.<JPAQuery<?>>map(this::createCandidateQuery)
+			.orElseGet(() -> createBaseQuery(filterOptions));
+		final OptionalLong cachedTotal = candidateIds.isPresent()
+			? OptionalLong.empty()
+			: productCountCache.find(filterOptions);
+		final long total;
+		if (candidateIds.isPresent()) {
+			total = candidateIds.get().size();
+		} else if (cachedTotal.isPresent()) {
+			total = cachedTotal.getAsLong();
+		} else {
+			total = getCountAndCache(baseQuery, filterOptions);
+		}
+		joinProductSimpleProjectionTables(baseQuery);
+		final List<ProductSimpleProjection> projections = fetchProductProjections(baseQuery, pageable, sortOptions);
+
+		return createPagedResponse(projections, pageable, total, cachedTotal.isEmpty());
+	}
+
+	@Override
+	public CursorResponse<ProductSimpleResponse> findProductsByFilterOptionsAndSortOptionsWithCursor(
+		final String cursor,
+		final int size,
+		final ProductFilterOptions filterOptions,
+		final ProductSortOptions sortOptions
+	) {
+		validateFilterOptions(filterOptions);
+		if (isTrending(sortOptions)) {
+			return findTrendingProductsWithCursor(cursor, size, filterOptions);
+		}
 
-		return PagedResponse.of(productPage, productUtil::createProductSimpleResponse);
+		final Optional<List<Long>> candidateIds = findTagFilterCandidateIds(filterOptions);
+		if (candidateIds.isPresent() && candidateIds.get().isEmpty()) {
+			return CursorResponse.of(Collections.emptyList(), size, null);
+		}
+		final JPAQuery<?> baseQuery = candidateIds
+			.<JPAQuery<?>>map(this::createCandidateQuery)
+			.orElseGet(() -> createBaseQuery(filterOptions));
+		return fetchProductsWithCursor(baseQuery, cursor, size, sortOptions, filterOptions.cursorScope());
+	}
+
+	@Override
+	public CursorResponse<ProductSimpleResponse> findProductsByMemberIdsWithCursor(
+		final Set<Long> memberIds,
+		final String cursor,
+		final int size
+	) {
+		if (memberIds.isEmpty()) {
+			return CursorResponse.of(Collections.emptyList(), size, null);
+		}
+		final QProduct product = QProduct.product;
+
+		final JPAQuery<?> baseQuery = queryFactory
+			.from(product)
+			.where(product.member.id.in(memberIds));
+
+		return fetchProductsWithCursor(baseQuery, cursor, size, LATEST_SORT_OPTIONS, ProductCursor.scopeOf(memberIds));
 	}
 
 	@Override
@@ -99,34 +202,50 @@ public class ProductServiceImpl implements ProductService {
 		final Pageable pageable,
 		final ProductSortOptions sortOptions
 	) {
+		if (isTrending(sortOptions)) {
+			final List<Long> trendingIds = trendingRanker.findEntries(null, null).stream()
+				.map(TrendingEntry::productId)
+				.toList();
+			return createPagedResponseByIds(filterByPartialName(trendingIds, partialName), pageable);
+		}
+		if (!productSearchIndex.isReady()) {
+			return findProductsByNameContaining(partialName, pageable, sortOptions);
+		}
+		final List<Long> matchedIds = productSearchIndex.search(partialName, ProductConstants.SEARCH_MAX_RESULTS + 1);
+		if (matchedIds.isEmpty()) {
+			return createPagedResponse(Collections.emptyList(), pageable, 0L, true);
+		}
+		if (matchedIds.size() > ProductConstants.SEARCH_MAX_RESULTS) {
+			return findProductsByNameContaining(partialName, pageable, sortOptions);
+		}
 		final QProduct product = QProduct.product;
-		final QCity city = QCity.city;
-		final QCountry country = QCountry.country;
-		final QSubcategory subcategory = QSubcategory.subcategory;
-		final QCategory category = QCategory.category;
 
 		final JPAQuery<?> baseQuery = queryFactory
 			.from(product)
-			.where(product.name.contains(partialName));
+			.where(product.id.in(matchedIds));
 
-		final long total = getCount(baseQuery);
+		joinProductSimpleProjectionTables(baseQuery);
+		final List<ProductSimpleProjection> projections = fetchProductProjections(baseQuery, pageable, sortOptions);
 
-		baseQuery.join(product.city, city).fetchJoin()
-			.join(product.subcategory, subcategory).fetchJoin()
-			.join(city.country, country).fetchJoin()
-			.join(subcategory.category, category).fetchJoin();
-
-		final List<Product> products = fetchProducts(baseQuery, pageable, sortOptions);
-		final Page<Product> productPage = new PageImpl<>(products, pageable, total);
+		return createPagedResponse(projections, pageable, matchedIds.size(), true);
+	}
 
-		return PagedResponse.of(productPage, productUtil::createProductSimpleResponse);
+	@Override
+	public ProductFacetResponse findFacetCounts(final ProductFilterOptions filterOptions) {
+		validateFilterOptions(filterOptions);
+		return ProductFacetResponse.from(productFacetIndex.count(filterOptions));
 	}
 
+	/**
+	 * 합쳐진 조회를 기다리는 동안 커넥션을 잡지 않도록 트랜잭션 밖에서 실행하고,
+	 * 실제로 조회하는 호출만 읽기 전용 트랜잭션을 엽니다.
+	 */
 	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public ProductDetailResponse findProductById(final Long id) throws ProductNotFoundException {
-		final Product product = productRepository.findById(id)
-			.orElseThrow(ProductNotFoundException::new);
-		return productUtil.createProductDetailResponse(product);
+		final ProductDetailResponse detail = productDetailCache.find(id)
+			.orElseGet(() -> singleFlight.execute(PRODUCT_DETAIL_FLIGHT, id, () -> loadProductDetail(id)));
+		return productUtil.applyViewerState(detail);
 	}
 
 	@Override
@@ -138,21 +257,13 @@ public class ProductServiceImpl implements ProductService {
 			Set<Tag> tags = createTagsByTagIds(createRequest.tagIds());
 			product.addTags(tags);
 		}
+		productCountCache.invalidateAll();
+		likeCountLeaderboards.addProduct(product);
+		productSearchIndex.index(product.getId(), product.getName());
+		productFacetIndex.put(product);
 		return productUtil.createProductDetailResponse(product);
 	}
 
-	@Override
-	@Transactional
-	public int increaseLikeCount(Product product) {
-		return product.increaseLikeCount();
-	}
-
-	@Override
-	@Transactional
-	public int decreaseLikeCount(Product product) {
-		return product.decreaseLikeCount();
-	}
-
 	@Override
 	@Transactional
 	public ProductDetailResponse updateProduct(
@@ -164,6 +275,12 @@ public class ProductServiceImpl implements ProductService {
 		validateMyProduct(product);
 		updateProductEntity(product, updateRequest);
 		updateProductEntityTags(product, updateRequest.tagIds());
+		productCountCache.invalidateAll();
+		trendingRanker.updateProduct(product);
+		likeCountLeaderboards.invalidateAll();
+		productSearchIndex.index(product.getId(), product.getName());
+		productFacetIndex.put(product);
+		productDetailCache.invalidate(id);
 		return productUtil.createProductDetailResponse(product);
 	}
 
@@ -174,26 +291,256 @@ public class ProductServiceImpl implements ProductService {
 			.orElseThrow(ProductNotFoundException::new);
 		validateMyProduct(product);
 		productRepository.delete(product);
+		productCountCache.invalidateAll();
+		trendingRanker.removeProduct(id);
+		likeCountLeaderboards.removeProduct(product);
+		productSearchIndex.remove(id);
+		productFacetIndex.remove(id);
+		productDetailCache.invalidate(id);
 	}
 
-	private JPAQuery<?> createBaseQuery(final ProductFilterOptions filterOptions) {
+	/**
+	 * 조회하는 회원과 무관한 상세 응답을 만들어 캐시에 저장합니다.
+	 */
+	private ProductDetailResponse loadProductDetail(final Long id) throws ProductNotFoundException {
+		return readOnlyTransactionExecutor.execute(() -> {
+			final long version = productDetailCache.currentVersion(id);
+			final Product product = productRepository.findById(id)
+				.orElseThrow(ProductNotFoundException::new);
+			final ProductDetailResponse detail = ProductDetailResponse.from(product, false);
+			productDetailCache.put(id, detail, version);
+			return detail;
+		});
+	}
+
+	/**
+	 * 좋아요 많은 순으로 도시, 국가, 소분류 중 하나만 골라 조회하는 앞쪽 페이지는 순위표에서 바로 읽습니다.
+	 */
+	private Optional<LeaderboardPage> findLeaderboardPage(
+		final Pageable pageable,
+		final ProductFilterOptions filterOptions,
+		final ProductSortOptions sortOptions
+	) {
+		final boolean isLikeCountDesc = SortCriteria.fromQuery(sortOptions.sortBy()) == SortCriteria.LIKE_COUNT
+			&& createOrderByQuery(sortOptions.sortDirection()) == Order.DESC;
+		if (!isLikeCountDesc) {
+			return Optional.empty();
+		}
+		return findLeaderboardKey(filterOptions)
+			.flatMap(key -> likeCountLeaderboards.findPage(key, pageable.getOffset(), pageable.getPageSize()));
+	}
+
+	/**
+	 * 순위표가 범위 안의 모든 상품을 담고 있으면 그 크기를 전체 개수로 쓰고 개수를 세지 않습니다.
+	 * 그렇지 않을 때만 캐시된 개수를 쓰고, 캐시에도 없으면 그때 개수를 셉니다.
+	 */
+	private PagedResponse<ProductSimpleResponse> createLeaderboardPagedResponse(
+		final LeaderboardPage leaderboardPage,
+		final Pageable pageable,
+		final ProductFilterOptions filterOptions
+	) {
+		final List<ProductSimpleResponse> responses = productUtil.createProductSimpleResponsesByIds(
+			leaderboardPage.productIds()
+		);
+		final OptionalLong cachedTotal = leaderboardPage.total().isPresent()
+			? OptionalLong.empty()
+			: productCountCache.find(filterOptions);
+		final long total;
+		if (leaderboardPage.total().isPresent()) {
+			total = leaderboardPage.total().getAsLong();
+		} else if (cachedTotal.isPresent()) {
+			total = cachedTotal.getAsLong();
+		} else {
+			total = getCountAndCache(createBaseQuery(filterOptions), filterOptions);
+		}
+		final Page<ProductSimpleResponse> responsePage = new PageImpl<>(responses, pageable, total);
+		return PagedResponse.of(responsePage, Function.identity(), cachedTotal.isEmpty());
+	}
+
+	private Optional<LeaderboardKey> findLeaderboardKey(final ProductFilterOptions filterOptions) {
+		final Set<Long> cityIds = Optional.ofNullable(filterOptions.cityIds()).orElse(Set.of());
+		final Set<Long> subcategoryIds = Optional.ofNullable(filterOptions.subcategoryIds()).orElse(Set.of());
+		final Set<Long> tagIds = Optional.ofNullable(filterOptions.tagIds()).orElse(Set.of());
+		if (!tagIds.isEmpty() || cityIds.isEmpty() == subcategoryIds.isEmpty()) {
+			return Optional.empty();
+		}
+		if (subcategoryIds.size() == 1) {
+			return Optional.of(LeaderboardKey.subcategory(subcategoryIds.iterator().next()));
+		}
+		if (cityIds.size() == 1) {
+			return Optional.of(LeaderboardKey.city(cityIds.iterator().next()));
+		}
+		return cityUtil.findCountryIdCoveredByCities(cityIds)
+			.map(LeaderboardKey::country);
+	}
+
+	private boolean isTrending(final ProductSortOptions sortOptions) {
+		return SortCriteria.fromQuery(sortOptions.sortBy()) == SortCriteria.TRENDING;
+	}
+
+	/**
+	 * 인기 급상승 순위는 메모리의 순위에서 바로 읽고, 응답에 필요한 값만 상품 ID 로 조회합니다.
+	 * 순위는 항상 점수가 높은 순서이므로 정렬 방향은 사용하지 않습니다.
+	 */
+	private PagedResponse<ProductSimpleResponse> findTrendingProducts(
+		final Pageable pageable,
+		final ProductFilterOptions filterOptions
+	) {
+		return createPagedResponseByIds(toProductIds(findTrendingEntries(filterOptions)), pageable);
+	}
+
+	/**
+	 * 색인의 검색 결과가 상한을 넘으면 상위 일부만으로는 정렬 순서를 보장할 수 없으므로,
+	 * 상품명 조건을 SQL 에 걸어 전체를 정렬하고 개수도 SQL 로 셉니다.
+	 */
+	private PagedResponse<ProductSimpleResponse> findProductsByNameContaining(
+		final String partialName,
+		final Pageable pageable,
+		final ProductSortOptions sortOptions
+	) {
 		final QProduct product = QProduct.product;
-		final QProductTag productTag = QProductTag.productTag;
-		final QTag tag = QTag.tag;
 
-		JPAQuery<?> query = queryFactory.from(product);
+		final JPAQuery<?> baseQuery = queryFactory
+			.from(product)
+			.where(product.name.contains(partialName));
+
+		final long total = getCount(baseQuery);
+		joinProductSimpleProjectionTables(baseQuery);
+		final List<ProductSimpleProjection> projections = fetchProductProjections(baseQuery, pageable, sortOptions);
+
+		return createPagedResponse(projections, pageable, total, true);
+	}
+
+	/**
+	 * 순서를 유지한 채 상품명에 검색어를 포함하는 상품만 남깁니다. 검색 색인이 아직 없으면 DB 로 확인합니다.
+	 */
+	private List<Long> filterByPartialName(final List<Long> productIds, final String partialName) {
+		if (productSearchIndex.isReady()) {
+			return productIds.stream()
+				.filter(productId -> productSearchIndex.matches(productId, partialName))
+				.toList();
+		}
+		if (productIds.isEmpty()) {
+			return productIds;
+		}
+		final QProduct product = QProduct.product;
+		final Set<Long> matchedIds = Set.copyOf(queryFactory
+			.select(product.id)
+			.from(product)
+			.where(product.id.in(productIds), product.name.contains(partialName))
+			.fetch());
+		return productIds.stream()
+			.filter(matchedIds::contains)
+			.toList();
+	}
+
+	/**
+	 * 이미 순서가 정해진 상품 ID 목록에서 요청한 페이지만 응답으로 변환합니다.
+	 */
+	private PagedResponse<ProductSimpleResponse> createPagedResponseByIds(
+		final List<Long> orderedProductIds,
+		final Pageable pageable
+	) {
+		final int from = (int)Math.min(pageable.getOffset(), orderedProductIds.size());
+		final int to = Math.min(from + pageable.getPageSize(), orderedProductIds.size());
+		final List<ProductSimpleResponse> responses = productUtil.createProductSimpleResponsesByIds(
+			orderedProductIds.subList(from, to)
+		);
+		final Page<ProductSimpleResponse> responsePage = new PageImpl<>(responses, pageable, orderedProductIds.size());
+		return PagedResponse.of(responsePage, Function.identity(), true);
+	}
 
+	private CursorResponse<ProductSimpleResponse> findTrendingProductsWithCursor(
+		final String cursor,
+		final int size,
+		final ProductFilterOptions filterOptions
+	) {
+		final String scope = filterOptions.cursorScope();
+		final ProductCursor productCursor = ProductCursor.decode(
+			cursor,
+			SortCriteria.TRENDING,
+			Sort.Direction.DESC,
+			scope
+		);
+		final List<TrendingEntry> entries = findTrendingEntries(filterOptions).stream()
+			.filter(entry -> isAfterTrendingCursor(entry, productCursor))
+			.limit(size + 1L)
+			.toList();
+
+		final boolean hasNext = entries.size() > size;
+		final List<TrendingEntry> content = hasNext ? entries.subList(0, size) : entries;
+		final String nextCursor = hasNext
+			? ProductCursor.of(content.get(size - 1).rankKey(), content.get(size - 1).productId(), scope).encode()
+			: null;
+		final List<ProductSimpleResponse> responses = productUtil.createProductSimpleResponsesByIds(
+			toProductIds(content)
+		);
+		return CursorResponse.of(responses, size, nextCursor);
+	}
+
+	private List<TrendingEntry> findTrendingEntries(final ProductFilterOptions filterOptions) {
+		final List<TrendingEntry> entries = trendingRanker.findEntries(
+			filterOptions.cityIds(),
+			filterOptions.subcategoryIds()
+		);
+		if (!filterOptions.hasTagFilter() || entries.isEmpty()) {
+			return entries;
+		}
+		final Set<Long> taggedProductIds = productFacetIndex.findMatchingProductIds(
+			toProductIds(entries),
+			filterOptions
+		);
+		return entries.stream()
+			.filter(entry -> taggedProductIds.contains(entry.productId()))
+			.toList();
+	}
+
+	private boolean isAfterTrendingCursor(final TrendingEntry entry, final ProductCursor cursor) {
+		if (cursor == null) {
+			return true;
+		}
+		final double rankKey = cursor.trendingRankKeyValue();
+		return entry.rankKey() < rankKey
+			|| (entry.rankKey() == rankKey && entry.productId() < cursor.productId());
+	}
+
+	private List<Long> toProductIds(final List<TrendingEntry> entries) {
+		return entries.stream()
+			.map(TrendingEntry::productId)
+			.toList();
+	}
+
+	/**
+	 * 태그 필터가 있으면 태그, 도시, 소분류 비트맵의 교집합으로 후보 상품 ID 를 구합니다.
+	 * 후보가 너무 많으면 ID 목록 대신 SQL 조건으로 거르도록 비어 있는 값을 반환합니다.
+	 */
+	private Optional<List<Long>> findTagFilterCandidateIds(final ProductFilterOptions filterOptions) {
+		if (!filterOptions.hasTagFilter()) {
+			return Optional.empty();
+		}
+		return productFacetIndex.findProductIds(filterOptions, ProductConstants.FILTER_CANDIDATE_MAX_SIZE);
+	}
+
+	private JPAQuery<?> createCandidateQuery(final List<Long> candidateIds) {
+		final QProduct product = QProduct.product;
+		return queryFactory
+			.from(product)
+			.where(product.id.in(candidateIds));
+	}
+
+	private JPAQuery<?> createBaseQuery(final ProductFilterOptions filterOptions) {
 		final BooleanBuilder builder = new BooleanBuilder();
 		builder.and(createCityFilter(filterOptions.cityIds()));
 		builder.and(createSubcategoryFilter(filterOptions.subcategoryIds()));
-		builder.and(createTagFilter(filterOptions.tagIds()));
-
-		if (filterOptions.tagIds() != null && !filterOptions.tagIds().isEmpty()) {
-			query = query.leftJoin(product.productTags, productTag)
-				.leftJoin(productTag.tag, tag);
-		}
+		builder.and(createTagFilter(filterOptions.tagIds(), filterOptions.tagMatch()));
+		return queryFactory.from(QProduct.product).where(builder);
+	}
 
-		return query.where(builder);
+	private long getCountAndCache(final JPAQuery<?> baseQuery, final ProductFilterOptions filterOptions) {
+		final long generation = productCountCache.currentGeneration();
+		final long total = getCount(baseQuery);
+		productCountCache.put(filterOptions, total, generation);
+		return total;
 	}
 
 	private long getCount(JPAQuery<?> baseQuery) {
@@ -201,30 +548,117 @@ public class ProductServiceImpl implements ProductService {
 			.orElse(0L);
 	}
 
-	private List<Product> fetchProducts(
+	private void joinProductSimpleProjectionTables(final JPAQuery<?> baseQuery) {
+		final QProduct product = QProduct.product;
+		final QCity city = QCity.city;
+		final QCountry country = QCountry.country;
+		final QSubcategory subcategory = QSubcategory.subcategory;
+		final QCategory category = QCategory.category;
+
+		baseQuery.join(product.city, city)
+			.join(product.subcategory, subcategory)
+			.join(city.country, country)
+			.join(subcategory.category, category);
+	}
+
+	private List<ProductSimpleProjection> fetchProductProjections(
 		final JPAQuery<?> baseQuery,
 		final Pageable pageable,
 		final ProductSortOptions sortOptions
 	) {
-		final JPAQuery<Product> productQuery = baseQuery.select(QProduct.product).distinct();
+		final JPAQuery<ProductSimpleProjection> projectionQuery = baseQuery
+			.select(ProductUtil.createProductSimpleProjection())
+			.distinct();
 
-		applySorting(productQuery, sortOptions);
+		applySorting(projectionQuery, sortOptions);
 
-		return productQuery
+		return projectionQuery
 			.offset(pageable.getOffset())
 			.limit(pageable.getPageSize())
 			.fetch();
 	}
 
-	private void applySorting(final JPAQuery<Product> query, final ProductSortOptions sortOptions) {
-		final PathBuilder<Product> pathBuilder = new PathBuilder<>(Product.class, "product");
-		final Sort.Direction sortDirection = createSortDirectionByQuery(sortOptions.sortDirection());
+	private CursorResponse<ProductSimpleResponse> fetchProductsWithCursor(
+		final JPAQuery<?> baseQuery,
+		final String cursor,
+		final int size,
+		final ProductSortOptions sortOptions,
+		final String scope
+	) {
 		final SortCriteria sortBy = SortCriteria.fromQuery(sortOptions.sortBy());
-		final OrderSpecifier<?> orderSpecifier = new OrderSpecifier<>(
-			sortDirection == Sort.Direction.ASC ? Order.ASC : Order.DESC,
-			pathBuilder.get(sortBy.getValue(), Comparable.class)
-		);
-		query.orderBy(orderSpecifier);
+		final Sort.Direction direction = createSortDirectionByQuery(sortOptions.sortDirection());
+		final Order order = createOrderByQuery(sortOptions.sortDirection());
+		final ProductCursor productCursor = ProductCursor.decode(cursor, sortBy, direction, scope);
+
+		joinProductSimpleProjectionTables(baseQuery);
+		final List<ProductSimpleProjection> projections = baseQuery
+			.select(ProductUtil.createProductSimpleProjection())
+			.distinct()
+			.where(createCursorFilter(productCursor, order))
+			.orderBy(createOrderSpecifier(sortBy, order), new OrderSpecifier<>(order, QProduct.product.id))
+			.limit(size + 1L)
+			.fetch();
+
+		final boolean hasNext = projections.size() > size;
+		final List<ProductSimpleProjection> content = hasNext ? projections.subList(0, size) : projections;
+		final String nextCursor = hasNext
+			? ProductCursor.of(sortBy, direction, scope, content.get(size - 1)).encode()
+			: null;
+		return CursorResponse.of(productUtil.createProductSimpleResponses(content), size, nextCursor);
+	}
+
+	private BooleanExpression createCursorFilter(final ProductCursor cursor, final Order order) {
+		if (cursor == null) {
+			return null;
+		}
+		final QProduct product = QProduct.product;
+		final boolean isAsc = order == Order.ASC;
+
+		final BooleanExpression beyondSortValue;
+		final BooleanExpression sameSortValue;
+		switch (cursor.sortBy()) {
+			case LIKE_COUNT -> {
+				final int likeCount = cursor.likeCountValue();
+				beyondSortValue = isAsc ? product.likeCount.gt(likeCount) : product.likeCount.lt(likeCount);
+				sameSortValue = product.likeCount.eq(likeCount);
+			}
+			case RATING -> {
+				final Rating rating = cursor.ratingValue();
+				beyondSortValue = isAsc ? product.rating.gt(rating) : product.rating.lt(rating);
+				sameSortValue = product.rating.eq(rating);
+			}
+			default -> {
+				final LocalDateTime createdAt = cursor.createdAtValue();
+				beyondSortValue = isAsc ? product.createdAt.gt(createdAt) : product.createdAt.lt(createdAt);
+				sameSortValue = product.createdAt.eq(createdAt);
+			}
+		}
+		final BooleanExpression beyondId = isAsc
+			? product.id.gt(cursor.productId())
+			: product.id.lt(cursor.productId());
+		return beyondSortValue.or(sameSortValue.and(beyondId));
+	}
+
+	private PagedResponse<ProductSimpleResponse> createPagedResponse(
+		final List<ProductSimpleProjection> projections,
+		final Pageable pageable,
+		final long total,
+		final boolean isTotalExact
+	) {
+		final List<ProductSimpleResponse> responses = productUtil.createProductSimpleResponses(projections);
+		final Page<ProductSimpleResponse> responsePage = new PageImpl<>(responses, pageable, total);
+		return PagedResponse.of(responsePage, Function.identity(), isTotalExact);
+	}
+
+	private void applySorting(final JPAQuery<?> query, final ProductSortOptions sortOptions) {
+		final Order order = createOrderByQuery(sortOptions.sortDirection());
+		final SortCriteria sortBy = SortCriteria.fromQuery(sortOptions.sortBy());
+		query.orderBy(createOrderSpecifier(sortBy, order));
+	}
+
+	private OrderSpecifier<?> createOrderSpecifier(final SortCriteria sortBy, final Order order) {
+		final PathBuilder<Product> pathBuilder = new PathBuilder<>(Product.class, "product");
+		return new OrderSpecifier<>(order, pathBuilder.get(sortBy.getValue(), Comparable.class));
 	}
 
 	private BooleanExpression createCityFilter(final Set<Long> cityIds) {
@@ -241,11 +675,23 @@ public class ProductServiceImpl implements ProductService {
 		return QProduct.product.subcategory.id.in(subcategoryIds);
 	}
 
-	private BooleanExpression createTagFilter(final Set<Long> filterIds) {
+	/**
+	 * 상품 행이 태그 수만큼 늘어나지 않도록 태그 조건은 상품 ID 서브쿼리로 겁니다.
+	 */
+	private BooleanExpression createTagFilter(final Set<Long> filterIds, final TagMatch tagMatch) {
 		if (filterIds == null || filterIds.isEmpty()) {
 			return null;
 		}
-		return QProductTag.productTag.tag.id.in(filterIds);
+		final QProductTag productTag = QProductTag.productTag;
+		final JPQLQuery<Long> taggedProductIds = JPAExpressions
+			.select(productTag.product.id)
+			.from(productTag)
+			.where(productTag.tag.id.in(filterIds));
+		if (tagMatch == TagMatch.ALL) {
+			taggedProductIds.groupBy(productTag.product.id)
+				.having(productTag.tag.id.countDistinct().eq((long)filterIds.size()));
+		}
+		return QProduct.product.id.in(taggedProductIds);
 	}
 
 	private Set<Tag> createTagsByTagIds(final Set<Long> filterIds) {
@@ -256,7 +702,7 @@ public class ProductServiceImpl implements ProductService {
 
 	private Product createProductEntity(final ProductCreateUpdateRequest createRequest) {
 		final Rating rating = Rating.from(createRequest.rating());
-		final Member member = memberUtil.getCurrentMember();
+		final Member member = memberUtil.getCurrentMemberReference();
 		final City city = findCityById(createRequest.cityId());
 		final Subcategory subcategory = findSubcategoryById(createRequest.subcategoryId());
 		final Currency currency = findCurrencyById(createRequest.currencyId());
@@ -307,6 +753,11 @@ public class ProductServiceImpl implements ProductService {
 		}
 	}
 
+	private Order createOrderByQuery(final String query) throws SortDirectionNotFoundException {
+		final Sort.Direction sortDirection = createSortDirectionByQuery(query);
+		return sortDirection == Sort.Direction.ASC ? Order.ASC : Order.DESC;
+	}
+
 	private Pageable createPageableSortedByCreatedAtDesc(final Pageable pageable) {
 		return PageRequest.of(
 			pageable.getPageNumber(),
@@ -328,15 +779,25 @@ public class ProductServiceImpl implements ProductService {
 	}
 
 	private void validateFilterOptions(final ProductFilterOptions filterOptions) {
+		final Set<Long> invalidCityIds = findInvalidIds(filterOptions.cityIds(), cityUtil::findInvalidCityIds);
+		final Set<Long> invalidSubcategoryIds = findInvalidIds(
+			filterOptions.subcategoryIds(),
+			subcategoryUtil::findInvalidSubcategoryIds
+		);
+		final Set<Long> invalidTagIds = findInvalidIds(filterOptions.tagIds(), tagUtil::findInvalidTagIds);
+		if (!invalidCityIds.isEmpty() || !invalidSubcategoryIds.isEmpty() || !invalidTagIds.isEmpty()) {
+			throw new FilterIdsNotFoundException(invalidCityIds, invalidSubcategoryIds, invalidTagIds);
+		}
 		if (filterOptions.cityIds() != null) {
 			validateCityIds(filterOptions.cityIds());
 		}
-		if (filterOptions.subcategoryIds() != null) {
-			validateSubcategoryIds(filterOptions.subcategoryIds());
-		}
-		if (filterOptions.tagIds() != null) {
-			validateTagIds(filterOptions.tagIds());
+	}
+
+	private Set<Long> findInvalidIds(final Set<Long> ids, final UnaryOperator<Set<Long>> invalidIdsFinder) {
+		if (ids == null || ids.isEmpty()) {
+			return Set.of();
 		}
+		return invalidIdsFinder.apply(ids);
 	}
 
 	private void validateCityIds(final Set<Long> cityIds) throws InvalidCityIdsException {
@@ -346,17 +807,9 @@ public class ProductServiceImpl implements ProductService {
 		}
 	}
 
-	private void validateSubcategoryIds(final Set<Long> subcategoryIds) {
-		subcategoryIds.forEach(subcategoryUtil::findSubcategoryEntityById);
-	}
-
-	private void validateTagIds(final Set<Long> tagIds) {
-		tagIds.forEach(tagUtil::findTagEntityById);
-	}
-
 	private void validateMyProduct(final Product product) {
-		final Member me = memberUtil.getCurrentMember();
-		if (!product.getMember().equals(me)) {
+		final MemberPrincipal me = memberUtil.getCurrentPrincipal();
+		if (!product.getMember().getId().equals(me.id())) {
 			throw new ProductMemberNotMatchException();
 		}
 	}
@@ -1,8 +1,10 @@
 package taco.klkl.domain.region.controller.region;
 
-import java.util.List;
-
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -10,8 +12,8 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import taco.klkl.domain.region.dto.response.region.RegionResponse;
 import taco.klkl.domain.region.service.region.RegionService;
+import taco.klkl.global.catalog.HierarchyResponseCache;
 
 @Slf4j
 @RestController
@@ -21,10 +23,17 @@ import taco.klkl.domain.region.service.region.RegionService;
 public class RegionController {
 
 	private final RegionService regionService;
+	private final ObjectProvider<HierarchyResponseCache> hierarchyResponseCache;
 
 	@GetMapping("/hierarchy")
 	@Operation(summary = "전체 지역의 계층 정보 조회", description = "전체 지역의 계층 정보를 조회합니다.")
-	public List<RegionResponse> getAllRegions() {
-		return regionService.findAllRegions();
+	public ResponseEntity<?> getAllRegions(
+		@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) final String acceptEncoding
+	) {
+		final HierarchyResponseCache cache = hierarchyResponseCache.getIfAvailable();
+		if (cache != null) {
+			return cache.getRegionHierarchy().toResponseEntity(acceptEncoding);
+		}
+		return ResponseEntity.ok(regionService.findAllRegions());
 	}
 }
@@ -2,10 +2,15 @@ package taco.klkl.domain.region.dao.city;
 
 import java.util.List;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import jakarta.persistence.QueryHint;
 import taco.klkl.domain.region.domain.city.City;
+import taco.klkl.global.common.constants.SearchConstants;
 
 public interface CityRepository extends JpaRepository<City, Long> {
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_TIMEOUT, value = SearchConstants.SEARCH_QUERY_TIMEOUT_SECONDS))
 	List<City> findAllByNameContaining(final String partialName);
 }
@@ -2,12 +2,22 @@ package taco.klkl.domain.region.dao.country;
 
 import java.util.List;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
 import taco.klkl.domain.region.domain.country.Country;
+import taco.klkl.global.common.constants.SearchConstants;
 
 @Repository
 public interface CountryRepository extends JpaRepository<Country, Long> {
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_TIMEOUT, value = SearchConstants.SEARCH_QUERY_TIMEOUT_SECONDS))
 	List<Country> findAllByNameContaining(final String partialName);
+
+	@Query("select c from country c join fetch c.region join fetch c.currency left join fetch c.cities ci "
+		+ "order by c.id, ci.id")
+	List<Country> findAllWithCities();
 }
@@ -3,6 +3,7 @@ package taco.klkl.domain.region.dao.region;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import taco.klkl.domain.region.domain.region.Region;
@@ -12,4 +13,7 @@ public interface RegionRepository extends JpaRepository<Region, Long> {
 	Region findFirstByName(final String name);
 
 	List<Region> findAllByOrderByIdAsc();
+
+	@Query("select r from region r left join fetch r.countries c order by r.id, c.id")
+	List<Region> findAllWithCountries();
 }
@@ -1,6 +1,5 @@
 package taco.klkl.domain.region.service.region;
 
-import java.util.Collections;
 import java.util.List;
 
 import org.springframework.context.annotation.Primary;
@@ -9,9 +8,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import taco.klkl.domain.region.dao.region.RegionRepository;
-import taco.klkl.domain.region.domain.region.Region;
 import taco.klkl.domain.region.dto.response.region.RegionResponse;
+import taco.klkl.global.catalog.ReferenceCatalogProvider;
 
 @Slf4j
 @Primary
@@ -20,15 +18,11 @@ import taco.klkl.domain.region.dto.response.region.RegionResponse;
 @RequiredArgsConstructor
 public class RegionServiceImpl implements RegionService {
 
-	private final RegionRepository regionRepository;
+	private final ReferenceCatalogProvider referenceCatalogProvider;
 
 	@Override
 	public List<RegionResponse> findAllRegions() {
-		final List<Region> regions = regionRepository.findAllByOrderByIdAsc();
-		if (regions == null) {
-			return Collections.emptyList();
-		}
-		return regions.stream()
+		return referenceCatalogProvider.getCatalog().getRegions().stream()
 			.map(RegionResponse::from)
 			.toList();
 	}
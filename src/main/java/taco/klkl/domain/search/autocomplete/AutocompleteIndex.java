@@ -0,0 +1,53 @@
+package taco.klkl.domain.search.autocomplete;
+
+import taco.klkl.domain.category.dto.response.category.CategorySimpleResponse;
+import taco.klkl.domain.category.dto.response.subcategory.SubcategorySimpleResponse;
+import taco.klkl.domain.region.dto.response.city.CitySimpleResponse;
+import taco.klkl.domain.region.dto.response.country.CountrySimpleResponse;
+import taco.klkl.domain.search.dto.response.SearchResponse;
+import taco.klkl.global.catalog.ReferenceCatalog;
+
+/**
+ * 국가, 도시, 카테고리, 서브카테고리 이름을 한 번에 찾는 불변 자동완성 색인입니다.
+ * 응답 DTO 를 미리 만들어 두므로 검색 시에는 엔티티나 DB 에 접근하지 않습니다.
+ */
+final class AutocompleteIndex {
+
+	private final AutocompleteTextIndex<CountrySimpleResponse> countries;
+	private final AutocompleteTextIndex<CitySimpleResponse> cities;
+	private final AutocompleteTextIndex<CategorySimpleResponse> categories;
+	private final AutocompleteTextIndex<SubcategorySimpleResponse> subcategories;
+
+	private AutocompleteIndex(final ReferenceCatalog catalog) {
+		this.countries = AutocompleteTextIndex.of(
+			catalog.getCountries().stream().map(CountrySimpleResponse::from).toList(),
+			CountrySimpleResponse::name
+		);
+		this.cities = AutocompleteTextIndex.of(
+			catalog.getCities().stream().map(CitySimpleResponse::from).toList(),
+			CitySimpleResponse::name
+		);
+		this.categories = AutocompleteTextIndex.of(
+			catalog.getCategories().stream().map(CategorySimpleResponse::from).toList(),
+			CategorySimpleResponse::name
+		);
+		this.subcategories = AutocompleteTextIndex.of(
+			catalog.getSubcategories().stream().map(SubcategorySimpleResponse::from).toList(),
+			SubcategorySimpleResponse::name
+		);
+	}
+
+	static AutocompleteIndex from(final ReferenceCatalog catalog) {
+		return new AutocompleteIndex(catalog);
+	}
+
+	SearchResponse search(final String query) {
+		final String normalizedQuery = Hangul.normalize(query);
+		return SearchResponse.of(
+			countries.search(normalizedQuery),
+			cities.search(normalizedQuery),
+			categories.search(normalizedQuery),
+			subcategories.search(normalizedQuery)
+		);
+	}
+}
@@ -0,0 +1,45 @@
+package taco.klkl.domain.search.autocomplete;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import taco.klkl.domain.search.dto.response.SearchResponse;
+import taco.klkl.global.catalog.ReferenceCatalog;
+import taco.klkl.global.catalog.ReferenceCatalogProvider;
+import taco.klkl.global.catalog.ReferenceCatalogReloadedEvent;
+
+/**
+ * 기준 정보 카탈로그로 자동완성 색인을 만들어 두고, 카탈로그가 다시 적재될 때마다 교체합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AutocompleteIndexProvider {
+
+	private final ReferenceCatalogProvider referenceCatalogProvider;
+
+	private volatile AutocompleteIndex index;
+
+	/**
+	 * 이름의 앞부분이 일치하는 결과를 먼저, 중간에 포함된 결과를 그 뒤에 반환합니다.
+	 * 같은 그룹 안에서는 이름이 짧은 순서입니다. 초성만 입력하면 이름의 초성으로 찾습니다.
+	 */
+	public SearchResponse search(final String query) {
+		AutocompleteIndex current = index;
+		if (current == null) {
+			current = rebuild(referenceCatalogProvider.getCatalog());
+		}
+		return current.search(query);
+	}
+
+	@EventListener
+	public void onCatalogReloaded(final ReferenceCatalogReloadedEvent event) {
+		rebuild(event.catalog());
+	}
+
+	private synchronized AutocompleteIndex rebuild(final ReferenceCatalog catalog) {
+		final AutocompleteIndex rebuilt = AutocompleteIndex.from(catalog);
+		index = rebuilt;
+		return rebuilt;
+	}
+}
@@ -0,0 +1,170 @@
+package taco.klkl.domain.search.autocomplete;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 한 종류(국가, 도시 등)의 이름을 대상으로 하는 불변 자동완성 색인입니다.
+ *
+ * <p>이름과 이름의 초성 문자열 각각에 대해 접두사 트라이와 글자 2-gram 맵을 둡니다.
+ * 트라이의 각 노드는 그 접두사로 시작하는 항목을 순위대로 미리 담고 있어 접두사 검색은 검색어 길이만큼만 걷고,
+ * 중간에 포함된 경우는 2-gram 후보를 실제 포함 여부로 확인해 접두사 결과 뒤에 붙입니다.</p>
+ */
+final class AutocompleteTextIndex<T> {
+
+	private static final int GRAM_SIZE = 2;
+
+	private final List<T> items;
+	private final KeyIndex nameIndex;
+	private final KeyIndex chosungIndex;
+
+	private AutocompleteTextIndex(final List<T> items, final List<String> names) {
+		this.items = items;
+		final List<String> normalizedNames = names.stream()
+			.map(Hangul::normalize)
+			.toList();
+		this.nameIndex = new KeyIndex(normalizedNames);
+		this.chosungIndex = new KeyIndex(normalizedNames.stream()
+			.map(Hangul::toChosung)
+			.toList());
+	}
+
+	static <T> AutocompleteTextIndex<T> of(final List<T> items, final Function<T, String> nameExtractor) {
+		return new AutocompleteTextIndex<>(items, items.stream().map(nameExtractor).toList());
+	}
+
+	/**
+	 * 검색어가 초성으로만 이루어져 있으면 초성 문자열을, 아니면 이름을 대상으로 찾습니다.
+	 */
+	List<T> search(final String normalizedQuery) {
+		if (normalizedQuery.isEmpty()) {
+			return List.of();
+		}
+		final KeyIndex keyIndex = Hangul.isChosungQuery(normalizedQuery) ? chosungIndex : nameIndex;
+		return keyIndex.search(normalizedQuery).stream()
+			.map(items::get)
+			.toList();
+	}
+
+	private static final class KeyIndex {
+
+		private final List<String> keys;
+		private final TrieNode root = new TrieNode();
+		private final Map<String, int[]> grams = new HashMap<>();
+
+		private KeyIndex(final List<String> keys) {
+			this.keys = keys;
+			final Comparator<Integer> rankOrder = Comparator
+				.comparingInt((Integer index) -> keys.get(index).length())
+				.thenComparingInt(index -> index);
+			final List<Integer> rankedIndexes = new ArrayList<>();
+			for (int index = 0; index < keys.size(); index++) {
+				rankedIndexes.add(index);
+			}
+			rankedIndexes.sort(rankOrder);
+
+			final Map<String, List<Integer>> gramLists = new HashMap<>();
+			for (final int index : rankedIndexes) {
+				final String key = keys.get(index);
+				root.insert(key, index);
+				for (final String gram : gramsOf(key)) {
+					gramLists.computeIfAbsent(gram, g -> new ArrayList<>()).add(index);
+				}
+			}
+			gramLists.forEach((gram, indexes) -> grams.put(gram, toArray(indexes)));
+		}
+
+		private List<Integer> search(final String query) {
+			final List<Integer> results = new ArrayList<>();
+			final BitSet added = new BitSet(keys.size());
+			final TrieNode prefixNode = root.find(query);
+			if (prefixNode != null) {
+				for (final int index : prefixNode.indexes) {
+					results.add(index);
+					added.set(index);
+				}
+			}
+			final int[] candidates = findInfixCandidates(query);
+			for (final int index : candidates) {
+				if (!added.get(index) && keys.get(index).contains(query)) {
+					results.add(index);
+				}
+			}
+			return results;
+		}
+
+		/**
+		 * 검색어의 2-gram 중 가장 적은 항목을 가진 목록을 후보로 씁니다. 한 글자 검색어는 1-gram 을 씁니다.
+		 */
+		private int[] findInfixCandidates(final String query) {
+			int[] candidates = null;
+			for (final String gram : queryGramsOf(query)) {
+				final int[] posting = grams.get(gram);
+				if (posting == null) {
+					return new int[0];
+				}
+				if (candidates == null || posting.length < candidates.length) {
+					candidates = posting;
+				}
+			}
+			return candidates == null ? new int[0] : candidates;
+		}
+
+		private static List<String> gramsOf(final String key) {
+			final List<String> result = new ArrayList<>();
+			for (int size = 1; size <= GRAM_SIZE; size++) {
+				for (int i = 0; i + size <= key.length(); i++) {
+					final String gram = key.substring(i, i + size);
+					if (!result.contains(gram)) {
+						result.add(gram);
+					}
+				}
+			}
+			return result;
+		}
+
+		private static List<String> queryGramsOf(final String query) {
+			if (query.length() < GRAM_SIZE) {
+				return List.of(query);
+			}
+			final List<String> result = new ArrayList<>();
+			for (int i = 0; i + GRAM_SIZE <= query.length(); i++) {
+				result.add(query.substring(i, i + GRAM_SIZE));
+			}
+			return result;
+		}
+
+		private static int[] toArray(final List<Integer> indexes) {
+			return indexes.stream()
+				.mapToInt(Integer::intValue)
+				.toArray();
+		}
+	}
+
+	private static final class TrieNode {
+
+		private final Map<Character, TrieNode> children = new HashMap<>();
+		private final List<Integer> indexes = new ArrayList<>();
+
+		private void insert(final String key, final int index) {
+			TrieNode node = this;
+			for (int i = 0; i < key.length(); i++) {
+				node = node.children.computeIfAbsent(key.charAt(i), c -> new TrieNode());
+				node.indexes.add(index);
+			}
+		}
+
+		private TrieNode find(final String prefix) {
+			TrieNode node = this;
+			for (int i = 0; i < prefix.length() && node != null; i++) {
+				node = node.children.get(prefix.charAt(i));
+			}
+			return node;
+		}
+	}
+}
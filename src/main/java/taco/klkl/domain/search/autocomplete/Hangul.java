@@ -0,0 +1,78 @@
+package taco.klkl.domain.search.autocomplete;
+
+import java.util.Locale;
+
+/**
+ * 자동완성 검색어와 이름을 비교하기 위한 정규화와 한글 초성 추출을 담당합니다.
+ */
+final class Hangul {
+
+	private static final char SYLLABLE_BEGIN = '가';
+	private static final char SYLLABLE_END = '힣';
+	private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;
+	private static final char[] CHOSUNGS = {
+		'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+		'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+	};
+	private static final char CHOSUNG_BEGIN = 'ㄱ';
+	private static final char CHOSUNG_END = 'ㅎ';
+
+	private Hangul() {
+	}
+
+	/**
+	 * 호환용 자모가 조합형 자모로 바뀌지 않도록 NFKC 대신 소문자 변환과 공백 정리만 합니다.
+	 */
+	static String normalize(final String text) {
+		if (text == null) {
+			return "";
+		}
+		return text.strip().toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * 한글 음절은 초성으로 바꾸고, 그 밖의 글자는 그대로 둡니다.
+	 */
+	static String toChosung(final String normalized) {
+		final StringBuilder builder = new StringBuilder(normalized.length());
+		for (int i = 0; i < normalized.length(); i++) {
+			final char c = normalized.charAt(i);
+			if (c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) {
+				builder.append(CHOSUNGS[(c - SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSUNG]);
+			} else {
+				builder.append(c);
+			}
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * 공백을 제외한 모든 글자가 초성 자음이면 초성 검색어로 봅니다.
+	 */
+	static boolean isChosungQuery(final String normalized) {
+		boolean hasChosung = false;
+		for (int i = 0; i < normalized.length(); i++) {
+			final char c = normalized.charAt(i);
+			if (Character.isWhitespace(c)) {
+				continue;
+			}
+			if (!isChosung(c)) {
+				return false;
+			}
+			hasChosung = true;
+		}
+		return hasChosung;
+	}
+
+	private static boolean isChosung(final char c) {
+		if (c < CHOSUNG_BEGIN || c > CHOSUNG_END) {
+			return false;
+		}
+		for (final char chosung : CHOSUNGS) {
+			if (chosung == c) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
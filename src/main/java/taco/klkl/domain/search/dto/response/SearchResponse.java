@@ -7,11 +7,15 @@ import taco.klkl.domain.category.dto.response.subcategory.SubcategorySimpleRespo
 import taco.klkl.domain.region.dto.response.city.CitySimpleResponse;
 import taco.klkl.domain.region.dto.response.country.CountrySimpleResponse;
 
+/**
+ * @param isPartial 제한 시간 안에 응답하지 못한 검색 대상이 있어 일부 결과만 담겼는지 여부
+ */
 public record SearchResponse(
 	List<CountrySimpleResponse> countries,
 	List<CitySimpleResponse> cities,
 	List<CategorySimpleResponse> categories,
-	List<SubcategorySimpleResponse> subcategories
+	List<SubcategorySimpleResponse> subcategories,
+	boolean isPartial
 ) {
 	public static SearchResponse of(
 		final List<CountrySimpleResponse> countries,
@@ -19,6 +23,16 @@ public record SearchResponse(
 		final List<CategorySimpleResponse> categories,
 		final List<SubcategorySimpleResponse> subcategories
 	) {
-		return new SearchResponse(countries, cities, categories, subcategories);
+		return new SearchResponse(countries, cities, categories, subcategories, false);
+	}
+
+	public static SearchResponse of(
+		final List<CountrySimpleResponse> countries,
+		final List<CitySimpleResponse> cities,
+		final List<CategorySimpleResponse> categories,
+		final List<SubcategorySimpleResponse> subcategories,
+		final boolean isPartial
+	) {
+		return new SearchResponse(countries, cities, categories, subcategories, isPartial);
 	}
 }
@@ -0,0 +1,108 @@
+package taco.klkl.domain.search.service;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import taco.klkl.domain.category.dto.response.category.CategorySimpleResponse;
+import taco.klkl.domain.category.dto.response.subcategory.SubcategorySimpleResponse;
+import taco.klkl.domain.category.service.category.CategoryService;
+import taco.klkl.domain.category.service.subcategory.SubcategoryService;
+import taco.klkl.domain.region.dto.response.city.CitySimpleResponse;
+import taco.klkl.domain.region.dto.response.country.CountrySimpleResponse;
+import taco.klkl.domain.region.service.city.CityService;
+import taco.klkl.domain.region.service.country.CountryService;
+import taco.klkl.domain.search.dto.response.SearchResponse;
+import taco.klkl.global.common.constants.SearchConstants;
+
+/**
+ * 국가, 도시, 카테고리, 서브카테고리를 DB 에서 동시에 조회합니다.
+ *
+ * <p>각 조회는 검색 스레드에서 각자의 읽기 전용 트랜잭션으로 실행되므로 이 서비스는 트랜잭션을 열지 않습니다.
+ * 전체 제한 시간 안에 끝나지 않거나 실패한 대상은 빈 목록으로 두고 {@code isPartial} 을 표시합니다.
+ * 제한 시간을 넘긴 조회는 검색 스레드를 인터럽트해 취소하고, 인터럽트에 응답하지 않는 JDBC 호출은
+ * 쿼리 타임아웃으로 끊어 스레드와 커넥션이 오래 묶이지 않게 합니다.</p>
+ */
+@Slf4j
+@Primary
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.source", havingValue = "database")
+public class ParallelSearchServiceImpl implements SearchService {
+
+	private final CountryService countryService;
+	private final CityService cityService;
+	private final CategoryService categoryService;
+	private final SubcategoryService subcategoryService;
+
+	private final SearchExecutor searchExecutor;
+
+	@Override
+	public SearchResponse findSearchResult(final String queryParam) {
+		final long deadline = System.nanoTime()
+			+ TimeUnit.MILLISECONDS.toNanos(SearchConstants.SEARCH_DEADLINE_MILLIS);
+
+		final Future<List<CountrySimpleResponse>> countries =
+			searchExecutor.submit(() -> countryService.findAllCountriesByPartialString(queryParam));
+		final Future<List<CitySimpleResponse>> cities =
+			searchExecutor.submit(() -> cityService.findAllCitiesByPartialString(queryParam));
+		final Future<List<CategorySimpleResponse>> categories =
+			searchExecutor.submit(() -> categoryService.findAllCategoriesByPartialString(queryParam));
+		final Future<List<SubcategorySimpleResponse>> subcategories =
+			searchExecutor.submit(() -> subcategoryService.findAllSubcategoriesByPartialString(queryParam));
+
+		final PartialResult<List<CountrySimpleResponse>> countryResult = await(countries, deadline, "country");
+		final PartialResult<List<CitySimpleResponse>> cityResult = await(cities, deadline, "city");
+		final PartialResult<List<CategorySimpleResponse>> categoryResult = await(categories, deadline, "category");
+		final PartialResult<List<SubcategorySimpleResponse>> subcategoryResult =
+			await(subcategories, deadline, "subcategory");
+
+		return SearchResponse.of(
+			countryResult.value(),
+			cityResult.value(),
+			categoryResult.value(),
+			subcategoryResult.value(),
+			countryResult.isMissing() || cityResult.isMissing()
+				|| categoryResult.isMissing() || subcategoryResult.isMissing()
+		);
+	}
+
+	private <T> PartialResult<List<T>> await(
+		final Future<List<T>> future,
+		final long deadline,
+		final String source
+	) {
+		final long remaining = Math.max(0L, deadline - System.nanoTime());
+		try {
+			return PartialResult.of(future.get(remaining, TimeUnit.NANOSECONDS));
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			log.warn("검색 제한 시간 초과: source={}", source);
+		} catch (ExecutionException e) {
+			log.warn("검색 실패: source={}", source, e.getCause());
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+		}
+		return PartialResult.missing(List.of());
+	}
+
+	private record PartialResult<T>(T value, boolean isMissing) {
+
+		static <T> PartialResult<T> of(final T value) {
+			return new PartialResult<>(value, false);
+		}
+
+		static <T> PartialResult<T> missing(final T fallback) {
+			return new PartialResult<>(fallback, true);
+		}
+	}
+}
@@ -0,0 +1,71 @@
+package taco.klkl.domain.search.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import taco.klkl.global.common.constants.SearchConstants;
+
+/**
+ * 검색 대상별 조회를 동시에 실행하는 크기가 제한된 스레드 풀입니다.
+ * 대기열까지 가득 차면 작업을 실행하지 않고 실패한 future 를 반환합니다.
+ * 반환한 future 를 {@code cancel(true)} 하면 실행 중인 검색 스레드가 인터럽트됩니다.
+ */
+@Component
+@ConditionalOnProperty(name = "search.source", havingValue = "database")
+public class SearchExecutor implements DisposableBean {
+
+	private final ExecutorService executor;
+
+	public SearchExecutor() {
+		this(SearchConstants.SEARCH_EXECUTOR_THREADS, SearchConstants.SEARCH_EXECUTOR_QUEUE_CAPACITY);
+	}
+
+	SearchExecutor(final int threads, final int queueCapacity) {
+		this.executor = new ThreadPoolExecutor(
+			threads,
+			threads,
+			0L,
+			TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity),
+			new SearchThreadFactory(),
+			new ThreadPoolExecutor.AbortPolicy()
+		);
+	}
+
+	public <T> Future<T> submit(final Callable<T> task) {
+		try {
+			return executor.submit(task);
+		} catch (RejectedExecutionException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdownNow();
+	}
+
+	private static final class SearchThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger sequence = new AtomicInteger();
+
+		@Override
+		public Thread newThread(final Runnable runnable) {
+			final Thread thread = new Thread(runnable, "search-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
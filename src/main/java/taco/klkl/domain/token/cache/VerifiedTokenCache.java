@@ -0,0 +1,65 @@
+package taco.klkl.domain.token.cache;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.Claims;
+import taco.klkl.domain.token.domain.TokenHash;
+import taco.klkl.global.common.constants.TokenConstants;
+
+/**
+ * 서명 검증을 마친 토큰의 클레임을 토큰 해시 기준으로 보관합니다.
+ * 각 항목은 토큰의 만료 시각(exp)까지만 유효합니다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+	private final Map<String, CachedClaims> claimsByDigest = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<String, CachedClaims> eldest) {
+			return size() > TokenConstants.VERIFIED_TOKEN_CACHE_MAX_SIZE;
+		}
+	};
+
+	public Optional<Claims> find(final String token) {
+		final String digest = TokenHash.from(token);
+		synchronized (claimsByDigest) {
+			final CachedClaims cachedClaims = claimsByDigest.get(digest);
+			if (cachedClaims == null) {
+				return Optional.empty();
+			}
+			if (cachedClaims.isExpired(System.currentTimeMillis())) {
+				claimsByDigest.remove(digest);
+				return Optional.empty();
+			}
+			return Optional.of(cachedClaims.claims());
+		}
+	}
+
+	public void put(final String token, final Claims claims) {
+		final Date expiration = claims.getExpiration();
+		if (expiration == null) {
+			return;
+		}
+		final String digest = TokenHash.from(token);
+		synchronized (claimsByDigest) {
+			claimsByDigest.put(digest, new CachedClaims(claims, expiration.getTime()));
+		}
+	}
+
+	public int size() {
+		synchronized (claimsByDigest) {
+			return claimsByDigest.size();
+		}
+	}
+
+	private record CachedClaims(Claims claims, long expiresAtMillis) {
+		private boolean isExpired(final long nowMillis) {
+			return nowMillis >= expiresAtMillis;
+		}
+	}
+}
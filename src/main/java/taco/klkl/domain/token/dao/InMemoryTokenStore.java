@@ -0,0 +1,57 @@
+package taco.klkl.domain.token.dao;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import taco.klkl.domain.token.domain.Token;
+import taco.klkl.domain.token.domain.TokenHash;
+
+/**
+ * 단일 노드 배포용 메모리 토큰 저장소입니다.
+ * 애플리케이션이 재시작되면 저장된 토큰이 사라지므로 다시 로그인해야 합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "token.store", havingValue = "memory")
+public class InMemoryTokenStore implements TokenStore {
+
+	private final Map<String, Token> tokensByName = new HashMap<>();
+	private final Map<String, Token> tokensByAccessTokenHash = new HashMap<>();
+
+	@Override
+	public synchronized void saveOrUpdate(final String name, final String refreshToken, final String accessToken) {
+		final Token existingToken = tokensByName.get(name);
+		if (existingToken == null) {
+			final Token newToken = Token.of(name, refreshToken, accessToken);
+			tokensByName.put(name, newToken);
+			tokensByAccessTokenHash.put(newToken.getAccessTokenHash(), newToken);
+			return;
+		}
+		tokensByAccessTokenHash.remove(existingToken.getAccessTokenHash());
+		existingToken.update(refreshToken, accessToken);
+		tokensByAccessTokenHash.put(existingToken.getAccessTokenHash(), existingToken);
+	}
+
+	@Override
+	public synchronized Optional<Token> findByAccessToken(final String accessToken) {
+		return Optional.ofNullable(tokensByAccessTokenHash.get(TokenHash.from(accessToken)));
+	}
+
+	@Override
+	public synchronized void updateAccessToken(final Token token, final String accessToken) {
+		tokensByAccessTokenHash.remove(token.getAccessTokenHash());
+		token.update(token.getRefreshToken(), accessToken);
+		tokensByAccessTokenHash.put(token.getAccessTokenHash(), token);
+	}
+
+	@Override
+	public synchronized void deleteByName(final String name) {
+		final Token removedToken = tokensByName.remove(name);
+		if (removedToken != null) {
+			tokensByAccessTokenHash.remove(removedToken.getAccessTokenHash());
+		}
+	}
+}
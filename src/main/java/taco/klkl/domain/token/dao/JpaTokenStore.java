@@ -0,0 +1,45 @@
+package taco.klkl.domain.token.dao;
+
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import taco.klkl.domain.token.domain.Token;
+import taco.klkl.domain.token.domain.TokenHash;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "token.store", havingValue = "jpa", matchIfMissing = true)
+public class JpaTokenStore implements TokenStore {
+
+	private final TokenRepository tokenRepository;
+
+	@Override
+	public void saveOrUpdate(final String name, final String refreshToken, final String accessToken) {
+		tokenRepository.findByName(name)
+			.ifPresentOrElse(
+				existingToken -> existingToken.update(refreshToken, accessToken), () -> {
+					Token newToken = Token.of(name, refreshToken, accessToken);
+					tokenRepository.save(newToken);
+				}
+			);
+	}
+
+	@Override
+	public Optional<Token> findByAccessToken(final String accessToken) {
+		return tokenRepository.findByAccessTokenHash(TokenHash.from(accessToken));
+	}
+
+	@Override
+	public void updateAccessToken(final Token token, final String accessToken) {
+		token.update(token.getRefreshToken(), accessToken);
+		tokenRepository.save(token);
+	}
+
+	@Override
+	public void deleteByName(final String name) {
+		tokenRepository.deleteByName(name);
+	}
+}
@@ -12,7 +12,7 @@ public interface TokenRepository extends JpaRepository<Token, Long> {
 
 	Optional<Token> findByName(final String name);
 
-	Optional<Token> findByAccessToken(final String accessToken);
+	Optional<Token> findByAccessTokenHash(final String accessTokenHash);
 
 	void deleteByName(final String name);
 }
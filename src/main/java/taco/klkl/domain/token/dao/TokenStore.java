@@ -0,0 +1,20 @@
+package taco.klkl.domain.token.dao;
+
+import java.util.Optional;
+
+import taco.klkl.domain.token.domain.Token;
+
+/**
+ * 리프레시 토큰 저장소입니다. 액세스 토큰은 고정 길이 해시로만 조회합니다.
+ * token.store 설정으로 구현체를 고르며 기본값은 jpa 입니다.
+ */
+public interface TokenStore {
+
+	void saveOrUpdate(final String name, final String refreshToken, final String accessToken);
+
+	Optional<Token> findByAccessToken(final String accessToken);
+
+	void updateAccessToken(final Token token, final String accessToken);
+
+	void deleteByName(final String name);
+}
@@ -1,15 +1,24 @@
 package taco.klkl.domain.token.domain;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
 @Entity(name = "token")
+@Table(
+	indexes = {
+		@Index(name = "idx_token_name", columnList = "name"),
+		@Index(name = "idx_token_access_token_hash", columnList = "access_token_hash", unique = true)
+	}
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Token {
 
@@ -21,7 +30,8 @@ public class Token {
 
 	private String refreshToken;
 
-	private String accessToken;
+	@Column(name = "access_token_hash", length = TokenHash.LENGTH)
+	private String accessTokenHash;
 
 	private Token(
 		final String name,
@@ -30,7 +40,7 @@ public class Token {
 	) {
 		this.name = name;
 		this.refreshToken = refreshToken;
-		this.accessToken = accessToken;
+		this.accessTokenHash = TokenHash.from(accessToken);
 	}
 
 	public static Token of(
@@ -46,6 +56,6 @@ public class Token {
 		final String accessToken
 	) {
 		this.refreshToken = refreshToken;
-		this.accessToken = accessToken;
+		this.accessTokenHash = TokenHash.from(accessToken);
 	}
 }
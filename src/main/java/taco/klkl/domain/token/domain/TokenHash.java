@@ -0,0 +1,27 @@
+package taco.klkl.domain.token.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 토큰 문자열을 고정 길이(43자)의 SHA-256 해시로 변환합니다.
+ */
+public final class TokenHash {
+
+	public static final int LENGTH = 43;
+
+	private TokenHash() {
+	}
+
+	public static String from(final String token) {
+		try {
+			final byte[] hash = MessageDigest.getInstance("SHA-256")
+				.digest(token.getBytes(StandardCharsets.UTF_8));
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
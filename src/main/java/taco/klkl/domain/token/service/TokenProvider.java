@@ -3,6 +3,7 @@ package taco.klkl.domain.token.service;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import javax.crypto.SecretKey;
@@ -19,10 +20,12 @@ import org.springframework.util.StringUtils;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import taco.klkl.domain.token.cache.VerifiedTokenCache;
 import taco.klkl.domain.token.domain.Token;
 import taco.klkl.domain.token.exception.TokenExpiredException;
 import taco.klkl.domain.token.exception.TokenGenerationFailedException;
@@ -45,11 +48,15 @@ public class TokenProvider {
 
 	private SecretKey secretKey;
 
+	private JwtParser jwtParser;
+
 	private final TokenService tokenService;
+	private final VerifiedTokenCache verifiedTokenCache;
 
 	@PostConstruct
 	protected void setSecretKey() {
 		secretKey = Keys.hmacShaKeyFor(key.getBytes());
+		jwtParser = Jwts.parser().verifyWith(secretKey).build();
 	}
 
 	public String generateAccessToken(final Authentication authentication) {
@@ -62,25 +69,34 @@ public class TokenProvider {
 	}
 
 	public Authentication getAuthentication(final String token) {
-		Claims claims = parseClaims(token);
+		return getAuthentication(token, parseClaims(token));
+	}
+
+	/**
+	 * 이미 검증한 클레임으로 인증 정보를 만듭니다. 토큰을 다시 파싱하지 않습니다.
+	 */
+	public Authentication getAuthentication(final String token, final Claims claims) {
 		List<SimpleGrantedAuthority> authorities = getAuthorities(claims);
 
 		User principal = new User(claims.getSubject(), "", authorities);
 		return new UsernamePasswordAuthenticationToken(principal, token, authorities);
 	}
 
+	/**
+	 * 만료된 액세스 토큰의 해시로 리프레시 토큰을 찾아 새 액세스 토큰을 발급합니다.
+	 * 리프레시 토큰도 만료되었거나 저장된 토큰이 없으면 예외를 던집니다.
+	 */
 	public String reissueAccessToken(final String accessToken) {
-		if (StringUtils.hasText(accessToken)) {
-			Token token = tokenService.findByAccessTokenOrThrow(accessToken);
-			String refreshToken = token.getRefreshToken();
-
-			if (validateToken(refreshToken)) {
-				String reissueAccessToken = generateAccessToken(getAuthentication(refreshToken));
-				tokenService.updateToken(reissueAccessToken, token);
-				return reissueAccessToken;
-			}
+		if (!StringUtils.hasText(accessToken)) {
+			throw new TokenInvalidException();
 		}
-		return null;
+		final Token token = tokenService.findByAccessTokenOrThrow(accessToken);
+		final String refreshToken = token.getRefreshToken();
+		final Claims refreshClaims = validateAndGetClaims(refreshToken);
+
+		final String reissuedAccessToken = generateAccessToken(getAuthentication(refreshToken, refreshClaims));
+		tokenService.updateToken(reissuedAccessToken, token);
+		return reissuedAccessToken;
 	}
 
 	private String generateToken(final Authentication authentication, final int expirationInMs) {
@@ -112,12 +128,26 @@ public class TokenProvider {
 	}
 
 	public boolean validateToken(final String token) {
+		validateAndGetClaims(token);
+		return true;
+	}
+
+	/**
+	 * 토큰을 한 번만 파싱해 서명과 만료를 검증하고 클레임을 반환합니다.
+	 * 최근에 검증한 토큰은 만료 시각까지 캐시된 클레임을 그대로 사용합니다.
+	 */
+	public Claims validateAndGetClaims(final String token) {
 		if (!StringUtils.hasText(token)) {
 			throw new TokenInvalidException();
 		}
+		final Optional<Claims> cachedClaims = verifiedTokenCache.find(token);
+		if (cachedClaims.isPresent()) {
+			return cachedClaims.get();
+		}
 		try {
-			Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
-			return true;
+			final Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+			verifiedTokenCache.put(token, claims);
+			return claims;
 		} catch (ExpiredJwtException e) {
 			throw new TokenExpiredException();
 		} catch (JwtException | IllegalArgumentException e) {
@@ -127,8 +157,7 @@ public class TokenProvider {
 
 	private Claims parseClaims(final String token) {
 		try {
-			return Jwts.parser().verifyWith(secretKey).build()
-					.parseSignedClaims(token).getPayload();
+			return jwtParser.parseSignedClaims(token).getPayload();
 		} catch (ExpiredJwtException e) {
 			return e.getClaims();
 		} catch (JwtException | IllegalArgumentException e) {
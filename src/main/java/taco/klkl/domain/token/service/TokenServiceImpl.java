@@ -6,7 +6,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import taco.klkl.domain.token.dao.TokenRepository;
+import taco.klkl.domain.token.dao.TokenStore;
 import taco.klkl.domain.token.domain.Token;
 import taco.klkl.domain.token.exception.TokenInvalidException;
 
@@ -17,35 +17,29 @@ import taco.klkl.domain.token.exception.TokenInvalidException;
 @RequiredArgsConstructor
 public class TokenServiceImpl implements TokenService {
 
-	private final TokenRepository tokenRepository;
+	private final TokenStore tokenStore;
 
 	@Override
 	@Transactional
 	public void saveOrUpdate(final String name, final String refreshToken, final String accessToken) {
-		tokenRepository.findByName(name)
-			.ifPresentOrElse(
-				existingToken -> existingToken.update(refreshToken, accessToken), () -> {
-					Token newToken = Token.of(name, refreshToken, accessToken);
-					tokenRepository.save(newToken);
-				}
-			);
+		tokenStore.saveOrUpdate(name, refreshToken, accessToken);
 	}
 
 	@Override
 	public Token findByAccessTokenOrThrow(final String accessToken) {
-		return tokenRepository.findByAccessToken(accessToken)
+		return tokenStore.findByAccessToken(accessToken)
 			.orElseThrow(TokenInvalidException::new);
 	}
 
 	@Override
 	@Transactional
 	public void updateToken(final String accessToken, final Token token) {
-		token.update(token.getRefreshToken(), accessToken);
+		tokenStore.updateAccessToken(token, accessToken);
 	}
 
 	@Override
 	@Transactional
 	public void deleteToken(final String name) {
-		tokenRepository.deleteByName(name);
+		tokenStore.deleteByName(name);
 	}
 }
@@ -0,0 +1,68 @@
+package taco.klkl.global.catalog;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import taco.klkl.domain.category.dto.response.category.CategoryDetailResponse;
+import taco.klkl.domain.region.dto.response.region.RegionResponse;
+import taco.klkl.global.common.response.GlobalResponse;
+import taco.klkl.global.common.response.PreSerializedResponse;
+
+/**
+ * 지역/분류 계층 응답을 GlobalResponse 로 감싼 JSON 바이트로 미리 만들어 둡니다.
+ * 카탈로그가 다시 적재될 때마다 새로 만들며, 응답의 timestamp 는 생성 시각입니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "catalog.hierarchy.pre-serialized", havingValue = "true")
+public class HierarchyResponseCache {
+
+	private final ReferenceCatalogProvider referenceCatalogProvider;
+	private final ObjectMapper objectMapper;
+
+	private volatile PreSerializedResponse regionHierarchy;
+	private volatile PreSerializedResponse categoryHierarchy;
+
+	public PreSerializedResponse getRegionHierarchy() {
+		if (regionHierarchy == null) {
+			rebuild(referenceCatalogProvider.getCatalog());
+		}
+		return regionHierarchy;
+	}
+
+	public PreSerializedResponse getCategoryHierarchy() {
+		if (categoryHierarchy == null) {
+			rebuild(referenceCatalogProvider.getCatalog());
+		}
+		return categoryHierarchy;
+	}
+
+	@EventListener
+	public void onCatalogReloaded(final ReferenceCatalogReloadedEvent event) {
+		rebuild(event.catalog());
+	}
+
+	private synchronized void rebuild(final ReferenceCatalog catalog) {
+		regionHierarchy = serialize(catalog.getRegions().stream()
+			.map(RegionResponse::from)
+			.toList());
+		categoryHierarchy = serialize(catalog.getCategories().stream()
+			.map(CategoryDetailResponse::from)
+			.toList());
+	}
+
+	private PreSerializedResponse serialize(final Object data) {
+		try {
+			final GlobalResponse response = GlobalResponse.ok(HttpStatus.OK.value(), data);
+			return PreSerializedResponse.from(objectMapper.writeValueAsBytes(response));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
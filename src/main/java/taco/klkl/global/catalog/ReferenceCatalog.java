@@ -0,0 +1,183 @@
+package taco.klkl.global.catalog;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import taco.klkl.domain.category.domain.category.Category;
+import taco.klkl.domain.category.domain.subcategory.Subcategory;
+import taco.klkl.domain.category.domain.tag.Tag;
+import taco.klkl.domain.region.domain.city.City;
+import taco.klkl.domain.region.domain.country.Country;
+import taco.klkl.domain.region.domain.currency.Currency;
+import taco.klkl.domain.region.domain.region.Region;
+import taco.klkl.global.common.collection.LongKeyedMap;
+
+/**
+ * 지역(region → country → city, currency)과 분류(category → subcategory → tag) 기준 정보의 불변 스냅샷입니다.
+ * 보관하는 엔티티는 계층 전체가 초기화된 준영속 상태이므로 읽기 전용으로만 사용해야 합니다.
+ */
+public class ReferenceCatalog {
+
+	private final List<Region> regions;
+	private final List<Category> categories;
+
+	private final LongKeyedMap<Region> regionsById;
+	private final LongKeyedMap<Country> countriesById;
+	private final LongKeyedMap<City> citiesById;
+	private final LongKeyedMap<Currency> currenciesById;
+	private final LongKeyedMap<Category> categoriesById;
+	private final LongKeyedMap<Subcategory> subcategoriesById;
+	private final LongKeyedMap<Tag> tagsById;
+
+	private ReferenceCatalog(
+		final List<Region> regions,
+		final List<Country> countries,
+		final List<Currency> currencies,
+		final List<Category> categories,
+		final List<Subcategory> subcategories,
+		final List<Tag> tags
+	) {
+		this.regions = List.copyOf(regions);
+		this.categories = List.copyOf(categories);
+		this.regionsById = LongKeyedMap.from(regions, Region::getId);
+		this.countriesById = LongKeyedMap.from(countries, Country::getId);
+		this.citiesById = LongKeyedMap.from(
+			countries.stream()
+				.flatMap(country -> country.getCities().stream())
+				.toList(),
+			City::getId
+		);
+		this.currenciesById = LongKeyedMap.from(currencies, Currency::getId);
+		this.categoriesById = LongKeyedMap.from(categories, Category::getId);
+		this.subcategoriesById = LongKeyedMap.from(subcategories, Subcategory::getId);
+		this.tagsById = LongKeyedMap.from(tags, Tag::getId);
+	}
+
+	public static ReferenceCatalog of(
+		final List<Region> regions,
+		final List<Country> countries,
+		final List<Currency> currencies,
+		final List<Category> categories,
+		final List<Subcategory> subcategories,
+		final List<Tag> tags
+	) {
+		return new ReferenceCatalog(regions, countries, currencies, categories, subcategories, tags);
+	}
+
+	public List<Region> getRegions() {
+		return regions;
+	}
+
+	public List<Category> getCategories() {
+		return categories;
+	}
+
+	public List<Country> getCountries() {
+		return countriesById.values();
+	}
+
+	public List<City> getCities() {
+		return citiesById.values();
+	}
+
+	public List<Currency> getCurrencies() {
+		return currenciesById.values();
+	}
+
+	public List<Subcategory> getSubcategories() {
+		return subcategoriesById.values();
+	}
+
+	public List<Tag> getTags() {
+		return tagsById.values();
+	}
+
+	public Optional<Region> findRegionById(final Long id) {
+		return find(regionsById, id);
+	}
+
+	public Optional<Country> findCountryById(final Long id) {
+		return find(countriesById, id);
+	}
+
+	public Optional<City> findCityById(final Long id) {
+		return find(citiesById, id);
+	}
+
+	public Optional<Currency> findCurrencyById(final Long id) {
+		return find(currenciesById, id);
+	}
+
+	public Optional<Category> findCategoryById(final Long id) {
+		return find(categoriesById, id);
+	}
+
+	public Optional<Subcategory> findSubcategoryById(final Long id) {
+		return find(subcategoriesById, id);
+	}
+
+	public Optional<Tag> findTagById(final Long id) {
+		return find(tagsById, id);
+	}
+
+	public Set<Long> findMissingCityIds(final Collection<Long> ids) {
+		return findMissingIds(citiesById, ids);
+	}
+
+	public Set<Long> findMissingSubcategoryIds(final Collection<Long> ids) {
+		return findMissingIds(subcategoriesById, ids);
+	}
+
+	public Set<Long> findMissingTagIds(final Collection<Long> ids) {
+		return findMissingIds(tagsById, ids);
+	}
+
+	/**
+	 * 주어진 도시들이 속한 국가의 수를 셉니다. 존재하지 않는 도시는 무시합니다.
+	 */
+	public long countCountriesOfCities(final Collection<Long> cityIds) {
+		return cityIds.stream()
+			.map(this::findCityById)
+			.flatMap(Optional::stream)
+			.mapToLong(city -> city.getCountry().getId())
+			.distinct()
+			.count();
+	}
+
+	/**
+	 * 주어진 도시들이 한 국가의 도시 전체와 정확히 일치하면 그 국가를 반환합니다.
+	 */
+	public Optional<Country> findCountryCoveredByCities(final Collection<Long> cityIds) {
+		if (cityIds.isEmpty() || countCountriesOfCities(cityIds) != 1 || !findMissingCityIds(cityIds).isEmpty()) {
+			return Optional.empty();
+		}
+		final Country country = findCityById(cityIds.iterator().next())
+			.map(City::getCountry)
+			.orElseThrow();
+		final Set<Long> countryCityIds = country.getCities().stream()
+			.map(City::getId)
+			.collect(Collectors.toSet());
+		return countryCityIds.equals(Set.copyOf(cityIds)) ? Optional.of(country) : Optional.empty();
+	}
+
+	private static Set<Long> findMissingIds(final LongKeyedMap<?> map, final Collection<Long> ids) {
+		final Set<Long> missingIds = new TreeSet<>();
+		for (final Long id : ids) {
+			if (id != null && !map.containsKey(id)) {
+				missingIds.add(id);
+			}
+		}
+		return missingIds;
+	}
+
+	private static <T> Optional<T> find(final LongKeyedMap<T> map, final Long id) {
+		if (id == null) {
+			return Optional.empty();
+		}
+		return Optional.ofNullable(map.get(id));
+	}
+}
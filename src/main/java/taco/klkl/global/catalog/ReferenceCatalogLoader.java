@@ -0,0 +1,47 @@
+package taco.klkl.global.catalog;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import taco.klkl.domain.category.dao.category.CategoryRepository;
+import taco.klkl.domain.category.dao.subcategory.SubcategoryRepository;
+import taco.klkl.domain.category.dao.tag.TagRepository;
+import taco.klkl.domain.category.domain.category.Category;
+import taco.klkl.domain.category.domain.subcategory.Subcategory;
+import taco.klkl.domain.category.domain.tag.Tag;
+import taco.klkl.domain.region.dao.country.CountryRepository;
+import taco.klkl.domain.region.dao.currency.CurrencyRepository;
+import taco.klkl.domain.region.dao.region.RegionRepository;
+import taco.klkl.domain.region.domain.country.Country;
+import taco.klkl.domain.region.domain.currency.Currency;
+import taco.klkl.domain.region.domain.region.Region;
+
+@Component
+@RequiredArgsConstructor
+public class ReferenceCatalogLoader {
+
+	private final CurrencyRepository currencyRepository;
+	private final CountryRepository countryRepository;
+	private final RegionRepository regionRepository;
+	private final TagRepository tagRepository;
+	private final SubcategoryRepository subcategoryRepository;
+	private final CategoryRepository categoryRepository;
+
+	/**
+	 * 하나의 영속성 컨텍스트 안에서 계층을 아래에서 위로 적재해
+	 * 트랜잭션이 끝난 뒤에도 모든 연관관계가 초기화된 상태로 남도록 합니다.
+	 */
+	@Transactional(readOnly = true)
+	public ReferenceCatalog load() {
+		final List<Currency> currencies = currencyRepository.findAll();
+		final List<Country> countries = countryRepository.findAllWithCities();
+		final List<Region> regions = regionRepository.findAllWithCountries();
+		final List<Tag> tags = tagRepository.findAll();
+		final List<Subcategory> subcategories = subcategoryRepository.findAllWithTags();
+		final List<Category> categories = categoryRepository.findAllWithSubcategories();
+		return ReferenceCatalog.of(regions, countries, currencies, categories, subcategories, tags);
+	}
+}
@@ -0,0 +1,52 @@
+package taco.klkl.global.catalog;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReferenceCatalogProvider {
+
+	private final ReferenceCatalogLoader referenceCatalogLoader;
+	private final ApplicationEventPublisher eventPublisher;
+
+	private volatile ReferenceCatalog catalog;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void initialize() {
+		if (catalog == null) {
+			reload();
+		}
+	}
+
+	public ReferenceCatalog getCatalog() {
+		final ReferenceCatalog current = catalog;
+		if (current != null) {
+			return current;
+		}
+		synchronized (this) {
+			if (catalog == null) {
+				return reload();
+			}
+			return catalog;
+		}
+	}
+
+	/**
+	 * 기준 정보를 다시 적재하고 카탈로그를 교체합니다.
+	 * 시드 데이터를 변경한 뒤 호출해야 합니다.
+	 */
+	public synchronized ReferenceCatalog reload() {
+		final ReferenceCatalog loaded = referenceCatalogLoader.load();
+		catalog = loaded;
+		log.info("기준 정보 카탈로그 적재 완료: cities={}, tags={}", loaded.getCities().size(), loaded.getTags().size());
+		eventPublisher.publishEvent(new ReferenceCatalogReloadedEvent(loaded));
+		return loaded;
+	}
+}
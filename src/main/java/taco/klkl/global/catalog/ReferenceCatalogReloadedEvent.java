@@ -0,0 +1,9 @@
+package taco.klkl.global.catalog;
+
+/**
+ * 기준 정보 카탈로그가 새로 적재되었을 때 발행되는 이벤트입니다.
+ */
+public record ReferenceCatalogReloadedEvent(
+	ReferenceCatalog catalog
+) {
+}
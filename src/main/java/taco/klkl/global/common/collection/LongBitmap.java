@@ -0,0 +1,489 @@
+package taco.klkl.global.common.collection;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * long ID 집합을 압축해 보관하는 Roaring 방식의 비트맵입니다.
+ * ID 의 상위 비트로 컨테이너를 나누고, 하위 16 비트는 원소 수에 따라
+ * 정렬된 배열 또는 65536 비트의 비트맵 컨테이너에 저장하므로 ID 의 최댓값이 아닌 원소 수에 비례해 메모리를 씁니다.
+ *
+ * <p>교집합과 합집합은 입력을 바꾸지 않고 새 비트맵을 반환합니다.
+ * 스레드 안전하지 않으므로 여러 스레드가 공유할 때는 호출하는 쪽에서 잠금으로 보호해야 합니다.</p>
+ */
+public final class LongBitmap {
+
+	private static final int LOW_BITS = 16;
+	private static final int ARRAY_CONTAINER_MAX_SIZE = 4096;
+	private static final int BITMAP_WORDS = (1 << LOW_BITS) / Long.SIZE;
+	private static final long OBJECT_OVERHEAD_BYTES = 16L;
+
+	private long[] keys;
+	private Container[] containers;
+
+	private LongBitmap(final long[] keys, final Container[] containers) {
+		this.keys = keys;
+		this.containers = containers;
+	}
+
+	public static LongBitmap empty() {
+		return new LongBitmap(new long[0], new Container[0]);
+	}
+
+	public static LongBitmap from(final Collection<Long> ids) {
+		final LongBitmap bitmap = empty();
+		ids.forEach(bitmap::add);
+		return bitmap;
+	}
+
+	public boolean contains(final long id) {
+		final int index = Arrays.binarySearch(keys, highBits(id));
+		return index >= 0 && containers[index].contains(lowBits(id));
+	}
+
+	public boolean add(final long id) {
+		final long key = highBits(id);
+		int index = Arrays.binarySearch(keys, key);
+		if (index < 0) {
+			index = -index - 1;
+			insertContainer(index, key, new ArrayContainer());
+		}
+		final Container container = containers[index];
+		final int before = container.cardinality();
+		containers[index] = container.add(lowBits(id));
+		return containers[index].cardinality() != before;
+	}
+
+	public boolean remove(final long id) {
+		final int index = Arrays.binarySearch(keys, highBits(id));
+		if (index < 0) {
+			return false;
+		}
+		final Container container = containers[index];
+		final int before = container.cardinality();
+		final Container updated = container.remove(lowBits(id));
+		if (updated.cardinality() == 0) {
+			removeContainer(index);
+		} else {
+			containers[index] = updated;
+		}
+		return updated.cardinality() != before;
+	}
+
+	public long cardinality() {
+		long cardinality = 0L;
+		for (final Container container : containers) {
+			cardinality += container.cardinality();
+		}
+		return cardinality;
+	}
+
+	public boolean isEmpty() {
+		return keys.length == 0;
+	}
+
+	public LongBitmap and(final LongBitmap other) {
+		final int capacity = Math.min(keys.length, other.keys.length);
+		final long[] resultKeys = new long[capacity];
+		final Container[] resultContainers = new Container[capacity];
+		int size = 0;
+		int i = 0;
+		int j = 0;
+		while (i < keys.length && j < other.keys.length) {
+			if (keys[i] < other.keys[j]) {
+				i++;
+			} else if (keys[i] > other.keys[j]) {
+				j++;
+			} else {
+				final Container container = containers[i].and(other.containers[j]);
+				if (container.cardinality() > 0) {
+					resultKeys[size] = keys[i];
+					resultContainers[size] = container;
+					size++;
+				}
+				i++;
+				j++;
+			}
+		}
+		return new LongBitmap(Arrays.copyOf(resultKeys, size), Arrays.copyOf(resultContainers, size));
+	}
+
+	public LongBitmap or(final LongBitmap other) {
+		final int capacity = keys.length + other.keys.length;
+		final long[] resultKeys = new long[capacity];
+		final Container[] resultContainers = new Container[capacity];
+		int size = 0;
+		int i = 0;
+		int j = 0;
+		while (i < keys.length || j < other.keys.length) {
+			if (j == other.keys.length || (i < keys.length && keys[i] < other.keys[j])) {
+				resultKeys[size] = keys[i];
+				resultContainers[size] = containers[i].copy();
+				i++;
+			} else if (i == keys.length || keys[i] > other.keys[j]) {
+				resultKeys[size] = other.keys[j];
+				resultContainers[size] = other.containers[j].copy();
+				j++;
+			} else {
+				resultKeys[size] = keys[i];
+				resultContainers[size] = containers[i].or(other.containers[j]);
+				i++;
+				j++;
+			}
+			size++;
+		}
+		return new LongBitmap(Arrays.copyOf(resultKeys, size), Arrays.copyOf(resultContainers, size));
+	}
+
+	/**
+	 * 교집합을 만들지 않고 그 크기만 셉니다.
+	 */
+	public long andCardinality(final LongBitmap other) {
+		long cardinality = 0L;
+		int i = 0;
+		int j = 0;
+		while (i < keys.length && j < other.keys.length) {
+			if (keys[i] < other.keys[j]) {
+				i++;
+			} else if (keys[i] > other.keys[j]) {
+				j++;
+			} else {
+				cardinality += containers[i].andCardinality(other.containers[j]);
+				i++;
+				j++;
+			}
+		}
+		return cardinality;
+	}
+
+	/**
+	 * 원소를 오름차순으로 순회합니다.
+	 */
+	public void forEach(final LongConsumer action) {
+		for (int i = 0; i < keys.length; i++) {
+			final long high = keys[i] << LOW_BITS;
+			containers[i].forEach(low -> action.accept(high | low));
+		}
+	}
+
+	/**
+	 * 메모리 예산 계산에 쓰이는 대략적인 점유 바이트 수입니다.
+	 */
+	public long sizeInBytes() {
+		long bytes = OBJECT_OVERHEAD_BYTES + (long)keys.length * Long.BYTES;
+		for (final Container container : containers) {
+			bytes += container.sizeInBytes();
+		}
+		return bytes;
+	}
+
+	private void insertContainer(final int index, final long key, final Container container) {
+		final int length = keys.length;
+		final long[] newKeys = new long[length + 1];
+		final Container[] newContainers = new Container[length + 1];
+		System.arraycopy(keys, 0, newKeys, 0, index);
+		System.arraycopy(containers, 0, newContainers, 0, index);
+		newKeys[index] = key;
+		newContainers[index] = container;
+		System.arraycopy(keys, index, newKeys, index + 1, length - index);
+		System.arraycopy(containers, index, newContainers, index + 1, length - index);
+		keys = newKeys;
+		containers = newContainers;
+	}
+
+	private void removeContainer(final int index) {
+		final int length = keys.length;
+		final long[] newKeys = new long[length - 1];
+		final Container[] newContainers = new Container[length - 1];
+		System.arraycopy(keys, 0, newKeys, 0, index);
+		System.arraycopy(containers, 0, newContainers, 0, index);
+		System.arraycopy(keys, index + 1, newKeys, index, length - index - 1);
+		System.arraycopy(containers, index + 1, newContainers, index, length - index - 1);
+		keys = newKeys;
+		containers = newContainers;
+	}
+
+	private static long highBits(final long id) {
+		return id >>> LOW_BITS;
+	}
+
+	private static char lowBits(final long id) {
+		return (char)id;
+	}
+
+	private interface Container {
+
+		boolean contains(char value);
+
+		Container add(char value);
+
+		Container remove(char value);
+
+		Container and(Container other);
+
+		Container or(Container other);
+
+		int andCardinality(Container other);
+
+		Container copy();
+
+		void forEach(IntConsumer action);
+
+		int cardinality();
+
+		long sizeInBytes();
+	}
+
+	private static final class ArrayContainer implements Container {
+
+		private char[] values;
+		private int cardinality;
+
+		private ArrayContainer() {
+			this(new char[4], 0);
+		}
+
+		private ArrayContainer(final char[] values, final int cardinality) {
+			this.values = values;
+			this.cardinality = cardinality;
+		}
+
+		@Override
+		public boolean contains(final char value) {
+			return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+		}
+
+		@Override
+		public Container add(final char value) {
+			int index = Arrays.binarySearch(values, 0, cardinality, value);
+			if (index >= 0) {
+				return this;
+			}
+			if (cardinality == ARRAY_CONTAINER_MAX_SIZE) {
+				return toBitmapContainer().add(value);
+			}
+			index = -index - 1;
+			if (cardinality == values.length) {
+				values = Arrays.copyOf(values, Math.min(values.length * 2, ARRAY_CONTAINER_MAX_SIZE));
+			}
+			System.arraycopy(values, index, values, index + 1, cardinality - index);
+			values[index] = value;
+			cardinality++;
+			return this;
+		}
+
+		@Override
+		public Container remove(final char value) {
+			final int index = Arrays.binarySearch(values, 0, cardinality, value);
+			if (index < 0) {
+				return this;
+			}
+			System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+			cardinality--;
+			if (values.length > 4 && cardinality < values.length / 4) {
+				values = Arrays.copyOf(values, values.length / 2);
+			}
+			return this;
+		}
+
+		@Override
+		public Container and(final Container other) {
+			final char[] result = new char[cardinality];
+			int size = 0;
+			for (int i = 0; i < cardinality; i++) {
+				if (other.contains(values[i])) {
+					result[size++] = values[i];
+				}
+			}
+			return new ArrayContainer(result, size);
+		}
+
+		@Override
+		public Container or(final Container other) {
+			if (other instanceof BitmapContainer) {
+				return other.or(this);
+			}
+			final ArrayContainer otherArray = (ArrayContainer)other;
+			final char[] merged = new char[cardinality + otherArray.cardinality];
+			int size = 0;
+			int i = 0;
+			int j = 0;
+			while (i < cardinality || j < otherArray.cardinality) {
+				if (j == otherArray.cardinality || (i < cardinality && values[i] < otherArray.values[j])) {
+					merged[size++] = values[i++];
+				} else if (i == cardinality || values[i] > otherArray.values[j]) {
+					merged[size++] = otherArray.values[j++];
+				} else {
+					merged[size++] = values[i++];
+					j++;
+				}
+			}
+			final ArrayContainer result = new ArrayContainer(merged, size);
+			return size > ARRAY_CONTAINER_MAX_SIZE ? result.toBitmapContainer() : result;
+		}
+
+		@Override
+		public int andCardinality(final Container other) {
+			int count = 0;
+			for (int i = 0; i < cardinality; i++) {
+				if (other.contains(values[i])) {
+					count++;
+				}
+			}
+			return count;
+		}
+
+		@Override
+		public Container copy() {
+			return new ArrayContainer(Arrays.copyOf(values, Math.max(cardinality, 4)), cardinality);
+		}
+
+		@Override
+		public void forEach(final IntConsumer action) {
+			for (int i = 0; i < cardinality; i++) {
+				action.accept(values[i]);
+			}
+		}
+
+		@Override
+		public int cardinality() {
+			return cardinality;
+		}
+
+		@Override
+		public long sizeInBytes() {
+			return OBJECT_OVERHEAD_BYTES + (long)values.length * Character.BYTES;
+		}
+
+		private BitmapContainer toBitmapContainer() {
+			final BitmapContainer bitmapContainer = new BitmapContainer();
+			for (int i = 0; i < cardinality; i++) {
+				bitmapContainer.add(values[i]);
+			}
+			return bitmapContainer;
+		}
+	}
+
+	private static final class BitmapContainer implements Container {
+
+		private final long[] words;
+		private int cardinality;
+
+		private BitmapContainer() {
+			this(new long[BITMAP_WORDS], 0);
+		}
+
+		private BitmapContainer(final long[] words, final int cardinality) {
+			this.words = words;
+			this.cardinality = cardinality;
+		}
+
+		@Override
+		public boolean contains(final char value) {
+			return (words[value >>> 6] & (1L << value)) != 0;
+		}
+
+		@Override
+		public Container add(final char value) {
+			final long word = words[value >>> 6];
+			final long updated = word | (1L << value);
+			if (word != updated) {
+				words[value >>> 6] = updated;
+				cardinality++;
+			}
+			return this;
+		}
+
+		@Override
+		public Container remove(final char value) {
+			final long word = words[value >>> 6];
+			final long updated = word & ~(1L << value);
+			if (word == updated) {
+				return this;
+			}
+			words[value >>> 6] = updated;
+			cardinality--;
+			return cardinality <= ARRAY_CONTAINER_MAX_SIZE ? toArrayContainer() : this;
+		}
+
+		@Override
+		public Container and(final Container other) {
+			if (other instanceof ArrayContainer) {
+				return other.and(this);
+			}
+			final long[] otherWords = ((BitmapContainer)other).words;
+			final long[] result = new long[BITMAP_WORDS];
+			int count = 0;
+			for (int i = 0; i < BITMAP_WORDS; i++) {
+				result[i] = words[i] & otherWords[i];
+				count += Long.bitCount(result[i]);
+			}
+			final BitmapContainer container = new BitmapContainer(result, count);
+			return count <= ARRAY_CONTAINER_MAX_SIZE ? container.toArrayContainer() : container;
+		}
+
+		@Override
+		public Container or(final Container other) {
+			final BitmapContainer result = new BitmapContainer(words.clone(), cardinality);
+			if (other instanceof BitmapContainer otherBitmap) {
+				int count = 0;
+				for (int i = 0; i < BITMAP_WORDS; i++) {
+					result.words[i] |= otherBitmap.words[i];
+					count += Long.bitCount(result.words[i]);
+				}
+				result.cardinality = count;
+				return result;
+			}
+			other.forEach(value -> result.add((char)value));
+			return result;
+		}
+
+		@Override
+		public int andCardinality(final Container other) {
+			if (other instanceof ArrayContainer) {
+				return other.andCardinality(this);
+			}
+			final long[] otherWords = ((BitmapContainer)other).words;
+			int count = 0;
+			for (int i = 0; i < BITMAP_WORDS; i++) {
+				count += Long.bitCount(words[i] & otherWords[i]);
+			}
+			return count;
+		}
+
+		@Override
+		public Container copy() {
+			return new BitmapContainer(words.clone(), cardinality);
+		}
+
+		@Override
+		public void forEach(final IntConsumer action) {
+			for (int i = 0; i < BITMAP_WORDS; i++) {
+				long word = words[i];
+				while (word != 0) {
+					action.accept(i * Long.SIZE + Long.numberOfTrailingZeros(word));
+					word &= word - 1;
+				}
+			}
+		}
+
+		@Override
+		public int cardinality() {
+			return cardinality;
+		}
+
+		@Override
+		public long sizeInBytes() {
+			return OBJECT_OVERHEAD_BYTES + (long)BITMAP_WORDS * Long.BYTES;
+		}
+
+		private ArrayContainer toArrayContainer() {
+			final char[] values = new char[Math.max(cardinality, 4)];
+			final int[] size = {0};
+			forEach(value -> values[size[0]++] = (char)value);
+			return new ArrayContainer(values, size[0]);
+		}
+	}
+}
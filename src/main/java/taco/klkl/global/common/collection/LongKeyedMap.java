@@ -0,0 +1,64 @@
+package taco.klkl.global.common.collection;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * long 키를 박싱 없이 조회하는 불변 맵입니다.
+ * 키를 정렬된 long 배열로 보관하고 이진 탐색으로 값을 찾습니다.
+ */
+public final class LongKeyedMap<V> {
+
+	private final long[] keys;
+	private final Object[] values;
+
+	private LongKeyedMap(final long[] keys, final Object[] values) {
+		this.keys = keys;
+		this.values = values;
+	}
+
+	public static <V> LongKeyedMap<V> from(final Collection<V> values, final ToLongFunction<V> keyExtractor) {
+		final List<V> sortedValues = values.stream()
+			.sorted(Comparator.comparingLong(keyExtractor))
+			.toList();
+		final long[] keys = new long[sortedValues.size()];
+		final Object[] sortedArray = new Object[sortedValues.size()];
+		for (int i = 0; i < sortedValues.size(); i++) {
+			final V value = sortedValues.get(i);
+			keys[i] = keyExtractor.applyAsLong(value);
+			if (i > 0 && keys[i] == keys[i - 1]) {
+				throw new IllegalArgumentException("중복된 키가 존재합니다. key=" + keys[i]);
+			}
+			sortedArray[i] = value;
+		}
+		return new LongKeyedMap<>(keys, sortedArray);
+	}
+
+	@SuppressWarnings("unchecked")
+	public V get(final long key) {
+		final int index = Arrays.binarySearch(keys, key);
+		if (index < 0) {
+			return null;
+		}
+		return (V)values[index];
+	}
+
+	public boolean containsKey(final long key) {
+		return Arrays.binarySearch(keys, key) >= 0;
+	}
+
+	public int size() {
+		return keys.length;
+	}
+
+	/**
+	 * 키 오름차순으로 정렬된 값 목록을 반환합니다.
+	 */
+	@SuppressWarnings("unchecked")
+	public List<V> values() {
+		return (List<V>)List.of(values);
+	}
+}
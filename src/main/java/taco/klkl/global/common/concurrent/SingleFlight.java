@@ -0,0 +1,98 @@
+package taco.klkl.global.common.concurrent;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 같은 이름과 키로 동시에 들어온 조회를 하나로 합칩니다.
+ * 가장 먼저 들어온 호출만 실제로 조회하고, 그동안 들어온 호출은 같은 결과나 예외를 함께 받습니다.
+ * 합쳐진 결과는 여러 스레드가 공유하므로 엔티티가 아닌 불변 응답만 다루어야 하고,
+ * 쓰기 트랜잭션 안에서는 커밋되지 않은 변경이 섞이지 않도록 합치지 않고 바로 조회합니다.
+ */
+@Component
+public class SingleFlight {
+
+	private static final String METRIC_NAME = "single.flight";
+	private static final String NAME_TAG = "name";
+	private static final String RESULT_TAG = "result";
+
+	private final Map<FlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+	private final Map<String, Counter> executedCounters = new ConcurrentHashMap<>();
+	private final Map<String, Counter> collapsedCounters = new ConcurrentHashMap<>();
+
+	private final MeterRegistry meterRegistry;
+
+	public SingleFlight(final MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+		Gauge.builder(METRIC_NAME + ".in_flight", this, SingleFlight::inFlightCount)
+			.register(meterRegistry);
+	}
+
+	@SuppressWarnings("unchecked")
+	public <V> V execute(final String name, final Object key, final Supplier<V> loader) {
+		if (isInReadWriteTransaction()) {
+			return loader.get();
+		}
+		final FlightKey flightKey = new FlightKey(name, key);
+		final CompletableFuture<Object> flight = new CompletableFuture<>();
+		final CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+		if (existing != null) {
+			counter(collapsedCounters, name, "collapsed").increment();
+			return (V)await(existing);
+		}
+		counter(executedCounters, name, "executed").increment();
+		try {
+			final V value = loader.get();
+			flight.complete(value);
+			return value;
+		} catch (RuntimeException | Error e) {
+			flight.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(flightKey, flight);
+		}
+	}
+
+	public int inFlightCount() {
+		return inFlight.size();
+	}
+
+	private Object await(final CompletableFuture<Object> flight) {
+		try {
+			return flight.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private Counter counter(final Map<String, Counter> counters, final String name, final String result) {
+		return counters.computeIfAbsent(name, ignored -> Counter.builder(METRIC_NAME)
+			.tag(NAME_TAG, name)
+			.tag(RESULT_TAG, result)
+			.register(meterRegistry));
+	}
+
+	private boolean isInReadWriteTransaction() {
+		return TransactionSynchronizationManager.isActualTransactionActive()
+			&& !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+	}
+
+	private record FlightKey(String name, Object key) {
+	}
+}
@@ -7,6 +7,10 @@ public final class DefaultConstants {
 
 	public static final int DEFAULT_INT_VALUE = 0;
 
+	public static final int MAX_STATUS_IDS_SIZE = 300;
+
+	public static final int SEQUENCE_ALLOCATION_SIZE = 50;
+
 	private DefaultConstants() {
 	}
 }
@@ -0,0 +1,11 @@
+package taco.klkl.global.common.constants;
+
+public final class LikeConstants {
+
+	public static final long LIKED_PRODUCT_CACHE_MAX_BYTES = 64L * 1024 * 1024;
+	public static final long LIKED_PRODUCT_CACHE_EVICT_TARGET_BYTES = LIKED_PRODUCT_CACHE_MAX_BYTES * 9 / 10;
+	public static final int LIKED_PRODUCT_CACHE_WRITE_STRIPES = 1024;
+
+	private LikeConstants() {
+	}
+}
@@ -4,6 +4,8 @@ public final class MemberConstants {
 
 	public static final String DEFAULT_DESCRIPTION = "";
 
+	public static final int PRINCIPAL_CACHE_MAX_SIZE = 10_000;
+
 	private MemberConstants() {
 	}
 }
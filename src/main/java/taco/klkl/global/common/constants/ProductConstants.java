@@ -3,6 +3,29 @@ package taco.klkl.global.common.constants;
 public final class ProductConstants {
 
 	public static final int DEFAULT_PAGE_SIZE = 9;
+	public static final String DEFAULT_PAGE_SIZE_STRING = "9";
+	public static final int MAX_PAGE_SIZE = 100;
+
+	public static final long COUNT_CACHE_TTL_SECONDS = 30L;
+	public static final int COUNT_CACHE_MAX_SIZE = 10_000;
+
+	public static final int DETAIL_CACHE_MAX_SIZE = 10_000;
+	public static final int DETAIL_CACHE_WRITE_STRIPES = 1024;
+
+	public static final long LIKE_COUNT_FLUSH_INTERVAL_MILLIS = 1_000L;
+	public static final long LIKE_COUNT_COUNTER_IDLE_MILLIS = 600_000L;
+
+	public static final long TRENDING_HALF_LIFE_HOURS = 24L;
+	public static final int TRENDING_MAX_SIZE = 1_000;
+	public static final long TRENDING_SEED_DAYS = 7L;
+	public static final double TRENDING_LIKE_WEIGHT = 1.0;
+	public static final double TRENDING_COMMENT_WEIGHT = 2.0;
+
+	public static final int LEADERBOARD_SIZE = 100;
+
+	public static final int SEARCH_MAX_RESULTS = 1_000;
+
+	public static final int FILTER_CANDIDATE_MAX_SIZE = 1_000;
 
 	public static final int DEFAULT_PRICE = 0;
 	public static final int DEFAULT_LIKE_COUNT = 0;
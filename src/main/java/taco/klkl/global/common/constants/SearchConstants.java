@@ -0,0 +1,16 @@
+package taco.klkl.global.common.constants;
+
+public final class SearchConstants {
+
+	public static final int SEARCH_EXECUTOR_THREADS = 16;
+	public static final int SEARCH_EXECUTOR_QUEUE_CAPACITY = 256;
+	public static final long SEARCH_DEADLINE_MILLIS = 300L;
+	/**
+	 * 제한 시간을 넘긴 조회가 커넥션을 계속 잡지 않도록 거는 JDBC 쿼리 타임아웃입니다.
+	 * JDBC 타임아웃은 초 단위이므로 제한 시간보다 큰 가장 작은 값을 씁니다.
+	 */
+	public static final String SEARCH_QUERY_TIMEOUT_SECONDS = "1";
+
+	private SearchConstants() {
+	}
+}
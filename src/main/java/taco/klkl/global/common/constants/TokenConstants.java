@@ -4,6 +4,8 @@ public final class TokenConstants {
 
 	public static final String ACCESS_TOKEN = "access_token";
 
+	public static final int VERIFIED_TOKEN_CACHE_MAX_SIZE = 10_000;
+
 	private TokenConstants() {
 	}
 }
@@ -0,0 +1,20 @@
+package taco.klkl.global.common.response;
+
+import java.util.List;
+
+public record CursorResponse<T>(
+	List<T> content,
+	int size,
+	String nextCursor,
+	boolean last
+) {
+
+	public static <T> CursorResponse<T> of(final List<T> content, final int size, final String nextCursor) {
+		return new CursorResponse<>(
+			content,
+			size,
+			nextCursor,
+			nextCursor == null
+		);
+	}
+}
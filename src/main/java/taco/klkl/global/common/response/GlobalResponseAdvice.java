@@ -36,7 +36,7 @@ public class GlobalResponseAdvice implements ResponseBodyAdvice<Object> {
 		int status = httpServletResponse.getStatus();
 		HttpStatus resolve = HttpStatus.resolve(status);
 
-		if (resolve == null || body instanceof String) {
+		if (resolve == null || body instanceof String || body instanceof byte[]) {
 			return body;
 		}
 		if (resolve.is2xxSuccessful()) {
@@ -11,10 +11,18 @@ public record PagedResponse<T>(
 	int pageSize,
 	long totalElements,
 	int totalPages,
-	boolean last
+	boolean last,
+	boolean isTotalExact
 ) {
 
 	public static <T, R> PagedResponse<R> of(Page<T> page, Function<T, R> mapper) {
+		return of(page, mapper, true);
+	}
+
+	/**
+	 * isTotalExact가 false이면 totalElements, totalPages, last가 캐시된 전체 개수로 계산된 값임을 의미합니다.
+	 */
+	public static <T, R> PagedResponse<R> of(Page<T> page, Function<T, R> mapper, boolean isTotalExact) {
 		List<R> content = page.getContent().stream()
 			.map(mapper)
 			.toList();
@@ -25,7 +33,8 @@ public record PagedResponse<T>(
 			page.getSize(),
 			page.getTotalElements(),
 			page.getTotalPages(),
-			page.isLast()
+			page.isLast(),
+			isTotalExact
 		);
 	}
 }
@@ -0,0 +1,117 @@
+package taco.klkl.global.common.response;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * 미리 직렬화해 둔 JSON 응답 본문입니다.
+ * 원본과 gzip 압축본을 보관하고, 강한 ETag 는 바이트가 같은 표현끼리만 같도록 인코딩별 본문 해시로 따로 만듭니다.
+ */
+public record PreSerializedResponse(
+	byte[] json,
+	byte[] gzip,
+	String eTag,
+	String gzipETag
+) {
+	private static final String GZIP_ENCODING = "gzip";
+	private static final String X_GZIP_ENCODING = "x-gzip";
+	private static final String WILDCARD_ENCODING = "*";
+	private static final String CODING_DELIMITER = ",";
+	private static final String PARAMETER_DELIMITER = ";";
+	private static final String QUALITY_PREFIX = "q=";
+
+	public static PreSerializedResponse from(final byte[] json) {
+		final byte[] gzip = compress(json);
+		return new PreSerializedResponse(json, gzip, createETag(json), createETag(gzip));
+	}
+
+	/**
+	 * 요청의 Accept-Encoding 에 맞춰 본문과 ETag 를 고릅니다.
+	 * If-None-Match 비교와 304 응답은 ETag 헤더를 보고 Spring MVC가 처리합니다.
+	 */
+	public ResponseEntity<byte[]> toResponseEntity(final String acceptEncoding) {
+		final ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_JSON)
+			.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+		if (acceptsGzip(acceptEncoding)) {
+			return builder
+				.eTag(gzipETag)
+				.header(HttpHeaders.CONTENT_ENCODING, GZIP_ENCODING)
+				.body(gzip);
+		}
+		return builder
+			.eTag(eTag)
+			.body(json);
+	}
+
+	/**
+	 * gzip(또는 x-gzip)이 0보다 큰 q 값으로 허용되었는지 확인합니다.
+	 * gzip 이 명시되지 않았다면 * 의 q 값을 따르고, q 값을 해석할 수 없으면 허용하지 않은 것으로 봅니다.
+	 */
+	static boolean acceptsGzip(final String acceptEncoding) {
+		if (acceptEncoding == null || acceptEncoding.isBlank()) {
+			return false;
+		}
+		Double gzipQuality = null;
+		Double wildcardQuality = null;
+		for (final String coding : acceptEncoding.split(CODING_DELIMITER)) {
+			final String[] parts = coding.split(PARAMETER_DELIMITER);
+			final String name = parts[0].trim().toLowerCase(Locale.ROOT);
+			final double quality = parseQuality(parts);
+			if (name.equals(GZIP_ENCODING) || name.equals(X_GZIP_ENCODING)) {
+				gzipQuality = gzipQuality == null ? quality : Math.max(gzipQuality, quality);
+			} else if (name.equals(WILDCARD_ENCODING)) {
+				wildcardQuality = quality;
+			}
+		}
+		if (gzipQuality != null) {
+			return gzipQuality > 0;
+		}
+		return wildcardQuality != null && wildcardQuality > 0;
+	}
+
+	private static double parseQuality(final String[] parts) {
+		for (int i = 1; i < parts.length; i++) {
+			final String parameter = parts[i].trim().toLowerCase(Locale.ROOT);
+			if (!parameter.startsWith(QUALITY_PREFIX)) {
+				continue;
+			}
+			try {
+				final double quality = Double.parseDouble(parameter.substring(QUALITY_PREFIX.length()).trim());
+				return quality >= 0 && quality <= 1 ? quality : 0;
+			} catch (NumberFormatException e) {
+				return 0;
+			}
+		}
+		return 1;
+	}
+
+	private static byte[] compress(final byte[] source) {
+		final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(source.length / 4 + 64);
+		try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+			gzipOutputStream.write(source);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return outputStream.toByteArray();
+	}
+
+	private static String createETag(final byte[] source) {
+		try {
+			final byte[] digest = MessageDigest.getInstance("SHA-256").digest(source);
+			return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"";
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package taco.klkl.global.common.transaction;
+
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 주어진 작업을 읽기 전용 트랜잭션 안에서 실행합니다.
+ * 트랜잭션 밖에서 실행되는 메서드가 실제로 DB 를 읽는 구간에서만 커넥션을 잡도록 할 때 씁니다.
+ */
+@Component
+public class ReadOnlyTransactionExecutor {
+
+	private final TransactionTemplate transactionTemplate;
+
+	public ReadOnlyTransactionExecutor(final PlatformTransactionManager transactionManager) {
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setReadOnly(true);
+	}
+
+	public <T> T execute(final Supplier<T> action) {
+		return transactionTemplate.execute(status -> action.get());
+	}
+}
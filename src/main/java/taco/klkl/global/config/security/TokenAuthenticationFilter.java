@@ -9,6 +9,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -52,13 +53,7 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
 		}
 
 		try {
-			if (tokenProvider.validateToken(accessToken)) {
-				setAuthentication(accessToken);
-			} else {
-				final String reissueAccessToken = tokenProvider.reissueAccessToken(accessToken);
-				setAuthentication(reissueAccessToken);
-				tokenUtil.addAccessTokenCookie(response, reissueAccessToken);
-			}
+			authenticate(accessToken, response);
 		} catch (TokenInvalidException | TokenExpiredException e) {
 			handleTokenException(request, response, filterChain, e);
 			return;
@@ -70,11 +65,24 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
 		filterChain.doFilter(request, response);
 	}
 
-	private void setAuthentication(final String accessToken) {
-		if (!StringUtils.hasText(accessToken)) {
-			throw new TokenInvalidException();
+	private void authenticate(final String accessToken, final HttpServletResponse response) {
+		try {
+			final Claims claims = tokenProvider.validateAndGetClaims(accessToken);
+			setAuthentication(accessToken, claims);
+		} catch (TokenExpiredException e) {
+			reissueAndAuthenticate(accessToken, response);
 		}
-		Authentication authentication = tokenProvider.getAuthentication(accessToken);
+	}
+
+	private void reissueAndAuthenticate(final String expiredAccessToken, final HttpServletResponse response) {
+		final String reissuedAccessToken = tokenProvider.reissueAccessToken(expiredAccessToken);
+		final Claims claims = tokenProvider.validateAndGetClaims(reissuedAccessToken);
+		setAuthentication(reissuedAccessToken, claims);
+		tokenUtil.addAccessTokenCookie(response, reissuedAccessToken);
+	}
+
+	private void setAuthentication(final String accessToken, final Claims claims) {
+		Authentication authentication = tokenProvider.getAuthentication(accessToken, claims);
 		SecurityContextHolder.getContext().setAuthentication(authentication);
 	}
 
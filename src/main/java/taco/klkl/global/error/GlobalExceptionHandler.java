@@ -114,7 +114,7 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 	public ResponseEntity<Object> handleCustomException(CustomException ex) {
 		log.error("CustomException : {}", ex.getMessage(), ex);
 		final ErrorCode errorCode = ex.getErrorCode();
-		return createErrorResponseEntity(ex, errorCode);
+		return createErrorResponseEntity(ex, errorCode, ex.getMessage());
 	}
 
 	@ExceptionHandler(MethodArgumentTypeMismatchException.class)
@@ -138,7 +138,15 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 	}
 
 	private ResponseEntity<Object> createErrorResponseEntity(final Exception ex, final ErrorCode errorCode) {
-		final ErrorResponse errorResponse = ErrorResponse.of(ex.getClass().getSimpleName(), errorCode.getMessage());
+		return createErrorResponseEntity(ex, errorCode, errorCode.getMessage());
+	}
+
+	private ResponseEntity<Object> createErrorResponseEntity(
+		final Exception ex,
+		final ErrorCode errorCode,
+		final String message
+	) {
+		final ErrorResponse errorResponse = ErrorResponse.of(ex.getClass().getSimpleName(), message);
 		final GlobalResponse globalResponse = GlobalResponse.error(errorCode.getHttpStatus().value(), errorResponse);
 		return ResponseEntity.status(errorCode.getHttpStatus()).body(globalResponse);
 	}
@@ -27,8 +27,11 @@ public enum ErrorCode {
 	RATING_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 평점입니다."),
 	SORT_CRITERIA_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 정렬 기준입니다."),
 	SORT_DIRECTION_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 정렬 방향입니다."),
+	TAG_MATCH_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 태그 일치 방식입니다."),
 	INVALID_CITY_IDS(HttpStatus.BAD_REQUEST, "선택한 도시들은 동일한 국가에 속하지 않습니다."),
 	PRODUCT_MEMBER_NOT_MATCH(HttpStatus.BAD_REQUEST, "다른 유저의 상품입니다."),
+	CURSOR_INVALID(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다."),
+	FILTER_IDS_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 필터 ID 가 포함되어 있습니다."),
 
 	// Like
 	LIKE_COUNT_OVER_MAXIMUM(HttpStatus.BAD_REQUEST, "상품의 좋아요수가 최대값입니다. 2147483647"),
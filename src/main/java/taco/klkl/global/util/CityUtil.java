@@ -1,34 +1,37 @@
 package taco.klkl.global.util;
 
+import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
-import taco.klkl.domain.region.dao.city.CityRepository;
 import taco.klkl.domain.region.domain.city.City;
 import taco.klkl.domain.region.domain.country.Country;
 import taco.klkl.domain.region.exception.city.CityNotFoundException;
+import taco.klkl.global.catalog.ReferenceCatalogProvider;
 
 @Component
 @RequiredArgsConstructor
 public class CityUtil {
 
-	private final CityRepository cityRepository;
+	private final ReferenceCatalogProvider referenceCatalogProvider;
 
 	public City findCityEntityById(final Long id) {
-		return cityRepository.findById(id)
+		return referenceCatalogProvider.getCatalog().findCityById(id)
 			.orElseThrow(CityNotFoundException::new);
 	}
 
-	public boolean isCitiesMappedToSameCountry(final Set<Long> cityIds) {
-		final Set<Long> countryIds = cityIds.stream()
-			.map(this::findCityEntityById)
-			.map(City::getCountry)
-			.map(Country::getId)
-			.collect(Collectors.toSet());
+	public Set<Long> findInvalidCityIds(final Set<Long> cityIds) {
+		return referenceCatalogProvider.getCatalog().findMissingCityIds(cityIds);
+	}
 
-		return countryIds.size() == 1;
+	public Optional<Long> findCountryIdCoveredByCities(final Set<Long> cityIds) {
+		return referenceCatalogProvider.getCatalog().findCountryCoveredByCities(cityIds)
+			.map(Country::getId);
+	}
+
+	public boolean isCitiesMappedToSameCountry(final Set<Long> cityIds) {
+		return referenceCatalogProvider.getCatalog().countCountriesOfCities(cityIds) == 1;
 	}
 }
@@ -3,18 +3,18 @@ package taco.klkl.global.util;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
-import taco.klkl.domain.region.dao.currency.CurrencyRepository;
 import taco.klkl.domain.region.domain.currency.Currency;
 import taco.klkl.domain.region.exception.currency.CurrencyNotFoundException;
+import taco.klkl.global.catalog.ReferenceCatalogProvider;
 
 @Component
 @RequiredArgsConstructor
 public class CurrencyUtil {
 
-	private final CurrencyRepository currencyRepository;
+	private final ReferenceCatalogProvider referenceCatalogProvider;
 
 	public Currency findCurrencyEntityById(final Long id) {
-		return currencyRepository.findById(id)
+		return referenceCatalogProvider.getCatalog().findCurrencyById(id)
 			.orElseThrow(CurrencyNotFoundException::new);
 	}
 }
@@ -1,19 +1,34 @@
 package taco.klkl.global.util;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
-import taco.klkl.domain.like.dao.LikeRepository;
-import taco.klkl.domain.member.domain.Member;
-import taco.klkl.domain.product.domain.Product;
+import taco.klkl.domain.like.cache.LikedProductCache;
+import taco.klkl.domain.like.counter.LikeCountEngine;
 
 @Component
 @RequiredArgsConstructor
 public class LikeUtil {
 
-	private final LikeRepository likeRepository;
+	private final LikedProductCache likedProductCache;
+	private final LikeCountEngine likeCountEngine;
+
+	public boolean isLikedByProductIdAndMemberId(final Long productId, final Long memberId) {
+		return likedProductCache.isLiked(memberId, productId);
+	}
+
+	public int findLiveLikeCount(final Long productId, final int storedLikeCount) {
+		return likeCountEngine.findLiveLikeCount(productId, storedLikeCount);
+	}
 
-	public boolean isLikedByProductAndMember(final Product product, final Member member) {
-		return likeRepository.existsByProductAndMember(product, member);
+	public Set<Long> findLikedProductIdsByMemberId(final Long memberId, final Collection<Long> productIds) {
+		if (productIds.isEmpty()) {
+			return Collections.emptySet();
+		}
+		return likedProductCache.findLikedProductIds(memberId, productIds);
 	}
 }
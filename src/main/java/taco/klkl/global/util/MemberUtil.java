@@ -8,6 +8,8 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
+import taco.klkl.domain.member.cache.MemberPrincipal;
+import taco.klkl.domain.member.cache.MemberPrincipalCache;
 import taco.klkl.domain.member.dao.MemberRepository;
 import taco.klkl.domain.member.domain.Member;
 import taco.klkl.domain.member.exception.MemberNotFoundException;
@@ -17,24 +19,48 @@ import taco.klkl.domain.member.exception.MemberNotFoundException;
 public class MemberUtil {
 
 	private final MemberRepository memberRepository;
+	private final MemberPrincipalCache memberPrincipalCache;
 
 	/**
-	 * TODO: 인증정보를 확인해 유저 엔티티를 리턴한다.
-	 * 현재 유저 조회
-	 *
-	 * @return
+	 * 현재 회원의 읽기 전용 스냅샷을 반환합니다.
+	 * 캐시에 있으면 DB 를 거치지 않으므로, 회원 ID 나 프로필만 필요한 조회 경로는 이 메서드를 사용합니다.
 	 */
-	public Member getCurrentMember() {
+	public MemberPrincipal getCurrentPrincipal() {
 		final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 		final UUID uuid = getCurrentMemberUuid(authentication.getName());
-		return memberRepository.findByUuid(uuid)
+		return memberPrincipalCache.find(uuid)
+			.orElseGet(() -> loadPrincipal(uuid));
+	}
+
+	/**
+	 * 현재 회원 엔티티를 영속 상태로 조회합니다.
+	 * 변경 감지가 필요한 회원 수정 경로에서만 사용합니다.
+	 */
+	public Member getCurrentMember() {
+		return memberRepository.findById(getCurrentPrincipal().id())
 			.orElseThrow(MemberNotFoundException::new);
 	}
 
+	/**
+	 * 현재 회원을 연관관계의 대상으로만 쓸 때 조회 없이 참조를 반환합니다.
+	 */
+	public Member getCurrentMemberReference() {
+		return memberRepository.getReferenceById(getCurrentPrincipal().id());
+	}
+
 	public static String generateRandomTag() {
 		return String.format("%04d", new Random().nextInt(10000));
 	}
 
+	private MemberPrincipal loadPrincipal(final UUID uuid) {
+		final long version = memberPrincipalCache.currentVersion();
+		final Member member = memberRepository.findByUuid(uuid)
+			.orElseThrow(MemberNotFoundException::new);
+		final MemberPrincipal principal = MemberPrincipal.from(member);
+		memberPrincipalCache.put(principal, version);
+		return principal;
+	}
+
 	private UUID getCurrentMemberUuid(final String authName) {
 		try {
 			return UUID.fromString(authName);
@@ -1,34 +1,53 @@
 package taco.klkl.global.util;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
 import lombok.RequiredArgsConstructor;
+import taco.klkl.domain.category.domain.category.QCategory;
+import taco.klkl.domain.category.domain.subcategory.QSubcategory;
 import taco.klkl.domain.category.dto.response.tag.TagSimpleResponse;
 import taco.klkl.domain.image.dto.response.ImageResponse;
-import taco.klkl.domain.member.domain.Member;
+import taco.klkl.domain.member.cache.MemberPrincipal;
 import taco.klkl.domain.member.exception.MemberNotFoundException;
+import taco.klkl.domain.product.dao.ProductImageRepository;
 import taco.klkl.domain.product.dao.ProductRepository;
+import taco.klkl.domain.product.dao.ProductTagRepository;
 import taco.klkl.domain.product.domain.Product;
 import taco.klkl.domain.product.domain.ProductImage;
 import taco.klkl.domain.product.domain.ProductTag;
+import taco.klkl.domain.product.domain.QProduct;
+import taco.klkl.domain.product.dto.projection.ProductSimpleProjection;
 import taco.klkl.domain.product.dto.response.ProductDetailResponse;
 import taco.klkl.domain.product.dto.response.ProductSimpleResponse;
 import taco.klkl.domain.product.exception.ProductNotFoundException;
+import taco.klkl.domain.region.domain.city.QCity;
+import taco.klkl.domain.region.domain.country.QCountry;
 
 @Component
 @RequiredArgsConstructor
 public class ProductUtil {
 
+	private final JPAQueryFactory queryFactory;
 	private final ProductRepository productRepository;
+	private final ProductTagRepository productTagRepository;
+	private final ProductImageRepository productImageRepository;
 
 	private final MemberUtil memberUtil;
 	private final LikeUtil likeUtil;
@@ -46,26 +65,143 @@ public class ProductUtil {
 		return productRepository.findByMemberIdIn(memberIds, pageable);
 	}
 
-	public ProductSimpleResponse createProductSimpleResponse(final Product product) {
+	/**
+	 * 엔티티로 조회한 상품 페이지를 ProductSimpleResponse로 변환하는 매퍼를 반환합니다.
+	 * 페이지 크기와 관계없이 고정된 개수의 쿼리로 응답에 필요한 값을 모두 조회합니다.
+	 */
+	public Function<Product, ProductSimpleResponse> createProductSimpleResponseMapper(
+		final Collection<Product> products
+	) {
+		final List<Long> productIds = products.stream()
+			.map(Product::getId)
+			.toList();
+		final Map<Long, ProductSimpleResponse> responsesById = createProductSimpleResponsesByIds(productIds).stream()
+			.collect(Collectors.toMap(ProductSimpleResponse::id, Function.identity()));
+		return product -> responsesById.get(product.getId());
+	}
+
+	/**
+	 * 상품 ID 목록을 ProductSimpleResponse 목록으로 변환합니다. 응답은 전달된 ID 순서를 따릅니다.
+	 */
+	public List<ProductSimpleResponse> createProductSimpleResponsesByIds(final List<Long> productIds) {
+		final Map<Long, ProductSimpleProjection> projectionsById = findProductSimpleProjectionsByIds(productIds)
+			.stream()
+			.collect(Collectors.toMap(ProductSimpleProjection::id, Function.identity()));
+		final List<ProductSimpleProjection> orderedProjections = productIds.stream()
+			.map(projectionsById::get)
+			.filter(Objects::nonNull)
+			.toList();
+		return createProductSimpleResponses(orderedProjections);
+	}
+
+	/**
+	 * 프로젝션으로 조회한 상품 목록에 태그, 대표 이미지, 좋아요 여부를 페이지 단위로 한 번에 채워 넣습니다.
+	 */
+	public List<ProductSimpleResponse> createProductSimpleResponses(final List<ProductSimpleProjection> projections) {
+		final List<Long> productIds = projections.stream()
+			.map(ProductSimpleProjection::id)
+			.toList();
+		final Map<Long, Set<TagSimpleResponse>> tagsByProductId = findTagsByProductIds(productIds);
+		final Map<Long, ImageResponse> mainImagesByProductId = findMainImagesByProductIds(productIds);
+		final Set<Long> likedProductIds = findLikedProductIds(productIds);
+
+		return projections.stream()
+			.map(projection -> ProductSimpleResponse.of(
+				projection,
+				mainImagesByProductId.get(projection.id()),
+				tagsByProductId.getOrDefault(projection.id(), Collections.emptySet()),
+				likedProductIds.contains(projection.id())
+			))
+			.toList();
+	}
+
+	public Set<Long> findLikedProductIds(final Collection<Long> productIds) {
+		if (productIds.isEmpty()) {
+			return Collections.emptySet();
+		}
 		try {
-			Member currentMember = memberUtil.getCurrentMember();
-			final boolean isLiked = likeUtil.isLikedByProductAndMember(product, currentMember);
-			return ProductSimpleResponse.from(product, isLiked);
+			final MemberPrincipal currentMember = memberUtil.getCurrentPrincipal();
+			return likeUtil.findLikedProductIdsByMemberId(currentMember.id(), productIds);
 		} catch (MemberNotFoundException e) {
-			return ProductSimpleResponse.from(product, false);
+			return Collections.emptySet();
+		}
+	}
+
+	private List<ProductSimpleProjection> findProductSimpleProjectionsByIds(final List<Long> productIds) {
+		if (productIds.isEmpty()) {
+			return Collections.emptyList();
+		}
+		final QProduct product = QProduct.product;
+		final QCity city = QCity.city;
+		final QCountry country = QCountry.country;
+		final QSubcategory subcategory = QSubcategory.subcategory;
+		final QCategory category = QCategory.category;
+
+		return queryFactory
+			.select(createProductSimpleProjection())
+			.from(product)
+			.join(product.city, city)
+			.join(city.country, country)
+			.join(product.subcategory, subcategory)
+			.join(subcategory.category, category)
+			.where(product.id.in(productIds))
+			.fetch();
+	}
+
+	private Map<Long, Set<TagSimpleResponse>> findTagsByProductIds(final List<Long> productIds) {
+		if (productIds.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		return productTagRepository.findByProduct_IdIn(productIds).stream()
+			.collect(Collectors.groupingBy(
+				productTag -> productTag.getProduct().getId(),
+				Collectors.mapping(productTag -> TagSimpleResponse.from(productTag.getTag()), Collectors.toSet())
+			));
+	}
+
+	private Map<Long, ImageResponse> findMainImagesByProductIds(final List<Long> productIds) {
+		if (productIds.isEmpty()) {
+			return Collections.emptyMap();
 		}
+		return productImageRepository.findByProduct_IdIn(productIds).stream()
+			.collect(Collectors.groupingBy(
+				productImage -> productImage.getProduct().getId(),
+				Collectors.minBy(Comparator.comparing(ProductImage::getOrder))
+			))
+			.entrySet().stream()
+			.filter(entry -> entry.getValue().isPresent())
+			.collect(Collectors.toMap(
+				Map.Entry::getKey,
+				entry -> ImageResponse.from(entry.getValue().get().getImage())
+			));
 	}
 
 	public ProductDetailResponse createProductDetailResponse(final Product product) {
 		try {
-			Member currentMember = memberUtil.getCurrentMember();
-			final boolean isLiked = likeUtil.isLikedByProductAndMember(product, currentMember);
+			final MemberPrincipal currentMember = memberUtil.getCurrentPrincipal();
+			final boolean isLiked = likeUtil.isLikedByProductIdAndMemberId(product.getId(), currentMember.id());
 			return ProductDetailResponse.from(product, isLiked);
 		} catch (MemberNotFoundException e) {
 			return ProductDetailResponse.from(product, false);
 		}
 	}
 
+	/**
+	 * 캐시된 상세 응답에 현재 회원의 좋아요 여부와 현재 좋아요 수를 덧씌웁니다.
+	 */
+	public ProductDetailResponse applyViewerState(final ProductDetailResponse detail) {
+		final int likeCount = likeUtil.findLiveLikeCount(detail.id(), detail.likeCount());
+		try {
+			final MemberPrincipal currentMember = memberUtil.getCurrentPrincipal();
+			return detail.withViewerState(
+				likeCount,
+				likeUtil.isLikedByProductIdAndMemberId(detail.id(), currentMember.id())
+			);
+		} catch (MemberNotFoundException e) {
+			return detail.withViewerState(likeCount, false);
+		}
+	}
+
 	public void validateProductId(final Long id) {
 		final boolean existsById = productRepository.existsById(id);
 		if (!existsById) {
@@ -83,6 +219,24 @@ public class ProductUtil {
 			.orElse(Collections.emptySet());
 	}
 
+	/**
+	 * ProductSimpleResponse에 필요한 컬럼만 조회하는 프로젝션입니다.
+	 * product, city, country, subcategory, category가 조인된 쿼리에서 사용해야 합니다.
+	 */
+	public static ConstructorExpression<ProductSimpleProjection> createProductSimpleProjection() {
+		final QProduct product = QProduct.product;
+		return Projections.constructor(
+			ProductSimpleProjection.class,
+			product.id,
+			product.name,
+			product.likeCount,
+			product.rating,
+			QCountry.country.name,
+			QCategory.category.name,
+			product.createdAt
+		);
+	}
+
 	public static List<ImageResponse> generateImagesByProduct(final Product product) {
 		return product.getImages().stream()
 			.map(ProductImage::getImage)
@@ -1,20 +1,26 @@
 package taco.klkl.global.util;
 
+import java.util.Set;
+
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
-import taco.klkl.domain.category.dao.subcategory.SubcategoryRepository;
 import taco.klkl.domain.category.domain.subcategory.Subcategory;
 import taco.klkl.domain.category.exception.subcategory.SubcategoryNotFoundException;
+import taco.klkl.global.catalog.ReferenceCatalogProvider;
 
 @Component
 @RequiredArgsConstructor
 public class SubcategoryUtil {
 
-	private final SubcategoryRepository subcategoryRepository;
+	private final ReferenceCatalogProvider referenceCatalogProvider;
 
 	public Subcategory findSubcategoryEntityById(final Long id) {
-		return subcategoryRepository.findById(id)
+		return referenceCatalogProvider.getCatalog().findSubcategoryById(id)
 			.orElseThrow(SubcategoryNotFoundException::new);
 	}
+
+	public Set<Long> findInvalidSubcategoryIds(final Set<Long> subcategoryIds) {
+		return referenceCatalogProvider.getCatalog().findMissingSubcategoryIds(subcategoryIds);
+	}
 }
@@ -1,20 +1,26 @@
 package taco.klkl.global.util;
 
+import java.util.Set;
+
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
-import taco.klkl.domain.category.dao.tag.TagRepository;
 import taco.klkl.domain.category.domain.tag.Tag;
 import taco.klkl.domain.category.exception.tag.TagNotFoundException;
+import taco.klkl.global.catalog.ReferenceCatalogProvider;
 
 @Component
 @RequiredArgsConstructor
 public class TagUtil {
 
-	private final TagRepository tagRepository;
+	private final ReferenceCatalogProvider referenceCatalogProvider;
 
 	public Tag findTagEntityById(final Long id) {
-		return tagRepository.findById(id)
+		return referenceCatalogProvider.getCatalog().findTagById(id)
 			.orElseThrow(TagNotFoundException::new);
 	}
+
+	public Set<Long> findInvalidTagIds(final Set<Long> tagIds) {
+		return referenceCatalogProvider.getCatalog().findMissingTagIds(tagIds);
+	}
 }
@@ -1,3 +1,12 @@
+/* Like id: INSERT ... ON DUPLICATE KEY UPDATE 가 id 를 채우지 않으므로 기존 스키마도 AUTO_INCREMENT 로 맞춥니다. */
+ALTER TABLE member_product_like MODIFY id BIGINT NOT NULL AUTO_INCREMENT;
+
+/* ProductImage id: IDENTITY 로 쌓인 기존 ID 와 겹치지 않도록 시퀀스를 MAX(product_image_id) 뒤로 옮깁니다. */
+/* pooled 최적화는 읽은 값에서 할당 크기(50)만큼 앞선 ID 부터 쓰므로 그만큼 더 띄웁니다. 이미 충분하면 바꾸지 않습니다. */
+UPDATE product_image_seq
+SET next_val = (SELECT COALESCE(MAX(product_image_id), 0) + 51 FROM product_image)
+WHERE next_val < (SELECT COALESCE(MAX(product_image_id), 0) + 51 FROM product_image);
+
 /* Region */
 INSERT INTO region(region_id, name)
 VALUES (1, '동북아시아'),
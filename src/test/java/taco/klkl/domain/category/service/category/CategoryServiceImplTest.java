@@ -20,6 +20,8 @@ import taco.klkl.domain.category.domain.category.Category;
 import taco.klkl.domain.category.domain.category.CategoryType;
 import taco.klkl.domain.category.dto.response.category.CategoryDetailResponse;
 import taco.klkl.domain.category.dto.response.category.CategorySimpleResponse;
+import taco.klkl.global.catalog.ReferenceCatalog;
+import taco.klkl.global.catalog.ReferenceCatalogProvider;
 
 @Transactional
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +33,12 @@ class CategoryServiceImplTest {
 	@Mock
 	private CategoryRepository categoryRepository;
 
+	@Mock
+	private ReferenceCatalogProvider referenceCatalogProvider;
+
+	@Mock
+	private ReferenceCatalog referenceCatalog;
+
 	private final Category category = Category.of(CategoryType.FOOD);
 	private final Category category2 = Category.of(CategoryType.CLOTHES);
 
@@ -42,7 +50,8 @@ class CategoryServiceImplTest {
 		Category category2 = Category.of(CategoryType.FOOD);
 		List<Category> categories = Arrays.asList(category1, category2);
 
-		when(categoryRepository.findAll()).thenReturn(categories);
+		when(referenceCatalogProvider.getCatalog()).thenReturn(referenceCatalog);
+		when(referenceCatalog.getCategories()).thenReturn(categories);
 
 		// when
 		List<CategoryDetailResponse> result = categoryService.findAllCategories();
@@ -54,7 +63,8 @@ class CategoryServiceImplTest {
 		assertEquals(CategoryType.CLOTHES.getName(), result.get(0).name());
 		assertEquals(CategoryType.FOOD.getName(), result.get(1).name());
 
-		verify(categoryRepository, times(1)).findAll();
+		verify(referenceCatalog, times(1)).getCategories();
+		verifyNoInteractions(categoryRepository);
 	}
 
 	@Test
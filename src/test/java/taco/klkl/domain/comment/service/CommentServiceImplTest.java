@@ -13,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
 
 import taco.klkl.domain.comment.dao.CommentRepository;
@@ -21,10 +22,12 @@ import taco.klkl.domain.comment.dto.request.CommentCreateUpdateRequest;
 import taco.klkl.domain.comment.dto.response.CommentResponse;
 import taco.klkl.domain.comment.exception.CommentNotFoundException;
 import taco.klkl.domain.comment.exception.CommentProductNotMatchException;
+import taco.klkl.domain.member.cache.MemberPrincipal;
 import taco.klkl.domain.member.domain.Member;
 import taco.klkl.domain.notification.service.NotificationService;
 import taco.klkl.domain.product.domain.Product;
 import taco.klkl.domain.product.exception.ProductNotFoundException;
+import taco.klkl.domain.product.ranking.TrendingRanker;
 import taco.klkl.global.util.MemberUtil;
 import taco.klkl.global.util.ProductUtil;
 
@@ -43,10 +46,15 @@ public class CommentServiceImplTest {
 	@Mock
 	private NotificationService notificationService;
 
+	@Mock
+	private TrendingRanker trendingRanker;
+
 	@InjectMocks
 	private CommentServiceImpl commentServiceImpl;
 
-	private final Member member = Member.ofUser("name", null, null);
+	private final Member member = createMember();
+
+	private final MemberPrincipal principal = MemberPrincipal.from(member);
 
 	private final Product product = mock(Product.class);
 
@@ -91,7 +99,8 @@ public class CommentServiceImplTest {
 		final Long productId = 1L;
 		final Comment comment = Comment.of(product, member, "이거 진짜에요?");
 
-		when(memberUtil.getCurrentMember()).thenReturn(member);
+		when(memberUtil.getCurrentMemberReference()).thenReturn(member);
+		when(memberUtil.getCurrentPrincipal()).thenReturn(principal);
 		when(commentRepository.save(any(Comment.class))).thenReturn(comment);
 		when(productUtil.findProductEntityById(productId)).thenReturn(product);
 		when(product.getMember()).thenReturn(member);
@@ -114,7 +123,7 @@ public class CommentServiceImplTest {
 
 		Comment comment = Comment.of(product, member, "이거 진짜에요?");
 
-		when(memberUtil.getCurrentMember()).thenReturn(member);
+		when(memberUtil.getCurrentPrincipal()).thenReturn(principal);
 		when(product.getId()).thenReturn(productId);
 		when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
 
@@ -169,7 +178,7 @@ public class CommentServiceImplTest {
 		Long commentId = 1L;
 		Comment comment = Comment.of(product, member, "이거 진짜에요?");
 
-		when(memberUtil.getCurrentMember()).thenReturn(member);
+		when(memberUtil.getCurrentPrincipal()).thenReturn(principal);
 		when(product.getId()).thenReturn(wrongProductId);
 		when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
 
@@ -188,7 +197,7 @@ public class CommentServiceImplTest {
 
 		Comment comment = Comment.of(product, member, "이거 진짜에요?");
 
-		when(memberUtil.getCurrentMember()).thenReturn(member);
+		when(memberUtil.getCurrentPrincipal()).thenReturn(principal);
 		when(product.getId()).thenReturn(productId);
 		when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
 
@@ -236,7 +245,7 @@ public class CommentServiceImplTest {
 		Long commentId = 1L;
 		Comment comment = Comment.of(product, member, "이거 진짜에요?");
 
-		when(memberUtil.getCurrentMember()).thenReturn(member);
+		when(memberUtil.getCurrentPrincipal()).thenReturn(principal);
 		when(product.getId()).thenReturn(wrongProductId);
 		when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
 
@@ -245,4 +254,10 @@ public class CommentServiceImplTest {
 			() -> commentServiceImpl.deleteComment(productId, commentId));
 		verify(commentRepository, never()).delete(any(Comment.class));
 	}
+
+	private static Member createMember() {
+		final Member member = Member.ofUser("name", null, null);
+		ReflectionTestUtils.setField(member, "id", 1L);
+		return member;
+	}
 }
@@ -0,0 +1,120 @@
+package taco.klkl.domain.like.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import taco.klkl.domain.like.dao.LikeRepository;
+import taco.klkl.global.common.concurrent.SingleFlight;
+
+class LikedProductCacheTest {
+
+	private LikeRepository likeRepository;
+	private PlatformTransactionManager transactionManager;
+	private LikedProductCache likedProductCache;
+
+	@BeforeEach
+	void setUp() {
+		likeRepository = mock(LikeRepository.class);
+		transactionManager = mock(PlatformTransactionManager.class);
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		likedProductCache = new LikedProductCache(
+			likeRepository,
+			new SingleFlight(meterRegistry),
+			transactionManager,
+			meterRegistry
+		);
+		when(likeRepository.findProductIdsByMemberId(1L)).thenReturn(List.of(10L, 20L));
+	}
+
+	@AfterEach
+	void tearDown() {
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+	}
+
+	@Test
+	@DisplayName("처음 조회할 때 한 번만 적재하고 이후에는 캐시에서 읽는다")
+	void testLoadOnce() {
+		// when
+		boolean liked = likedProductCache.isLiked(1L, 10L);
+		boolean notLiked = likedProductCache.isLiked(1L, 30L);
+
+		// then
+		assertThat(liked).isTrue();
+		assertThat(notLiked).isFalse();
+		assertThat(likedProductCache.size()).isEqualTo(1);
+		verify(likeRepository, times(1)).findProductIdsByMemberId(1L);
+	}
+
+	@Test
+	@DisplayName("호출한 쪽의 스냅샷이 아닌 새 읽기 전용 트랜잭션에서 적재한다")
+	void testLoadInNewReadOnlyTransaction() {
+		// given
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		// when
+		likedProductCache.isLiked(1L, 10L);
+
+		// then
+		verify(transactionManager).getTransaction(argThat(definition -> definition.isReadOnly()
+			&& definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+	}
+
+	@Test
+	@DisplayName("적재 도중 좋아요가 커밋되면 적재한 비트맵은 캐시에 올리지 않는다")
+	void testSkipInstallWhenLikeCommittedDuringLoad() {
+		// given
+		when(likeRepository.findProductIdsByMemberId(1L)).thenAnswer(invocation -> {
+			likedProductCache.recordLike(1L, 30L);
+			return List.of(10L, 20L);
+		});
+
+		// when
+		likedProductCache.isLiked(1L, 10L);
+
+		// then
+		assertThat(likedProductCache.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("쓰기 트랜잭션 안에서 적재한 비트맵은 캐시에 올리지 않는다")
+	void testSkipInstallInReadWriteTransaction() {
+		// given
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+
+		// when
+		boolean liked = likedProductCache.isLiked(1L, 10L);
+
+		// then
+		assertThat(liked).isTrue();
+		assertThat(likedProductCache.size()).isZero();
+		verifyNoInteractions(transactionManager);
+	}
+
+	@Test
+	@DisplayName("읽기 전용 트랜잭션 안에서 적재한 비트맵은 캐시에 올린다")
+	void testInstallInReadOnlyTransaction() {
+		// given
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		// when
+		likedProductCache.isLiked(1L, 10L);
+
+		// then
+		assertThat(likedProductCache.size()).isEqualTo(1);
+	}
+}
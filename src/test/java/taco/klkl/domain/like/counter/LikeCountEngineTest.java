@@ -0,0 +1,110 @@
+package taco.klkl.domain.like.counter;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import taco.klkl.domain.like.exception.LikeCountBelowMinimumException;
+import taco.klkl.domain.product.domain.Product;
+import taco.klkl.global.common.constants.ProductConstants;
+
+class LikeCountEngineTest {
+
+	private static final long IDLE_NANOS =
+		TimeUnit.MILLISECONDS.toNanos(ProductConstants.LIKE_COUNT_COUNTER_IDLE_MILLIS);
+
+	private JdbcTemplate jdbcTemplate;
+	private LikeCountEngine likeCountEngine;
+	private Product product;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = mock(JdbcTemplate.class);
+		likeCountEngine = new LikeCountEngine(jdbcTemplate);
+		product = mock(Product.class);
+		when(product.getId()).thenReturn(1L);
+		when(product.getLikeCount()).thenReturn(10);
+	}
+
+	@Test
+	@DisplayName("좋아요 변화가 즉시 현재 값에 반영된다")
+	void testLiveLikeCount() {
+		// when
+		likeCountEngine.increase(product);
+		likeCountEngine.increase(product);
+		int likeCount = likeCountEngine.decrease(product);
+
+		// then
+		assertThat(likeCount).isEqualTo(11);
+		assertThat(likeCountEngine.getLiveLikeCount(product)).isEqualTo(11);
+	}
+
+	@Test
+	@DisplayName("모인 변화량을 한 번의 배치로 반영하고 비운다")
+	@SuppressWarnings("unchecked")
+	void testFlush() {
+		// given
+		likeCountEngine.increase(product);
+		likeCountEngine.increase(product);
+
+		// when
+		likeCountEngine.flush();
+		likeCountEngine.flush();
+
+		// then
+		ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+		verify(jdbcTemplate, times(1)).batchUpdate(anyString(), captor.capture());
+		assertThat(captor.getValue()).hasSize(1);
+		assertThat(captor.getValue().get(0)).containsExactly(2L, 1L);
+		assertThat(likeCountEngine.getLiveLikeCount(product)).isEqualTo(12);
+	}
+
+	@Test
+	@DisplayName("반영을 마치고 오래 쓰이지 않은 카운터는 제거되어 DB 값을 다시 읽는다")
+	void testEvictIdleCounter() {
+		// given
+		likeCountEngine.increase(product);
+		likeCountEngine.flush();
+		when(product.getLikeCount()).thenReturn(15);
+
+		// when
+		likeCountEngine.evictIdleCounters(System.nanoTime() + IDLE_NANOS);
+
+		// then
+		assertThat(likeCountEngine.getLiveLikeCount(product)).isEqualTo(15);
+	}
+
+	@Test
+	@DisplayName("반영하지 않은 변화가 남은 카운터는 제거하지 않는다")
+	void testKeepCounterWithPendingDelta() {
+		// given
+		likeCountEngine.increase(product);
+		when(product.getLikeCount()).thenReturn(15);
+
+		// when
+		likeCountEngine.evictIdleCounters(System.nanoTime() + IDLE_NANOS);
+
+		// then
+		assertThat(likeCountEngine.getLiveLikeCount(product)).isEqualTo(11);
+	}
+
+	@Test
+	@DisplayName("좋아요 수가 0이면 감소할 수 없다")
+	void testDecreaseBelowMinimum() {
+		// given
+		when(product.getLikeCount()).thenReturn(0);
+
+		// when & then
+		assertThatThrownBy(() -> likeCountEngine.decrease(product))
+			.isInstanceOf(LikeCountBelowMinimumException.class);
+	}
+}
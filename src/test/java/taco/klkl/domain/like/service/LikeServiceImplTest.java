@@ -4,6 +4,11 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,14 +16,19 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import taco.klkl.domain.like.cache.LikedProductCache;
+import taco.klkl.domain.like.counter.LikeCountEngine;
 import taco.klkl.domain.like.dao.LikeRepository;
-import taco.klkl.domain.like.domain.Like;
 import taco.klkl.domain.like.dto.response.LikeResponse;
+import taco.klkl.domain.like.dto.response.LikeStatusResponse;
 import taco.klkl.domain.like.exception.LikeCountBelowMinimumException;
 import taco.klkl.domain.like.exception.LikeCountOverMaximumException;
-import taco.klkl.domain.member.domain.Member;
+import taco.klkl.domain.member.cache.MemberPrincipal;
+import taco.klkl.domain.member.domain.Role;
 import taco.klkl.domain.product.domain.Product;
-import taco.klkl.domain.product.service.ProductService;
+import taco.klkl.domain.product.ranking.LikeCountLeaderboards;
+import taco.klkl.domain.product.ranking.TrendingRanker;
+import taco.klkl.global.util.LikeUtil;
 import taco.klkl.global.util.MemberUtil;
 import taco.klkl.global.util.ProductUtil;
 
@@ -28,7 +38,19 @@ class LikeServiceImplTest {
 	private LikeRepository likeRepository;
 
 	@Mock
-	private ProductService productService;
+	private LikeCountEngine likeCountEngine;
+
+	@Mock
+	private LikedProductCache likedProductCache;
+
+	@Mock
+	private TrendingRanker trendingRanker;
+
+	@Mock
+	private LikeCountLeaderboards likeCountLeaderboards;
+
+	@Mock
+	private LikeUtil likeUtil;
 
 	@Mock
 	private MemberUtil memberUtil;
@@ -42,12 +64,41 @@ class LikeServiceImplTest {
 	@Mock
 	private Product product;
 
-	@Mock
-	private Member member;
+	private final MemberPrincipal member = new MemberPrincipal(
+		101L,
+		UUID.randomUUID(),
+		"handle",
+		"name",
+		null,
+		null,
+		Role.USER
+	);
 
 	@BeforeEach
 	void setUp() {
 		MockitoAnnotations.openMocks(this);
+		when(product.getId()).thenReturn(1L);
+	}
+
+	@Test
+	@DisplayName("좋아요 여부 일괄 조회 테스트")
+	void testGetLikeStatuses() {
+		// given
+		Set<Long> productIds = new LinkedHashSet<>(List.of(3L, 1L, 2L));
+
+		when(memberUtil.getCurrentPrincipal()).thenReturn(member);
+		when(likeUtil.findLikedProductIdsByMemberId(101L, productIds)).thenReturn(Set.of(1L));
+
+		// when
+		List<LikeStatusResponse> statuses = likeService.getLikeStatuses(productIds);
+
+		// then
+		verify(likeUtil).findLikedProductIdsByMemberId(101L, productIds);
+		assertThat(statuses).containsExactly(
+			LikeStatusResponse.of(3L, false),
+			LikeStatusResponse.of(1L, true),
+			LikeStatusResponse.of(2L, false)
+		);
 	}
 
 	@Test
@@ -57,17 +108,18 @@ class LikeServiceImplTest {
 		Long productId = 1L;
 
 		when(productUtil.findProductEntityById(productId)).thenReturn(product);
-		when(memberUtil.getCurrentMember()).thenReturn(member);
-		when(likeRepository.existsByProductAndMember(product, member)).thenReturn(false);
-		when(productService.increaseLikeCount(product)).thenReturn(1);
+		when(memberUtil.getCurrentPrincipal()).thenReturn(member);
+		when(likeRepository.insertIfAbsent(eq(1L), eq(101L), any())).thenReturn(1);
+		when(likeCountEngine.increase(product)).thenReturn(1);
 		LikeResponse likeResponse = LikeResponse.of(true, 1);
 
 		// when
 		LikeResponse returnLikeResponse = likeService.createLike(productId);
 
 		// then
-		verify(likeRepository).save(any(Like.class));
-		verify(productService).increaseLikeCount(product);
+		verify(likeRepository).insertIfAbsent(eq(1L), eq(101L), any());
+		verify(likeCountEngine).increase(product);
+		verify(likedProductCache).recordLike(101L, 1L);
 		assertThat(returnLikeResponse).isEqualTo(likeResponse);
 
 	}
@@ -79,10 +131,10 @@ class LikeServiceImplTest {
 		Long productId = 1L;
 
 		when(productUtil.findProductEntityById(productId)).thenReturn(product);
-		when(memberUtil.getCurrentMember()).thenReturn(member);
-		when(likeRepository.existsByProductAndMember(product, member)).thenReturn(true);
-		when(product.getLikeCount()).thenReturn(1);
-		LikeResponse likeResponse = LikeResponse.of(true, product.getLikeCount());
+		when(memberUtil.getCurrentPrincipal()).thenReturn(member);
+		when(likeRepository.insertIfAbsent(eq(1L), eq(101L), any())).thenReturn(0, 2, 0);
+		when(likeCountEngine.getLiveLikeCount(product)).thenReturn(1);
+		LikeResponse likeResponse = LikeResponse.of(true, likeCountEngine.getLiveLikeCount(product));
 
 		// when
 		LikeResponse returnLikeResponse1 = likeService.createLike(productId);
@@ -90,8 +142,9 @@ class LikeServiceImplTest {
 		LikeResponse returnLikeResponse3 = likeService.createLike(productId);
 
 		// then
-		verify(likeRepository, never()).save(any(Like.class));
-		verify(productService, never()).increaseLikeCount(product);
+		verify(likeRepository, times(3)).insertIfAbsent(eq(1L), eq(101L), any());
+		verify(likeCountEngine, never()).increase(product);
+		verify(likedProductCache, never()).recordLike(any(), any());
 		assertThat(returnLikeResponse1).isEqualTo(likeResponse);
 		assertThat(returnLikeResponse2).isEqualTo(likeResponse);
 		assertThat(returnLikeResponse3).isEqualTo(likeResponse);
@@ -104,18 +157,19 @@ class LikeServiceImplTest {
 		Long productId = 1L;
 
 		when(productUtil.findProductEntityById(productId)).thenReturn(product);
-		when(memberUtil.getCurrentMember()).thenReturn(member);
-		when(likeRepository.existsByProductAndMember(product, member)).thenReturn(true);
-		when(productService.decreaseLikeCount(product)).thenReturn(0);
-		when(product.getLikeCount()).thenReturn(0);
-		LikeResponse likeResponse = LikeResponse.of(false, product.getLikeCount());
+		when(memberUtil.getCurrentPrincipal()).thenReturn(member);
+		when(likeRepository.deleteByProductIdAndMemberId(1L, 101L)).thenReturn(1);
+		when(likeCountEngine.decrease(product)).thenReturn(0);
+		when(likeCountEngine.getLiveLikeCount(product)).thenReturn(0);
+		LikeResponse likeResponse = LikeResponse.of(false, likeCountEngine.getLiveLikeCount(product));
 
 		// when
 		LikeResponse returnLikeResponse = likeService.deleteLike(productId);
 
 		// then
-		verify(likeRepository).deleteByProductAndMember(product, member);
-		verify(productService).decreaseLikeCount(product);
+		verify(likeRepository).deleteByProductIdAndMemberId(1L, 101L);
+		verify(likeCountEngine).decrease(product);
+		verify(likedProductCache).recordUnlike(101L, 1L);
 		assertThat(returnLikeResponse).isEqualTo(likeResponse);
 	}
 
@@ -126,10 +180,10 @@ class LikeServiceImplTest {
 		Long productId = 1L;
 
 		when(productUtil.findProductEntityById(productId)).thenReturn(product);
-		when(memberUtil.getCurrentMember()).thenReturn(member);
-		when(likeRepository.existsByProductAndMember(product, member)).thenReturn(false);
-		when(product.getLikeCount()).thenReturn(1);
-		LikeResponse likeResponse = LikeResponse.of(false, product.getLikeCount());
+		when(memberUtil.getCurrentPrincipal()).thenReturn(member);
+		when(likeRepository.deleteByProductIdAndMemberId(1L, 101L)).thenReturn(0);
+		when(likeCountEngine.getLiveLikeCount(product)).thenReturn(1);
+		LikeResponse likeResponse = LikeResponse.of(false, likeCountEngine.getLiveLikeCount(product));
 
 		// when
 		LikeResponse returnLikeResponse1 = likeService.deleteLike(productId);
@@ -137,8 +191,9 @@ class LikeServiceImplTest {
 		LikeResponse returnLikeResponse3 = likeService.deleteLike(productId);
 
 		// then
-		verify(likeRepository, never()).deleteByProductAndMember(product, member);
-		verify(productService, never()).decreaseLikeCount(product);
+		verify(likeRepository, times(3)).deleteByProductIdAndMemberId(1L, 101L);
+		verify(likeCountEngine, never()).decrease(product);
+		verify(likedProductCache, never()).recordUnlike(any(), any());
 		assertThat(returnLikeResponse1).isEqualTo(likeResponse);
 		assertThat(returnLikeResponse2).isEqualTo(likeResponse);
 		assertThat(returnLikeResponse3).isEqualTo(likeResponse);
@@ -151,10 +206,9 @@ class LikeServiceImplTest {
 		Long productId = 1L;
 
 		when(productUtil.findProductEntityById(productId)).thenReturn(product);
-		when(memberUtil.getCurrentMember()).thenReturn(member);
-		when(likeRepository.existsByProductAndMember(product, member)).thenReturn(false);
-		when(productService.increaseLikeCount(product)).thenThrow(LikeCountOverMaximumException.class);
-		doThrow(LikeCountOverMaximumException.class).when(product).increaseLikeCount();
+		when(memberUtil.getCurrentPrincipal()).thenReturn(member);
+		when(likeRepository.insertIfAbsent(eq(1L), eq(101L), any())).thenReturn(1);
+		when(likeCountEngine.increase(product)).thenThrow(LikeCountOverMaximumException.class);
 
 		// when & then
 		assertThatThrownBy(() -> {
@@ -169,10 +223,9 @@ class LikeServiceImplTest {
 		Long productId = 1L;
 
 		when(productUtil.findProductEntityById(productId)).thenReturn(product);
-		when(memberUtil.getCurrentMember()).thenReturn(member);
-		when(likeRepository.existsByProductAndMember(product, member)).thenReturn(true);
-		when(productService.decreaseLikeCount(product)).thenThrow(LikeCountBelowMinimumException.class);
-		doThrow(LikeCountBelowMinimumException.class).when(product).decreaseLikeCount();
+		when(memberUtil.getCurrentPrincipal()).thenReturn(member);
+		when(likeRepository.deleteByProductIdAndMemberId(1L, 101L)).thenReturn(1);
+		when(likeCountEngine.decrease(product)).thenThrow(LikeCountBelowMinimumException.class);
 
 		// when & then
 		assertThatThrownBy(() -> {
@@ -0,0 +1,78 @@
+package taco.klkl.domain.member.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import taco.klkl.domain.member.domain.Role;
+
+class MemberPrincipalCacheTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private MemberPrincipalCache memberPrincipalCache;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		memberPrincipalCache = new MemberPrincipalCache(meterRegistry);
+	}
+
+	@Test
+	@DisplayName("저장한 스냅샷을 조회하고 hit/miss 를 기록한다")
+	void testFind() {
+		// given
+		MemberPrincipal principal = createPrincipal();
+
+		// when
+		boolean missedBeforePut = memberPrincipalCache.find(principal.uuid()).isEmpty();
+		memberPrincipalCache.put(principal, memberPrincipalCache.currentVersion());
+
+		// then
+		assertThat(missedBeforePut).isTrue();
+		assertThat(memberPrincipalCache.find(principal.uuid())).contains(principal);
+		assertThat(meterRegistry.get("member.principal.cache").tag("result", "miss").counter().count())
+			.isEqualTo(1.0);
+		assertThat(meterRegistry.get("member.principal.cache").tag("result", "hit").counter().count())
+			.isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("evict 한 UUID 는 더 이상 조회되지 않는다")
+	void testEvict() {
+		// given
+		MemberPrincipal principal = createPrincipal();
+		memberPrincipalCache.put(principal, memberPrincipalCache.currentVersion());
+
+		// when
+		memberPrincipalCache.evict(principal.uuid());
+
+		// then
+		assertThat(memberPrincipalCache.find(principal.uuid())).isEmpty();
+		assertThat(memberPrincipalCache.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("조회 도중 evict 가 일어나면 낡은 스냅샷을 저장하지 않는다")
+	void testPutWithStaleVersion() {
+		// given
+		MemberPrincipal principal = createPrincipal();
+		long version = memberPrincipalCache.currentVersion();
+
+		// when
+		memberPrincipalCache.evict(principal.uuid());
+		memberPrincipalCache.put(principal, version);
+
+		// then
+		assertThat(memberPrincipalCache.find(principal.uuid())).isEmpty();
+		assertThat(memberPrincipalCache.size()).isZero();
+	}
+
+	private MemberPrincipal createPrincipal() {
+		return new MemberPrincipal(1L, UUID.randomUUID(), "handle", "name", null, null, Role.USER);
+	}
+}
@@ -16,6 +16,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import taco.klkl.domain.member.cache.MemberPrincipal;
 import taco.klkl.domain.member.domain.Member;
 import taco.klkl.domain.member.dto.response.MemberDetailResponse;
 import taco.klkl.domain.member.service.MemberService;
@@ -61,7 +62,7 @@ class MemberControllerTest {
 	@DisplayName("내 정보 조회 API 테스트")
 	public void testGetMe() throws Exception {
 		// given
-		when(memberUtil.getCurrentMember()).thenReturn(member);
+		when(memberUtil.getCurrentPrincipal()).thenReturn(MemberPrincipal.from(member));
 		when(memberService.getMemberById(any())).thenReturn(memberDetailResponse);
 
 		// when & then
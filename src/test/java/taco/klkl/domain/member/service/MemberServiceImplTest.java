@@ -3,20 +3,31 @@ package taco.klkl.domain.member.service;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import taco.klkl.domain.member.cache.MemberPrincipal;
+import taco.klkl.domain.member.dao.FollowRepository;
 import taco.klkl.domain.member.dao.MemberRepository;
 import taco.klkl.domain.member.domain.Member;
+import taco.klkl.domain.member.dto.response.FollowStatusResponse;
 import taco.klkl.domain.member.dto.response.MemberDetailResponse;
+import taco.klkl.global.common.concurrent.SingleFlight;
+import taco.klkl.global.common.transaction.ReadOnlyTransactionExecutor;
 import taco.klkl.global.util.MemberUtil;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,9 +37,19 @@ class MemberServiceImplTest {
 	@Mock
 	MemberRepository memberRepository;
 
+	@Mock
+	FollowRepository followRepository;
+
 	@Mock
 	MemberUtil memberUtil;
 
+	@Spy
+	SingleFlight singleFlight = new SingleFlight(new SimpleMeterRegistry());
+
+	@Spy
+	ReadOnlyTransactionExecutor readOnlyTransactionExecutor =
+		new ReadOnlyTransactionExecutor(mock(PlatformTransactionManager.class));
+
 	@InjectMocks
 	MemberServiceImpl memberService;
 
@@ -51,4 +72,35 @@ class MemberServiceImplTest {
 		assertThat(userDto.name()).isEqualTo(member.getDisplayName());
 		assertThat(userDto.description()).isEqualTo(member.getDescription());
 	}
+
+	@Test
+	@DisplayName("여러 회원의 팔로우 여부를 요청한 순서대로 반환한다")
+	public void testGetFollowingStatuses() {
+		// given
+		MemberPrincipal principal = new MemberPrincipal(1L, null, "me", "나", null, null, null);
+		Set<Long> followingIds = new LinkedHashSet<>(List.of(30L, 10L, 20L));
+		when(memberUtil.getCurrentPrincipal()).thenReturn(principal);
+		when(followRepository.findFollowingIds(1L, followingIds)).thenReturn(List.of(20L, 30L));
+
+		// when
+		List<FollowStatusResponse> responses = memberService.getFollowingStatuses(followingIds);
+
+		// then
+		assertThat(responses).containsExactly(
+			FollowStatusResponse.of(30L, true),
+			FollowStatusResponse.of(10L, false),
+			FollowStatusResponse.of(20L, true)
+		);
+	}
+
+	@Test
+	@DisplayName("빈 목록이면 팔로우를 조회하지 않고 빈 목록을 반환한다")
+	public void testGetFollowingStatusesWithEmptyIds() {
+		// when
+		List<FollowStatusResponse> responses = memberService.getFollowingStatuses(Set.of());
+
+		// then
+		assertThat(responses).isEmpty();
+		verifyNoInteractions(followRepository);
+	}
 }
@@ -8,6 +8,7 @@ import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -28,8 +29,10 @@ import taco.klkl.domain.category.domain.category.CategoryType;
 import taco.klkl.domain.category.domain.subcategory.Subcategory;
 import taco.klkl.domain.category.domain.subcategory.SubcategoryType;
 import taco.klkl.domain.comment.domain.Comment;
+import taco.klkl.domain.member.cache.MemberPrincipal;
 import taco.klkl.domain.member.domain.Member;
 import taco.klkl.domain.member.domain.QMember;
+import taco.klkl.domain.member.domain.Role;
 import taco.klkl.domain.notification.dao.NotificationRepository;
 import taco.klkl.domain.notification.domain.Notification;
 import taco.klkl.domain.notification.domain.QNotification;
@@ -67,6 +70,16 @@ public class NotificationServiceImplTest {
 	@Mock
 	private Member mockMember;
 
+	private final MemberPrincipal principal = new MemberPrincipal(
+		1L,
+		UUID.randomUUID(),
+		"handle",
+		"name",
+		null,
+		null,
+		Role.USER
+	);
+
 	@Mock
 	private Notification mockNotification;
 
@@ -122,7 +135,7 @@ public class NotificationServiceImplTest {
 		QNotification notification = QNotification.notification;
 		QMember member = QMember.member;
 
-		when(memberUtil.getCurrentMember()).thenReturn(mockMember);
+		when(memberUtil.getCurrentPrincipal()).thenReturn(principal);
 		when(mockNotification.getId()).thenReturn(1L);
 		when(mockNotification.getIsRead()).thenReturn(false);
 		when(mockNotification.getCreatedAt()).thenReturn(LocalDateTime.now());
@@ -152,7 +165,7 @@ public class NotificationServiceImplTest {
 		QNotification notification = QNotification.notification;
 		QMember member = QMember.member;
 
-		when(memberUtil.getCurrentMember()).thenReturn(mockMember);
+		when(memberUtil.getCurrentPrincipal()).thenReturn(principal);
 
 		when(queryFactory.selectFrom(any(QNotification.class))).thenReturn(mockQuery);
 		when(mockQuery.join(notification.comment.product.member, member)).thenReturn(mockQuery);
@@ -176,7 +189,7 @@ public class NotificationServiceImplTest {
 
 		List<Notification> notificationList = List.of(notification1, notification2);
 
-		when(memberUtil.getCurrentMember()).thenReturn(mockMember);
+		when(memberUtil.getCurrentMemberReference()).thenReturn(mockMember);
 		when(notificationRepository.findByComment_Product_Member(mockMember)).thenReturn(notificationList);
 
 		//when
@@ -196,7 +209,8 @@ public class NotificationServiceImplTest {
 		//given
 		Notification notification = Notification.of(comment);
 
-		when(memberUtil.getCurrentMember()).thenReturn(mockMember);
+		when(memberUtil.getCurrentPrincipal()).thenReturn(principal);
+		when(mockMember.getId()).thenReturn(principal.id());
 		when(notificationRepository.findById(1L)).thenReturn(Optional.of(notification));
 
 		//when
@@ -0,0 +1,57 @@
+package taco.klkl.domain.product.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import taco.klkl.domain.product.dto.request.ProductFilterOptions;
+
+class ProductCountCacheTest {
+
+	private final ProductCountCache productCountCache = new ProductCountCache();
+
+	@Test
+	@DisplayName("필터 조건의 순서와 관계없이 같은 개수를 조회")
+	void testFindWithNormalizedKey() {
+		// given
+		ProductFilterOptions filterOptions = new ProductFilterOptions(Set.of(1L, 2L), null, Set.of());
+		ProductFilterOptions sameFilterOptions = new ProductFilterOptions(Set.of(2L, 1L), Set.of(), null);
+		productCountCache.put(filterOptions, 5L, productCountCache.currentGeneration());
+
+		// when & then
+		assertThat(productCountCache.find(sameFilterOptions)).hasValue(5L);
+		assertThat(productCountCache.find(new ProductFilterOptions(Set.of(1L), null, null))).isEmpty();
+	}
+
+	@Test
+	@DisplayName("무효화 이후에는 캐시된 개수를 반환하지 않음")
+	void testInvalidateAll() {
+		// given
+		ProductFilterOptions filterOptions = new ProductFilterOptions(null, Set.of(310L), null);
+		productCountCache.put(filterOptions, 3L, productCountCache.currentGeneration());
+
+		// when
+		productCountCache.invalidateAll();
+
+		// then
+		assertThat(productCountCache.find(filterOptions)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("조회 도중 무효화가 일어나면 오래된 개수를 저장하지 않음")
+	void testPutAfterInvalidation() {
+		// given
+		ProductFilterOptions filterOptions = new ProductFilterOptions(null, null, Set.of(350L));
+		long generation = productCountCache.currentGeneration();
+
+		// when
+		productCountCache.invalidateAll();
+		productCountCache.put(filterOptions, 3L, generation);
+
+		// then
+		assertThat(productCountCache.find(filterOptions)).isEmpty();
+	}
+}
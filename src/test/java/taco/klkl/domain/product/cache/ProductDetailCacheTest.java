@@ -0,0 +1,89 @@
+package taco.klkl.domain.product.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import taco.klkl.domain.member.dto.response.MemberDetailResponse;
+import taco.klkl.domain.product.dto.response.ProductDetailResponse;
+
+class ProductDetailCacheTest {
+
+	private final ProductDetailCache productDetailCache = new ProductDetailCache();
+
+	@Test
+	@DisplayName("조회를 시작한 뒤 무효화되면 저장하지 않음")
+	void testPutRejectsStaleVersion() {
+		// given
+		long version = productDetailCache.currentVersion(1L);
+
+		// when
+		productDetailCache.invalidate(1L);
+		productDetailCache.put(1L, createDetail(1L, 10L), version);
+
+		// then
+		assertThat(productDetailCache.find(1L)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("무효화된 상품만 캐시에서 지워짐")
+	void testInvalidate() {
+		// given
+		ProductDetailResponse first = createDetail(1L, 10L);
+		ProductDetailResponse second = createDetail(2L, 10L);
+		productDetailCache.put(1L, first, productDetailCache.currentVersion(1L));
+		productDetailCache.put(2L, second, productDetailCache.currentVersion(2L));
+
+		// when
+		productDetailCache.invalidate(1L);
+
+		// then
+		assertThat(productDetailCache.find(1L)).isEmpty();
+		assertThat(productDetailCache.find(2L)).contains(second);
+	}
+
+	@Test
+	@DisplayName("작성자 정보가 바뀌면 그 회원의 상품만 지워짐")
+	void testInvalidateByMember() {
+		// given
+		ProductDetailResponse mine = createDetail(1L, 10L);
+		ProductDetailResponse others = createDetail(2L, 20L);
+		productDetailCache.put(1L, mine, productDetailCache.currentVersion(1L));
+		productDetailCache.put(2L, others, productDetailCache.currentVersion(2L));
+		long inFlightVersion = productDetailCache.currentVersion(3L);
+
+		// when
+		productDetailCache.invalidateByMember(10L);
+		productDetailCache.put(3L, createDetail(3L, 10L), inFlightVersion);
+
+		// then
+		assertThat(productDetailCache.find(1L)).isEmpty();
+		assertThat(productDetailCache.find(2L)).contains(others);
+		assertThat(productDetailCache.find(3L)).isEmpty();
+	}
+
+	private ProductDetailResponse createDetail(final Long productId, final Long memberId) {
+		return new ProductDetailResponse(
+			productId,
+			List.of(),
+			"name",
+			"description",
+			"address",
+			1000,
+			0,
+			5.0,
+			new MemberDetailResponse(memberId, null, "member", "handle", "description"),
+			null,
+			null,
+			null,
+			Set.of(),
+			false,
+			LocalDateTime.now()
+		);
+	}
+}
@@ -160,7 +160,7 @@ public class ProductControllerTest {
 		// Given
 		List<ProductSimpleResponse> products = List.of(productSimpleResponse);
 		PagedResponse<ProductSimpleResponse> pagedResponse = new PagedResponse<>(
-			products, 0, 10, 1, 1, true
+			products, 0, 10, 1, 1, true, true
 		);
 		when(productService.findProductsByFilterOptionsAndSortOptions(
 			any(Pageable.class),
@@ -195,6 +195,7 @@ public class ProductControllerTest {
 			.andExpect(jsonPath("$.data.totalElements", is(1)))
 			.andExpect(jsonPath("$.data.totalPages", is(1)))
 			.andExpect(jsonPath("$.data.last", is(true)))
+			.andExpect(jsonPath("$.data.isTotalExact", is(true)))
 			.andExpect(jsonPath("$.timestamp", notNullValue()));
 
 		// Verify that the service method was called with correct parameters
@@ -228,7 +229,7 @@ public class ProductControllerTest {
 		// Given
 		List<ProductSimpleResponse> products = List.of(productSimpleResponse);
 		PagedResponse<ProductSimpleResponse> pagedResponse = new PagedResponse<>(
-			products, 0, 10, 1, 1, true
+			products, 0, 10, 1, 1, true, true
 		);
 		when(productService.findProductsByPartialName(
 			any(String.class),
@@ -3,6 +3,9 @@ package taco.klkl.domain.product.domain;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -10,6 +13,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import taco.klkl.domain.category.domain.subcategory.Subcategory;
+import taco.klkl.domain.category.domain.tag.Tag;
+import taco.klkl.domain.image.domain.Image;
 import taco.klkl.domain.like.exception.LikeCountBelowMinimumException;
 import taco.klkl.domain.like.exception.LikeCountOverMaximumException;
 import taco.klkl.domain.member.domain.Member;
@@ -203,6 +208,52 @@ class ProductTest {
 		assertThat(product.getCurrency()).isEqualTo(updatedCurrency);
 	}
 
+	@Test
+	@DisplayName("태그 수정 시 유지되는 태그는 그대로 두고 바뀐 태그만 추가/삭제")
+	public void testUpdateTags() {
+		// given
+		Product product = createProduct();
+		Tag keptTag = mockTag(1L);
+		Tag removedTag = mockTag(2L);
+		Tag addedTag = mockTag(3L);
+		product.addTags(Set.of(keptTag, removedTag));
+		ProductTag keptProductTag = product.getProductTags().stream()
+			.filter(productTag -> productTag.getTag() == keptTag)
+			.findFirst()
+			.orElseThrow();
+
+		// when
+		product.updateTags(Set.of(keptTag, addedTag));
+
+		// then
+		assertThat(product.getProductTags())
+			.extracting(ProductTag::getTag)
+			.containsExactlyInAnyOrder(keptTag, addedTag);
+		assertThat(product.getProductTags()).contains(keptProductTag);
+	}
+
+	@Test
+	@DisplayName("이미지 수정 시 유지되는 이미지는 순서만 바꾸고 바뀐 이미지만 추가/삭제")
+	public void testUpdateImages() {
+		// given
+		Product product = createProduct();
+		Image keptImage = mockImage(1L);
+		Image removedImage = mockImage(2L);
+		Image addedImage = mockImage(3L);
+		product.updateImages(List.of(removedImage, keptImage));
+		ProductImage keptProductImage = product.getImages().get(1);
+
+		// when
+		product.updateImages(List.of(addedImage, keptImage));
+
+		// then
+		assertThat(product.getImages())
+			.extracting(ProductImage::getImage)
+			.containsExactly(addedImage, keptImage);
+		assertThat(product.getImages().get(1)).isSameAs(keptProductImage);
+		assertThat(keptProductImage.getOrder()).isEqualTo(1);
+	}
+
 	@Test
 	@DisplayName("상품 좋아요수 증가 테스트")
 	public void testIncreaseLikeCount() {
@@ -269,4 +320,30 @@ class ProductTest {
 		// when & then
 		Assertions.assertThrows(LikeCountBelowMinimumException.class, mockProduct::increaseLikeCount);
 	}
+
+	private Product createProduct() {
+		return Product.of(
+			"name",
+			"description",
+			"address",
+			100,
+			Rating.FIVE,
+			mockMember,
+			mockCity,
+			mockSubcategory,
+			mockCurrency
+		);
+	}
+
+	private Tag mockTag(final Long id) {
+		Tag tag = mock(Tag.class);
+		when(tag.getId()).thenReturn(id);
+		return tag;
+	}
+
+	private Image mockImage(final Long id) {
+		Image image = mock(Image.class);
+		when(image.getId()).thenReturn(id);
+		return image;
+	}
 }
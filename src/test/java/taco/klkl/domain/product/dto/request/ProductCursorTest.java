@@ -0,0 +1,141 @@
+package taco.klkl.domain.product.dto.request;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import taco.klkl.domain.product.domain.Rating;
+import taco.klkl.domain.product.domain.SortCriteria;
+import taco.klkl.domain.product.dto.projection.ProductSimpleProjection;
+import taco.klkl.domain.product.exception.CursorInvalidException;
+
+class ProductCursorTest {
+
+	private static final Sort.Direction DESC = Sort.Direction.DESC;
+	private static final String SCOPE = ProductCursor.scopeOf(Set.of(1L));
+
+	private final ProductSimpleProjection projection = new ProductSimpleProjection(
+		10L,
+		"name",
+		7,
+		Rating.FOUR_FIVE,
+		"countryName",
+		"categoryName",
+		LocalDateTime.of(2024, 8, 1, 12, 30, 15, 123456000)
+	);
+
+	@Test
+	@DisplayName("좋아요수 커서 인코딩/디코딩 테스트")
+	void testLikeCountCursor() {
+		// given
+		String encoded = ProductCursor.of(SortCriteria.LIKE_COUNT, DESC, SCOPE, projection).encode();
+
+		// when
+		ProductCursor decoded = ProductCursor.decode(encoded, SortCriteria.LIKE_COUNT, DESC, SCOPE);
+
+		// then
+		assertThat(decoded.productId()).isEqualTo(10L);
+		assertThat(decoded.likeCountValue()).isEqualTo(7);
+	}
+
+	@Test
+	@DisplayName("평점 커서 인코딩/디코딩 테스트")
+	void testRatingCursor() {
+		// given
+		String encoded = ProductCursor.of(SortCriteria.RATING, DESC, SCOPE, projection).encode();
+
+		// when
+		ProductCursor decoded = ProductCursor.decode(encoded, SortCriteria.RATING, DESC, SCOPE);
+
+		// then
+		assertThat(decoded.productId()).isEqualTo(10L);
+		assertThat(decoded.ratingValue()).isEqualTo(Rating.FOUR_FIVE);
+	}
+
+	@Test
+	@DisplayName("생성일 커서 인코딩/디코딩 테스트")
+	void testCreatedAtCursor() {
+		// given
+		String encoded = ProductCursor.of(SortCriteria.CREATED_AT, DESC, SCOPE, projection).encode();
+
+		// when
+		ProductCursor decoded = ProductCursor.decode(encoded, SortCriteria.CREATED_AT, DESC, SCOPE);
+
+		// then
+		assertThat(decoded.productId()).isEqualTo(10L);
+		assertThat(decoded.createdAtValue()).isEqualTo(projection.createdAt());
+	}
+
+	@Test
+	@DisplayName("커서가 없으면 첫 페이지로 간주")
+	void testEmptyCursor() {
+		assertThat(ProductCursor.decode(null, SortCriteria.CREATED_AT, DESC, SCOPE)).isNull();
+		assertThat(ProductCursor.decode("", SortCriteria.CREATED_AT, DESC, SCOPE)).isNull();
+	}
+
+	@Test
+	@DisplayName("정렬 기준이 다른 커서는 거부")
+	void testSortCriteriaMismatch() {
+		// given
+		String encoded = ProductCursor.of(SortCriteria.LIKE_COUNT, DESC, SCOPE, projection).encode();
+
+		// when & then
+		assertThatThrownBy(() -> ProductCursor.decode(encoded, SortCriteria.RATING, DESC, SCOPE))
+			.isInstanceOf(CursorInvalidException.class);
+	}
+
+	@Test
+	@DisplayName("형식이 잘못된 커서는 거부")
+	void testMalformedCursor() {
+		// given
+		String notBase64 = "not-a-cursor!";
+		String badValue = Base64.getUrlEncoder()
+			.encodeToString(("like_count|desc|" + SCOPE + "|abc|10").getBytes(StandardCharsets.UTF_8));
+
+		// when & then
+		assertThatThrownBy(() -> ProductCursor.decode(notBase64, SortCriteria.LIKE_COUNT, DESC, SCOPE))
+			.isInstanceOf(CursorInvalidException.class);
+		assertThatThrownBy(() -> ProductCursor.decode(badValue, SortCriteria.LIKE_COUNT, DESC, SCOPE))
+			.isInstanceOf(CursorInvalidException.class);
+	}
+
+	@Test
+	@DisplayName("정렬 방향이 다른 커서는 거부")
+	void testDirectionMismatch() {
+		// given
+		String encoded = ProductCursor.of(SortCriteria.LIKE_COUNT, DESC, SCOPE, projection).encode();
+
+		// when & then
+		assertThatThrownBy(() -> ProductCursor.decode(encoded, SortCriteria.LIKE_COUNT, Sort.Direction.ASC, SCOPE))
+			.isInstanceOf(CursorInvalidException.class);
+	}
+
+	@Test
+	@DisplayName("필터 조건이 다른 커서는 거부")
+	void testScopeMismatch() {
+		// given
+		String encoded = ProductCursor.of(SortCriteria.LIKE_COUNT, DESC, SCOPE, projection).encode();
+		String otherScope = ProductCursor.scopeOf(Set.of(2L));
+
+		// when & then
+		assertThatThrownBy(() -> ProductCursor.decode(encoded, SortCriteria.LIKE_COUNT, DESC, otherScope))
+			.isInstanceOf(CursorInvalidException.class);
+	}
+
+	@Test
+	@DisplayName("조건 해시는 컬렉션 순서와 상관없고 null 과 빈 조건을 같게 본다")
+	void testScopeOf() {
+		assertThat(ProductCursor.scopeOf(List.of(3L, 1L, 2L), null))
+			.isEqualTo(ProductCursor.scopeOf(List.of(1L, 2L, 3L), Set.of()));
+		assertThat(ProductCursor.scopeOf(List.of(1L), null))
+			.isNotEqualTo(ProductCursor.scopeOf(null, List.of(1L)));
+	}
+}
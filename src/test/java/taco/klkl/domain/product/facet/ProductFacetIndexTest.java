@@ -0,0 +1,175 @@
+package taco.klkl.domain.product.facet;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import taco.klkl.domain.product.domain.Product;
+import taco.klkl.domain.product.domain.ProductTag;
+import taco.klkl.domain.product.domain.TagMatch;
+import taco.klkl.domain.product.dto.request.ProductFilterOptions;
+
+class ProductFacetIndexTest {
+
+	private ProductFacetIndex productFacetIndex;
+
+	@BeforeEach
+	void setUp() {
+		productFacetIndex = new ProductFacetIndex(mock(JPAQueryFactory.class));
+		productFacetIndex.load(List.of(
+			FacetDocument.of(1L, 10L, 100L, Set.of(1L, 2L)),
+			FacetDocument.of(2L, 10L, 200L, Set.of(1L)),
+			FacetDocument.of(3L, 20L, 100L, Set.of()),
+			FacetDocument.of(4L, 20L, 100L, Set.of(2L))
+		));
+	}
+
+	@Test
+	@DisplayName("각 패싯은 자기 필터를 제외한 나머지 필터로 센다")
+	void testCountExcludesOwnFilter() {
+		// given
+		ProductFilterOptions filterOptions = new ProductFilterOptions(Set.of(10L), null, Set.of(2L));
+
+		// when
+		FacetCounts counts = productFacetIndex.count(filterOptions);
+
+		// then
+		assertThat(counts.total()).isEqualTo(1L);
+		assertThat(counts.cityCounts()).isEqualTo(Map.of(10L, 1L, 20L, 1L));
+		assertThat(counts.subcategoryCounts()).isEqualTo(Map.of(100L, 1L));
+		assertThat(counts.tagCounts()).isEqualTo(Map.of(1L, 2L, 2L, 1L));
+	}
+
+	@Test
+	@DisplayName("필터가 없으면 모든 상품을 센다")
+	void testCountWithoutFilter() {
+		// given
+		ProductFilterOptions filterOptions = new ProductFilterOptions(null, null, null);
+
+		// when
+		FacetCounts counts = productFacetIndex.count(filterOptions);
+
+		// then
+		assertThat(counts.total()).isEqualTo(4L);
+		assertThat(counts.cityCounts()).isEqualTo(Map.of(10L, 2L, 20L, 2L));
+		assertThat(counts.subcategoryCounts()).isEqualTo(Map.of(100L, 3L, 200L, 1L));
+		assertThat(counts.tagCounts()).isEqualTo(Map.of(1L, 2L, 2L, 2L));
+	}
+
+	@Test
+	@DisplayName("태그 ALL 조건은 선택한 태그를 모두 가진 상품만 센다")
+	void testCountWithAllTagMatch() {
+		// given
+		ProductFilterOptions filterOptions = new ProductFilterOptions(null, null, Set.of(1L, 2L), TagMatch.ALL);
+
+		// when
+		FacetCounts counts = productFacetIndex.count(filterOptions);
+
+		// then
+		assertThat(counts.total()).isEqualTo(1L);
+		assertThat(counts.cityCounts()).isEqualTo(Map.of(10L, 1L));
+		assertThat(counts.subcategoryCounts()).isEqualTo(Map.of(100L, 1L));
+		assertThat(counts.tagCounts()).isEqualTo(Map.of(1L, 1L, 2L, 1L));
+	}
+
+	@Test
+	@DisplayName("도시, 소분류, 태그 비트맵의 교집합으로 후보 상품 ID 를 구한다")
+	void testFindProductIds() {
+		// given
+		ProductFilterOptions anyTags = new ProductFilterOptions(null, Set.of(100L), Set.of(1L, 2L));
+		ProductFilterOptions allTags = new ProductFilterOptions(null, null, Set.of(1L, 2L), TagMatch.ALL);
+
+		// when & then
+		assertThat(productFacetIndex.findProductIds(anyTags, 10)).contains(List.of(1L, 4L));
+		assertThat(productFacetIndex.findProductIds(allTags, 10)).contains(List.of(1L));
+		assertThat(productFacetIndex.findProductIds(anyTags, 1)).isEmpty();
+		assertThat(productFacetIndex.findMatchingProductIds(List.of(2L, 3L, 4L), anyTags)).containsExactly(4L);
+	}
+
+	@Test
+	@DisplayName("상품의 태그가 바뀌면 후보에 반영된다")
+	void testPutReplacesPostings() {
+		// given
+		Product product = createProduct(3L, 20L, 100L, 1L);
+
+		// when
+		productFacetIndex.put(product);
+
+		// then
+		assertThat(productFacetIndex.findProductIds(new ProductFilterOptions(null, null, Set.of(1L)), 10))
+			.contains(List.of(1L, 2L, 3L));
+		assertThat(productFacetIndex.size()).isEqualTo(4);
+	}
+
+	@Test
+	@DisplayName("삭제된 상품은 개수에서 빠진다")
+	void testRemove() {
+		// when
+		productFacetIndex.remove(1L);
+		FacetCounts counts = productFacetIndex.count(new ProductFilterOptions(null, null, Set.of(2L)));
+
+		// then
+		assertThat(counts.total()).isEqualTo(1L);
+		assertThat(counts.cityCounts()).isEqualTo(Map.of(20L, 1L));
+		assertThat(productFacetIndex.size()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("트랜잭션 안의 변경은 같은 트랜잭션에만 보이고 커밋된 뒤에 반영된다")
+	void testStageInTransaction() {
+		// given
+		ProductFilterOptions tagFilter = new ProductFilterOptions(null, null, Set.of(2L));
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			productFacetIndex.remove(1L);
+			productFacetIndex.put(createProduct(5_000_000_000L, 20L, 200L, 2L));
+
+			// when
+			FacetCounts sameTransactionCounts = productFacetIndex.count(tagFilter);
+			Optional<List<Long>> sameTransactionIds = productFacetIndex.findProductIds(tagFilter, 10);
+			Optional<List<Long>> otherRequestIds = CompletableFuture
+				.supplyAsync(() -> productFacetIndex.findProductIds(tagFilter, 10))
+				.join();
+			TransactionSynchronizationManager.getSynchronizations()
+				.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+			// then
+			assertThat(sameTransactionCounts.total()).isEqualTo(2L);
+			assertThat(sameTransactionCounts.cityCounts()).isEqualTo(Map.of(20L, 2L));
+			assertThat(sameTransactionCounts.subcategoryCounts()).isEqualTo(Map.of(100L, 1L, 200L, 1L));
+			assertThat(sameTransactionCounts.tagCounts()).isEqualTo(Map.of(1L, 1L, 2L, 2L));
+			assertThat(sameTransactionIds).contains(List.of(4L, 5_000_000_000L));
+			assertThat(otherRequestIds).contains(List.of(1L, 4L));
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		assertThat(productFacetIndex.findProductIds(tagFilter, 10)).contains(List.of(4L, 5_000_000_000L));
+		assertThat(productFacetIndex.findMatchingProductIds(List.of(1L, 5_000_000_000L), tagFilter))
+			.containsExactly(5_000_000_000L);
+		assertThat(productFacetIndex.size()).isEqualTo(4);
+	}
+
+	private Product createProduct(final Long productId, final Long cityId, final Long subcategoryId, final Long tagId) {
+		Product product = mock(Product.class, RETURNS_DEEP_STUBS);
+		ProductTag productTag = mock(ProductTag.class, RETURNS_DEEP_STUBS);
+		when(product.getId()).thenReturn(productId);
+		when(product.getCity().getId()).thenReturn(cityId);
+		when(product.getSubcategory().getId()).thenReturn(subcategoryId);
+		when(productTag.getTag().getId()).thenReturn(tagId);
+		when(product.getProductTags()).thenReturn(Set.of(productTag));
+		return product;
+	}
+}
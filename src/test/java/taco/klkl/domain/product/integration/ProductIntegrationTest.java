@@ -254,7 +254,7 @@ public class ProductIntegrationTest {
 		);
 		ProductDetailResponse product1 = productService.createProduct(createRequest1);
 		productService.createProduct(createRequest2);
-		productService.increaseLikeCount(productRepository.getReferenceById(product1.id()));
+		productRepository.getReferenceById(product1.id()).increaseLikeCount();
 
 		// when & then
 		mockMvc.perform(get("/v1/products/search")
@@ -304,7 +304,7 @@ public class ProductIntegrationTest {
 		);
 		ProductDetailResponse product1 = productService.createProduct(createRequest1);
 		productService.createProduct(createRequest2);
-		productService.increaseLikeCount(productRepository.getReferenceById(product1.id()));
+		productRepository.getReferenceById(product1.id()).increaseLikeCount();
 
 		// when & then
 		mockMvc.perform(get("/v1/products/search")
@@ -739,6 +739,48 @@ public class ProductIntegrationTest {
 			.andExpect(jsonPath("$.timestamp", notNullValue()));
 	}
 
+	@Test
+	@DisplayName("모든 태그를 가진 상품만 필터링하는 상품 목록 조회 API 테스트")
+	public void testGetProductsByAllTagIds() throws Exception {
+		// given
+		ProductCreateUpdateRequest createCilantroRequest = new ProductCreateUpdateRequest(
+			"name1",
+			"description1",
+			"address1",
+			1000,
+			5.0,
+			415L,
+			310L,
+			438L,
+			Set.of(351L)
+		);
+		ProductCreateUpdateRequest createCilantroConvenienceStoreRequest = new ProductCreateUpdateRequest(
+			"name2",
+			"description2",
+			"address2",
+			2000,
+			5.0,
+			431L,
+			310L,
+			442L,
+			Set.of(351L, 350L)
+		);
+		productService.createProduct(createCilantroRequest);
+		productService.createProduct(createCilantroConvenienceStoreRequest);
+
+		// when & then
+		mockMvc.perform(get("/v1/products")
+				.param("tag_id", "351", "350")
+				.param("tag_match", "all")
+				.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.isSuccess", is(true)))
+			.andExpect(jsonPath("$.data.content", hasSize(1)))
+			.andExpect(jsonPath("$.data.content[0].name", is(createCilantroConvenienceStoreRequest.name())))
+			.andExpect(jsonPath("$.data.totalElements", is(1)))
+			.andExpect(jsonPath("$.timestamp", notNullValue()));
+	}
+
 	@Test
 	@DisplayName("생성된 날짜로 오름차순 정렬된 상품 목록 조회 API 테스트")
 	public void testSortProductsByCreatedAtAsc() throws Exception {
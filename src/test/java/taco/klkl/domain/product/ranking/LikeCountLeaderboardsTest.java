@@ -0,0 +1,158 @@
+package taco.klkl.domain.product.ranking;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import taco.klkl.domain.like.counter.LikeCountEngine;
+import taco.klkl.domain.product.domain.Product;
+import taco.klkl.domain.product.domain.QProduct;
+import taco.klkl.global.common.constants.ProductConstants;
+
+class LikeCountLeaderboardsTest {
+
+	private LikeCountLeaderboards.Leaderboard leaderboard;
+
+	@BeforeEach
+	void setUp() {
+		leaderboard = new LikeCountLeaderboards.Leaderboard();
+	}
+
+	@Test
+	@DisplayName("순위표가 모든 상품을 담고 있으면 좋아요 순으로 어떤 페이지든 반환한다")
+	void testFindPageWhenComplete() {
+		// given
+		leaderboard.update(1L, 3);
+		leaderboard.update(2L, 5);
+		leaderboard.update(3L, 4);
+
+		// when
+		Optional<LeaderboardPage> firstPage = leaderboard.findPage(0, 2);
+		Optional<LeaderboardPage> lastPage = leaderboard.findPage(2, 2);
+
+		// then
+		assertThat(firstPage.map(LeaderboardPage::productIds)).contains(List.of(2L, 3L));
+		assertThat(lastPage.map(LeaderboardPage::productIds)).contains(List.of(1L));
+		assertThat(firstPage.get().total()).hasValue(3L);
+	}
+
+	@Test
+	@DisplayName("좋아요 수가 바뀌면 순위가 다시 정렬된다")
+	void testUpdateReordersRanking() {
+		// given
+		leaderboard.update(1L, 3);
+		leaderboard.update(2L, 5);
+
+		// when
+		leaderboard.update(1L, 6);
+
+		// then
+		assertThat(leaderboard.findPage(0, 2).map(LeaderboardPage::productIds)).contains(List.of(1L, 2L));
+	}
+
+	@Test
+	@DisplayName("순위표 밖으로 밀려난 상품이 있으면 그보다 좋아요가 많은 앞쪽 페이지만 반환한다")
+	void testFindPageBeyondFloor() {
+		// given
+		for (long productId = 1; productId <= ProductConstants.LEADERBOARD_SIZE; productId++) {
+			leaderboard.update(productId, (int)productId + 1);
+		}
+		leaderboard.update(1_000L, 60);
+		leaderboard.update(2L, 1);
+
+		// when
+		Optional<LeaderboardPage> firstPage = leaderboard.findPage(0, 10);
+		Optional<LeaderboardPage> deepPage = leaderboard.findPage(ProductConstants.LEADERBOARD_SIZE - 10, 10);
+
+		// then
+		assertThat(firstPage).isPresent();
+		assertThat(firstPage.get().productIds()).first().isEqualTo((long)ProductConstants.LEADERBOARD_SIZE);
+		assertThat(firstPage.get().total()).isEmpty();
+		assertThat(leaderboard.findPage(ProductConstants.LEADERBOARD_SIZE - 11, 10)).isPresent();
+		assertThat(deepPage).isEmpty();
+	}
+
+	@Test
+	@DisplayName("적재 도중 같은 순위표에 좋아요가 커밋되면 적재한 순위표는 올리지 않는다")
+	void testSkipInstallWhenChangedDuringLoad() {
+		// given
+		JPAQuery<Tuple> query = mock(JPAQuery.class, RETURNS_SELF);
+		JPAQueryFactory queryFactory = mock(JPAQueryFactory.class, invocation -> query);
+		LikeCountEngine likeCountEngine = mock(LikeCountEngine.class);
+		LikeCountLeaderboards leaderboards = new LikeCountLeaderboards(
+			queryFactory,
+			likeCountEngine,
+			mock(PlatformTransactionManager.class)
+		);
+		Tuple row = createRow(1L, 5);
+		when(likeCountEngine.findLiveLikeCount(anyLong(), anyInt()))
+			.thenAnswer(invocation -> invocation.getArgument(1));
+		when(query.fetch())
+			.thenAnswer(invocation -> {
+				leaderboards.updateLikeCount(createProduct(2L), 3);
+				return List.of(row);
+			})
+			.thenReturn(List.of(row));
+
+		// when
+		leaderboards.findPage(LeaderboardKey.city(10L), 0, 10);
+		leaderboards.findPage(LeaderboardKey.city(10L), 0, 10);
+		leaderboards.findPage(LeaderboardKey.city(10L), 0, 10);
+
+		// then
+		verify(query, times(2)).fetch();
+	}
+
+	@Test
+	@DisplayName("좋아요 수는 커밋이 끝난 시점의 엔진 값으로 갱신한다")
+	void testUpdateWithLiveLikeCount() {
+		// given
+		JPAQuery<Tuple> query = mock(JPAQuery.class, RETURNS_SELF);
+		JPAQueryFactory queryFactory = mock(JPAQueryFactory.class, invocation -> query);
+		LikeCountEngine likeCountEngine = mock(LikeCountEngine.class);
+		LikeCountLeaderboards leaderboards = new LikeCountLeaderboards(
+			queryFactory,
+			likeCountEngine,
+			mock(PlatformTransactionManager.class)
+		);
+		Tuple row = createRow(1L, 5);
+		when(query.fetch()).thenReturn(List.of(row));
+		when(likeCountEngine.findLiveLikeCount(1L, 5)).thenReturn(5);
+		when(likeCountEngine.findLiveLikeCount(2L, 3)).thenReturn(9);
+		leaderboards.findPage(LeaderboardKey.city(10L), 0, 10);
+
+		// when
+		leaderboards.updateLikeCount(createProduct(2L), 3);
+
+		// then
+		assertThat(leaderboards.findPage(LeaderboardKey.city(10L), 0, 10).map(LeaderboardPage::productIds))
+			.contains(List.of(2L, 1L));
+	}
+
+	private Tuple createRow(final Long productId, final int likeCount) {
+		Tuple row = mock(Tuple.class);
+		when(row.get(QProduct.product.id)).thenReturn(productId);
+		when(row.get(QProduct.product.likeCount)).thenReturn(likeCount);
+		return row;
+	}
+
+	private Product createProduct(final Long productId) {
+		Product product = mock(Product.class, RETURNS_DEEP_STUBS);
+		when(product.getId()).thenReturn(productId);
+		when(product.getCity().getId()).thenReturn(10L);
+		when(product.getCity().getCountry().getId()).thenReturn(100L);
+		when(product.getSubcategory().getId()).thenReturn(1_000L);
+		return product;
+	}
+}
@@ -0,0 +1,102 @@
+package taco.klkl.domain.product.ranking;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import taco.klkl.global.common.constants.ProductConstants;
+
+class TrendingRankerTest {
+
+	private static final long NOW = System.currentTimeMillis();
+	private static final long HALF_LIFE = Duration.ofHours(ProductConstants.TRENDING_HALF_LIFE_HOURS).toMillis();
+
+	private TrendingRanker trendingRanker;
+
+	@BeforeEach
+	void setUp() {
+		trendingRanker = new TrendingRanker();
+	}
+
+	@Test
+	@DisplayName("최근 사건이 오래된 사건보다 높은 순위를 차지한다")
+	void testRecentEventsRankHigher() {
+		// given
+		trendingRanker.load(List.of(
+			event(1L, 1.0, NOW - 3 * HALF_LIFE),
+			event(1L, 1.0, NOW - 3 * HALF_LIFE),
+			event(1L, 1.0, NOW - 3 * HALF_LIFE),
+			event(2L, 1.0, NOW)
+		));
+
+		// when
+		List<TrendingEntry> entries = trendingRanker.findEntries(null, null);
+
+		// then
+		assertThat(entries).extracting(TrendingEntry::productId).containsExactly(2L, 1L);
+		assertThat(trendingRanker.currentScore(entries.get(1))).isCloseTo(3.0 / 8, within(0.01));
+	}
+
+	@Test
+	@DisplayName("좋아요 취소는 점수를 되돌리고, 점수가 남지 않으면 순위에서 빠진다")
+	void testNegativeEventRemovesEntry() {
+		// given
+		trendingRanker.apply(event(1L, 1.0, NOW));
+		trendingRanker.apply(event(2L, 1.0, NOW));
+
+		// when
+		trendingRanker.apply(event(1L, -1.0, NOW));
+
+		// then
+		assertThat(trendingRanker.findEntries(null, null))
+			.extracting(TrendingEntry::productId)
+			.containsExactly(2L);
+	}
+
+	@Test
+	@DisplayName("도시와 소분류 조건으로 순위를 거른다")
+	void testFindEntriesByFilter() {
+		// given
+		trendingRanker.load(List.of(
+			new TrendingEvent(1L, 10L, 100L, 1.0, NOW),
+			new TrendingEvent(2L, 10L, 200L, 2.0, NOW),
+			new TrendingEvent(3L, 20L, 100L, 3.0, NOW)
+		));
+
+		// when
+		List<TrendingEntry> byCity = trendingRanker.findEntries(Set.of(10L), null);
+		List<TrendingEntry> bySubcategory = trendingRanker.findEntries(null, Set.of(100L));
+		List<TrendingEntry> byBoth = trendingRanker.findEntries(Set.of(10L), Set.of(100L));
+
+		// then
+		assertThat(byCity).extracting(TrendingEntry::productId).containsExactly(2L, 1L);
+		assertThat(bySubcategory).extracting(TrendingEntry::productId).containsExactly(3L, 1L);
+		assertThat(byBoth).extracting(TrendingEntry::productId).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("최대 크기를 넘으면 점수가 가장 낮은 상품부터 제외한다")
+	void testTrimToMaxSize() {
+		// given
+		for (long productId = 1; productId <= ProductConstants.TRENDING_MAX_SIZE + 1; productId++) {
+			trendingRanker.apply(event(productId, productId, NOW));
+		}
+
+		// when
+		List<TrendingEntry> entries = trendingRanker.findEntries(null, null);
+
+		// then
+		assertThat(entries).hasSize(ProductConstants.TRENDING_MAX_SIZE);
+		assertThat(entries).extracting(TrendingEntry::productId).doesNotContain(1L);
+	}
+
+	private TrendingEvent event(final Long productId, final double weight, final long occurredAtMillis) {
+		return new TrendingEvent(productId, 1L, 1L, weight, occurredAtMillis);
+	}
+}
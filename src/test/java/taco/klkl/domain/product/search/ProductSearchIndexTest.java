@@ -0,0 +1,129 @@
+package taco.klkl.domain.product.search;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ProductSearchIndexTest {
+
+	private ProductSearchIndex productSearchIndex;
+
+	@BeforeEach
+	void setUp() {
+		productSearchIndex = new ProductSearchIndex();
+		productSearchIndex.rebuild(() -> Map.of(
+			1L, "곤약젤리",
+			2L, "복숭아 곤약젤리",
+			3L, "Tokyo Banana",
+			4L, "곤약"
+		));
+	}
+
+	@Test
+	@DisplayName("검색어를 포함하는 상품을 관련도 순으로 반환한다")
+	void testSearchRanksByRelevance() {
+		// when & then
+		assertThat(productSearchIndex.search("곤약", 10)).containsExactly(4L, 1L, 2L);
+		assertThat(productSearchIndex.search("젤리", 10)).containsExactly(1L, 2L);
+		assertThat(productSearchIndex.search("약", 10)).containsExactly(4L, 1L, 2L);
+	}
+
+	@Test
+	@DisplayName("대소문자를 구분하지 않고, 2-gram 이 모두 있어도 연속하지 않으면 제외한다")
+	void testSearchMatchesSubstringOnly() {
+		// given
+		productSearchIndex.index(5L, "nana bab");
+
+		// when & then
+		assertThat(productSearchIndex.search("BANANA", 10)).containsExactly(3L);
+		assertThat(productSearchIndex.search("젤리곤약", 10)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("상품명이 검색어를 포함하는지 확인한다")
+	void testMatches() {
+		// when & then
+		assertThat(productSearchIndex.matches(2L, "곤약")).isTrue();
+		assertThat(productSearchIndex.matches(3L, "banana")).isTrue();
+		assertThat(productSearchIndex.matches(3L, "곤약")).isFalse();
+		assertThat(productSearchIndex.matches(99L, "곤약")).isFalse();
+	}
+
+	@Test
+	@DisplayName("상품명 수정과 삭제가 색인에 반영된다")
+	void testIndexAndRemove() {
+		// when
+		productSearchIndex.index(1L, "망고젤리");
+		productSearchIndex.remove(2L);
+
+		// then
+		assertThat(productSearchIndex.search("곤약", 10)).containsExactly(4L);
+		assertThat(productSearchIndex.search("망고", 10)).containsExactly(1L);
+		assertThat(productSearchIndex.size()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("트랜잭션 안의 색인 변경은 같은 트랜잭션에만 보이고 커밋된 뒤에 다른 요청에 보인다")
+	void testIndexInTransaction() {
+		// given
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			productSearchIndex.index(5L, "망고젤리");
+			productSearchIndex.remove(4L);
+
+			// when
+			List<Long> sameTransactionResult = productSearchIndex.search("젤리", 10);
+			List<Long> otherRequestResult = CompletableFuture
+				.supplyAsync(() -> productSearchIndex.search("젤리", 10))
+				.join();
+			TransactionSynchronizationManager.getSynchronizations()
+				.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+			// then
+			assertThat(sameTransactionResult).containsExactly(5L, 1L, 2L);
+			assertThat(productSearchIndex.matches(4L, "곤약")).isFalse();
+			assertThat(otherRequestResult).containsExactly(1L, 2L);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		assertThat(productSearchIndex.search("젤리", 10)).containsExactly(5L, 1L, 2L);
+		assertThat(productSearchIndex.search("곤약", 10)).containsExactly(1L, 2L);
+	}
+
+	@Test
+	@DisplayName("처음 색인을 만들기 전에는 준비되지 않은 상태다")
+	void testNotReadyBeforeRebuild() {
+		// given
+		ProductSearchIndex emptyIndex = new ProductSearchIndex();
+
+		// when & then
+		assertThat(emptyIndex.isReady()).isFalse();
+		assertThat(productSearchIndex.isReady()).isTrue();
+	}
+
+	@Test
+	@DisplayName("색인을 다시 만드는 동안 반영된 변경은 스냅샷 위에 남는다")
+	void testKeepChangesDuringRebuild() {
+		// when
+		productSearchIndex.rebuild(() -> {
+			productSearchIndex.index(5L, "망고젤리");
+			productSearchIndex.remove(1L);
+			return Map.of(
+				1L, "곤약젤리",
+				2L, "복숭아 곤약젤리"
+			);
+		});
+
+		// then
+		assertThat(productSearchIndex.search("젤리", 10)).containsExactly(5L, 2L);
+		assertThat(productSearchIndex.size()).isEqualTo(2);
+	}
+}
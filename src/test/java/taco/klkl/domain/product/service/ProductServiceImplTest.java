@@ -7,6 +7,7 @@ import static org.mockito.Mockito.*;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -17,41 +18,51 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.OrderSpecifier;
-import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import taco.klkl.domain.category.domain.category.Category;
 import taco.klkl.domain.category.domain.category.CategoryType;
 import taco.klkl.domain.category.domain.category.QCategory;
 import taco.klkl.domain.category.domain.subcategory.QSubcategory;
 import taco.klkl.domain.category.domain.subcategory.Subcategory;
 import taco.klkl.domain.category.domain.subcategory.SubcategoryType;
-import taco.klkl.domain.category.domain.tag.QTag;
 import taco.klkl.domain.category.domain.tag.Tag;
 import taco.klkl.domain.category.dto.response.tag.TagSimpleResponse;
-import taco.klkl.domain.like.exception.LikeCountBelowMinimumException;
-import taco.klkl.domain.like.exception.LikeCountOverMaximumException;
+import taco.klkl.domain.member.cache.MemberPrincipal;
 import taco.klkl.domain.member.domain.Member;
+import taco.klkl.domain.product.cache.ProductCountCache;
+import taco.klkl.domain.product.cache.ProductDetailCache;
 import taco.klkl.domain.product.dao.ProductRepository;
 import taco.klkl.domain.product.domain.Product;
 import taco.klkl.domain.product.domain.ProductTag;
 import taco.klkl.domain.product.domain.QProduct;
 import taco.klkl.domain.product.domain.QProductTag;
 import taco.klkl.domain.product.domain.Rating;
+import taco.klkl.domain.product.dto.projection.ProductSimpleProjection;
 import taco.klkl.domain.product.dto.request.ProductCreateUpdateRequest;
 import taco.klkl.domain.product.dto.request.ProductFilterOptions;
 import taco.klkl.domain.product.dto.request.ProductSortOptions;
 import taco.klkl.domain.product.dto.response.ProductDetailResponse;
 import taco.klkl.domain.product.dto.response.ProductSimpleResponse;
+import taco.klkl.domain.product.exception.FilterIdsNotFoundException;
 import taco.klkl.domain.product.exception.ProductNotFoundException;
+import taco.klkl.domain.product.facet.ProductFacetIndex;
+import taco.klkl.domain.product.ranking.LeaderboardKey;
+import taco.klkl.domain.product.ranking.LeaderboardPage;
+import taco.klkl.domain.product.ranking.LikeCountLeaderboards;
+import taco.klkl.domain.product.ranking.TrendingRanker;
+import taco.klkl.domain.product.search.ProductSearchIndex;
 import taco.klkl.domain.region.domain.city.City;
 import taco.klkl.domain.region.domain.city.CityType;
 import taco.klkl.domain.region.domain.city.QCity;
@@ -62,7 +73,10 @@ import taco.klkl.domain.region.domain.currency.Currency;
 import taco.klkl.domain.region.domain.currency.CurrencyType;
 import taco.klkl.domain.region.domain.region.Region;
 import taco.klkl.domain.region.domain.region.RegionType;
+import taco.klkl.global.common.concurrent.SingleFlight;
+import taco.klkl.global.common.constants.ProductConstants;
 import taco.klkl.global.common.response.PagedResponse;
+import taco.klkl.global.common.transaction.ReadOnlyTransactionExecutor;
 import taco.klkl.global.util.CityUtil;
 import taco.klkl.global.util.CurrencyUtil;
 import taco.klkl.global.util.LikeUtil;
@@ -82,6 +96,31 @@ class ProductServiceImplTest {
 	@Mock
 	private ProductRepository productRepository;
 
+	@Mock
+	private ProductCountCache productCountCache;
+
+	@Mock
+	private ProductDetailCache productDetailCache;
+
+	@Mock
+	private TrendingRanker trendingRanker;
+
+	@Mock
+	private LikeCountLeaderboards likeCountLeaderboards;
+
+	@Mock
+	private ProductSearchIndex productSearchIndex;
+
+	@Mock
+	private ProductFacetIndex productFacetIndex;
+
+	@Spy
+	private SingleFlight singleFlight = new SingleFlight(new SimpleMeterRegistry());
+
+	@Spy
+	private ReadOnlyTransactionExecutor readOnlyTransactionExecutor =
+		new ReadOnlyTransactionExecutor(mock(PlatformTransactionManager.class));
+
 	@Mock
 	private MemberUtil memberUtil;
 
@@ -110,13 +149,12 @@ class ProductServiceImplTest {
 	private Currency currency;
 	private ProductCreateUpdateRequest productCreateUpdateRequest;
 
-	private Product mockProduct;
-
 	@BeforeEach
 	void setUp() {
 		MockitoAnnotations.openMocks(this);
 
 		member = Member.ofUser("name", null, null);
+		ReflectionTestUtils.setField(member, "id", 1L);
 
 		Region region = Region.from(RegionType.SOUTHEAST_ASIA);
 		currency = Currency.of(
@@ -162,7 +200,6 @@ class ProductServiceImplTest {
 			1L,
 			Set.of(1L, 2L)
 		);
-		mockProduct = Mockito.mock(Product.class);
 	}
 
 	@Test
@@ -184,48 +221,56 @@ class ProductServiceImplTest {
 		Pageable pageable = PageRequest.of(0, 10);
 
 		// Mocking QueryDSL behavior
-		List<Product> productList = List.of(testProduct);
+		ProductSimpleProjection projection = new ProductSimpleProjection(
+			testProduct.getId(),
+			testProduct.getName(),
+			testProduct.getLikeCount(),
+			testProduct.getRating(),
+			CountryType.JAPAN.getName(),
+			CategoryType.FOOD.getName(),
+			testProduct.getCreatedAt()
+		);
+		List<ProductSimpleProjection> projectionList = List.of(projection);
 
 		JPAQuery<Product> baseQuery = mock(JPAQuery.class);
-		JPAQuery<Product> productQuery = mock(JPAQuery.class);
+		JPAQuery<ProductSimpleProjection> productQuery = mock(JPAQuery.class);
 		JPAQuery<Long> countQuery = mock(JPAQuery.class);
 
 		QProduct product = QProduct.product;
 		QProductTag productTag = QProductTag.productTag;
-		QTag tag = QTag.tag;
+		QCity city = QCity.city;
+		QCountry country = QCountry.country;
+		QSubcategory subcategory = QSubcategory.subcategory;
+		QCategory category = QCategory.category;
 
 		when(queryFactory.from(product)).thenReturn((JPAQuery)baseQuery);
-		when(baseQuery.leftJoin(product.productTags, productTag)).thenReturn(baseQuery);
-		when(baseQuery.leftJoin(productTag.tag, tag)).thenReturn(baseQuery);
 		when(baseQuery.where(any(BooleanBuilder.class))).thenReturn(baseQuery);
+		when(baseQuery.join(product.city, city)).thenReturn(baseQuery);
+		when(baseQuery.join(product.subcategory, subcategory)).thenReturn(baseQuery);
+		when(baseQuery.join(city.country, country)).thenReturn(baseQuery);
+		when(baseQuery.join(subcategory.category, category)).thenReturn(baseQuery);
 
 		when(baseQuery.select(QProduct.product.countDistinct())).thenReturn(countQuery);
-		when(countQuery.fetchOne()).thenReturn((long)productList.size());
+		when(countQuery.fetchOne()).thenReturn((long)projectionList.size());
 
-		when(baseQuery.select(QProduct.product)).thenReturn(productQuery);
+		when(baseQuery.select(any(ConstructorExpression.class))).thenReturn((JPAQuery)productQuery);
 		when(productQuery.distinct()).thenReturn(productQuery);
 		when(productQuery.offset(pageable.getOffset())).thenReturn(productQuery);
 		when(productQuery.limit(pageable.getPageSize())).thenReturn(productQuery);
-		when(productQuery.fetch()).thenReturn(productList);
+		when(productQuery.fetch()).thenReturn(projectionList);
 
 		// Mocking sorting behavior
-		PathBuilder<Product> pathBuilder = new PathBuilder<>(Product.class, "product");
 		when(productQuery.orderBy(any(OrderSpecifier.class))).thenReturn(productQuery);
 
 		// Mocking validation behavior
-		Subcategory mockSubcategory = mock(Subcategory.class);
-		Tag mockTag = mock(Tag.class);
+		when(cityUtil.findInvalidCityIds(anySet())).thenReturn(Set.of());
+		when(subcategoryUtil.findInvalidSubcategoryIds(anySet())).thenReturn(Set.of());
+		when(tagUtil.findInvalidTagIds(anySet())).thenReturn(Set.of());
 		when(cityUtil.isCitiesMappedToSameCountry(anySet())).thenReturn(true);
-		when(subcategoryUtil.findSubcategoryEntityById(anyLong())).thenReturn(mockSubcategory);
-		when(tagUtil.findTagEntityById(anyLong())).thenReturn(mockTag);
 
 		// Mocking productUtil behavior
-		Member currentMember = mock(Member.class);
-		when(memberUtil.getCurrentMember()).thenReturn(currentMember);
-		when(likeUtil.isLikedByProductAndMember(testProduct, currentMember)).thenReturn(true);
-
 		ProductSimpleResponse expectedSimpleResponse = ProductSimpleResponse.from(testProduct, true);
-		when(productUtil.createProductSimpleResponse(testProduct)).thenReturn(expectedSimpleResponse);
+		when(productUtil.createProductSimpleResponses(projectionList)).thenReturn(List.of(expectedSimpleResponse));
 
 		// When
 		PagedResponse<ProductSimpleResponse> result = productService
@@ -240,17 +285,19 @@ class ProductServiceImplTest {
 		assertThat(result.pageNumber()).isEqualTo(0);
 		assertThat(result.pageSize()).isEqualTo(10);
 		assertThat(result.last()).isTrue();
+		assertThat(result.isTotalExact()).isTrue();
 
 		// Verify that the query methods were called
 		verify(queryFactory).from(product);
-		verify(baseQuery).leftJoin(product.productTags, productTag);
-		verify(baseQuery).leftJoin(productTag.tag, tag);
+		verify(productFacetIndex).findProductIds(filterOptions, ProductConstants.FILTER_CANDIDATE_MAX_SIZE);
+		verify(baseQuery, never()).leftJoin(product.productTags, productTag);
 		verify(baseQuery).where(any(BooleanBuilder.class));
 
 		verify(baseQuery).select(QProduct.product.countDistinct());
 		verify(countQuery).fetchOne();
+		verify(productCountCache).put(eq(filterOptions), eq(1L), anyLong());
 
-		verify(baseQuery).select(QProduct.product);
+		verify(baseQuery).select(any(ConstructorExpression.class));
 		verify(productQuery).distinct();
 		verify(productQuery).offset(pageable.getOffset());
 		verify(productQuery).limit(pageable.getPageSize());
@@ -258,12 +305,96 @@ class ProductServiceImplTest {
 		verify(productQuery).fetch();
 
 		// Verify that validation methods were called
+		verify(cityUtil).findInvalidCityIds(cityIds);
+		verify(subcategoryUtil).findInvalidSubcategoryIds(subcategoryIds);
+		verify(tagUtil).findInvalidTagIds(tagIds);
 		verify(cityUtil).isCitiesMappedToSameCountry(cityIds);
-		verify(tagUtil, times(2)).findTagEntityById(anyLong());
-		verify(subcategoryUtil, times(3)).findSubcategoryEntityById(anyLong());
+		verify(tagUtil, never()).findTagEntityById(anyLong());
+		verify(subcategoryUtil, never()).findSubcategoryEntityById(anyLong());
+
+		// Verify that tags, images and liked status were resolved once for the whole page
+		verify(productUtil).createProductSimpleResponses(projectionList);
+	}
+
+	@Test
+	@DisplayName("상품 목록 조회 - 좋아요 순 소분류 첫 페이지는 순위표에서 조회")
+	void testFindProductsByLikeCountFromLeaderboard() {
+		// Given
+		Set<Long> subcategoryIds = Set.of(1L);
+		ProductFilterOptions filterOptions = new ProductFilterOptions(null, subcategoryIds, null);
+		ProductSortOptions sortOptions = new ProductSortOptions("like_count", "DESC");
+		Pageable pageable = PageRequest.of(0, 2);
+
+		when(subcategoryUtil.findInvalidSubcategoryIds(subcategoryIds)).thenReturn(Set.of());
+		when(productCountCache.find(filterOptions)).thenReturn(OptionalLong.of(5L));
+		when(likeCountLeaderboards.findPage(LeaderboardKey.subcategory(1L), 0L, 2))
+			.thenReturn(Optional.of(LeaderboardPage.of(List.of(3L, 1L), OptionalLong.empty())));
+		ProductSimpleResponse expectedSimpleResponse = ProductSimpleResponse.from(testProduct, false);
+		when(productUtil.createProductSimpleResponsesByIds(List.of(3L, 1L)))
+			.thenReturn(List.of(expectedSimpleResponse));
+
+		// When
+		PagedResponse<ProductSimpleResponse> result = productService
+			.findProductsByFilterOptionsAndSortOptions(pageable, filterOptions, sortOptions);
+
+		// Then
+		assertThat(result.content()).containsExactly(expectedSimpleResponse);
+		assertThat(result.totalElements()).isEqualTo(5L);
+		assertThat(result.isTotalExact()).isFalse();
+		verify(queryFactory, never()).from(QProduct.product);
+		verify(productUtil, never()).createProductSimpleResponses(any());
+	}
+
+	@Test
+	@DisplayName("상품 목록 조회 - 순위표가 모든 상품을 담고 있으면 개수를 세지 않는다")
+	void testFindProductsByLikeCountFromCompleteLeaderboard() {
+		// Given
+		Set<Long> subcategoryIds = Set.of(1L);
+		ProductFilterOptions filterOptions = new ProductFilterOptions(null, subcategoryIds, null);
+		ProductSortOptions sortOptions = new ProductSortOptions("like_count", "DESC");
+		Pageable pageable = PageRequest.of(0, 2);
+
+		when(subcategoryUtil.findInvalidSubcategoryIds(subcategoryIds)).thenReturn(Set.of());
+		when(likeCountLeaderboards.findPage(LeaderboardKey.subcategory(1L), 0L, 2))
+			.thenReturn(Optional.of(LeaderboardPage.of(List.of(3L, 1L), OptionalLong.of(3L))));
+		ProductSimpleResponse expectedSimpleResponse = ProductSimpleResponse.from(testProduct, false);
+		when(productUtil.createProductSimpleResponsesByIds(List.of(3L, 1L)))
+			.thenReturn(List.of(expectedSimpleResponse));
+
+		// When
+		PagedResponse<ProductSimpleResponse> result = productService
+			.findProductsByFilterOptionsAndSortOptions(pageable, filterOptions, sortOptions);
+
+		// Then
+		assertThat(result.totalElements()).isEqualTo(3L);
+		assertThat(result.isTotalExact()).isTrue();
+		verify(productCountCache, never()).find(any());
+		verify(queryFactory, never()).from(QProduct.product);
+	}
+
+	@Test
+	@DisplayName("상품 목록 조회 - 존재하지 않는 필터 ID 를 한 번에 모두 보고")
+	void testFindProductsByFilterOptionsWithInvalidIds() {
+		// Given
+		Set<Long> cityIds = Set.of(1L, 99L);
+		Set<Long> subcategoryIds = Set.of(1L);
+		Set<Long> tagIds = Set.of(98L, 97L);
+		ProductFilterOptions filterOptions = new ProductFilterOptions(cityIds, subcategoryIds, tagIds);
+		ProductSortOptions sortOptions = new ProductSortOptions("rating", "DESC");
+		Pageable pageable = PageRequest.of(0, 10);
 
-		// Verify that productUtil.createProductSimpleResponse was called
-		verify(productUtil).createProductSimpleResponse(testProduct);
+		when(cityUtil.findInvalidCityIds(cityIds)).thenReturn(Set.of(99L));
+		when(subcategoryUtil.findInvalidSubcategoryIds(subcategoryIds)).thenReturn(Set.of());
+		when(tagUtil.findInvalidTagIds(tagIds)).thenReturn(Set.of(97L, 98L));
+
+		// When & Then
+		FilterIdsNotFoundException exception = assertThrows(FilterIdsNotFoundException.class,
+			() -> productService.findProductsByFilterOptionsAndSortOptions(pageable, filterOptions, sortOptions));
+		assertThat(exception.getCityIds()).containsExactly(99L);
+		assertThat(exception.getSubcategoryIds()).isEmpty();
+		assertThat(exception.getTagIds()).containsExactlyInAnyOrder(97L, 98L);
+		verify(cityUtil, never()).isCitiesMappedToSameCountry(anySet());
+		verify(queryFactory, never()).from(any(QProduct.class));
 	}
 
 	@Test
@@ -277,11 +408,19 @@ class ProductServiceImplTest {
 		Pageable pageable = PageRequest.of(0, 10);
 
 		// Mocking QueryDSL behavior
-		List<Product> productList = List.of(testProduct);
+		ProductSimpleProjection projection = new ProductSimpleProjection(
+			testProduct.getId(),
+			testProduct.getName(),
+			testProduct.getLikeCount(),
+			testProduct.getRating(),
+			CountryType.JAPAN.getName(),
+			CategoryType.FOOD.getName(),
+			testProduct.getCreatedAt()
+		);
+		List<ProductSimpleProjection> projectionList = List.of(projection);
 
 		JPAQuery<Product> baseQuery = mock(JPAQuery.class);
-		JPAQuery<Product> productQuery = mock(JPAQuery.class);
-		JPAQuery<Long> countQuery = mock(JPAQuery.class);
+		JPAQuery<ProductSimpleProjection> productQuery = mock(JPAQuery.class);
 
 		QProduct product = QProduct.product;
 		final QCity city = QCity.city;
@@ -289,36 +428,27 @@ class ProductServiceImplTest {
 		final QSubcategory subcategory = QSubcategory.subcategory;
 		final QCategory category = QCategory.category;
 
+		when(productSearchIndex.isReady()).thenReturn(true);
+		when(productSearchIndex.search("name", ProductConstants.SEARCH_MAX_RESULTS + 1)).thenReturn(List.of(1L));
 		when(queryFactory.from(product)).thenReturn((JPAQuery)baseQuery);
-		when(baseQuery.where(product.name.contains("name"))).thenReturn(baseQuery);
-
-		when(baseQuery.where(any(BooleanBuilder.class))).thenReturn(baseQuery);
-		when(baseQuery.where(any(BooleanExpression.class))).thenReturn(baseQuery);
-		when(baseQuery.fetchJoin()).thenReturn(baseQuery);
+		when(baseQuery.where(product.id.in(List.of(1L)))).thenReturn(baseQuery);
 		when(baseQuery.join(product.city, city)).thenReturn(baseQuery);
 		when(baseQuery.join(product.subcategory, subcategory)).thenReturn(baseQuery);
 		when(baseQuery.join(city.country, country)).thenReturn(baseQuery);
 		when(baseQuery.join(subcategory.category, category)).thenReturn(baseQuery);
 
-		when(baseQuery.select(QProduct.product.countDistinct())).thenReturn(countQuery);
-		when(countQuery.fetchOne()).thenReturn((long)productList.size());
-
-		when(baseQuery.select(QProduct.product)).thenReturn(productQuery);
+		when(baseQuery.select(any(ConstructorExpression.class))).thenReturn((JPAQuery)productQuery);
 		when(productQuery.distinct()).thenReturn(productQuery);
 		when(productQuery.offset(pageable.getOffset())).thenReturn(productQuery);
 		when(productQuery.limit(pageable.getPageSize())).thenReturn(productQuery);
-		when(productQuery.fetch()).thenReturn(productList);
+		when(productQuery.fetch()).thenReturn(projectionList);
 
 		// Mocking sorting behavior
 		when(productQuery.orderBy(any(OrderSpecifier.class))).thenReturn(productQuery);
 
 		// Mocking productUtil behavior
-		Member currentMember = mock(Member.class);
-		when(memberUtil.getCurrentMember()).thenReturn(currentMember);
-		when(likeUtil.isLikedByProductAndMember(testProduct, currentMember)).thenReturn(true);
-
 		ProductSimpleResponse expectedSimpleResponse = ProductSimpleResponse.from(testProduct, true);
-		when(productUtil.createProductSimpleResponse(testProduct)).thenReturn(expectedSimpleResponse);
+		when(productUtil.createProductSimpleResponses(projectionList)).thenReturn(List.of(expectedSimpleResponse));
 
 		// When
 		PagedResponse<ProductSimpleResponse> result = productService
@@ -335,15 +465,18 @@ class ProductServiceImplTest {
 		assertThat(result.last()).isTrue();
 
 		// Verify that the query methods were called
+		verify(productSearchIndex).search("name", ProductConstants.SEARCH_MAX_RESULTS + 1);
 		verify(queryFactory).from(product);
+		verify(baseQuery).where(product.id.in(List.of(1L)));
+		verify(baseQuery, never()).select(QProduct.product.countDistinct());
 
-		verify(baseQuery).select(QProduct.product);
+		verify(baseQuery).select(any(ConstructorExpression.class));
 		verify(productQuery).distinct();
 		verify(productQuery).offset(pageable.getOffset());
 		verify(productQuery).limit(pageable.getPageSize());
 		verify(productQuery).orderBy(any(OrderSpecifier.class));
 		verify(productQuery).fetch();
-		verify(productUtil).createProductSimpleResponse(testProduct);
+		verify(productUtil).createProductSimpleResponses(projectionList);
 	}
 
 	@Test
@@ -352,13 +485,11 @@ class ProductServiceImplTest {
 		// Given
 		Long productId = 1L;
 		when(productRepository.findById(productId)).thenReturn(Optional.of(testProduct));
-
-		Member currentMember = mock(Member.class);
-		when(memberUtil.getCurrentMember()).thenReturn(currentMember);
-		when(likeUtil.isLikedByProductAndMember(testProduct, currentMember)).thenReturn(true);
-
-		ProductDetailResponse expectedResponse = ProductDetailResponse.from(testProduct, true);
-		when(productUtil.createProductDetailResponse(testProduct)).thenReturn(expectedResponse);
+		when(productDetailCache.find(productId)).thenReturn(Optional.empty());
+		when(productDetailCache.currentVersion(productId)).thenReturn(3L);
+		when(productUtil.applyViewerState(any(ProductDetailResponse.class)))
+			.thenAnswer(invocation -> invocation.<ProductDetailResponse>getArgument(0)
+				.withViewerState(testProduct.getLikeCount(), true));
 
 		// When
 		ProductDetailResponse result = productService.findProductById(productId);
@@ -394,8 +525,31 @@ class ProductServiceImplTest {
 		assertThat(result.city().id()).isEqualTo(testProduct.getCity().getId());
 		assertThat(result.subcategory().id()).isEqualTo(testProduct.getSubcategory().getId());
 		assertThat(result.currency().id()).isEqualTo(testProduct.getCurrency().getId());
+		assertThat(result.isLiked()).isTrue();
 		verify(productRepository).findById(productId);
-		verify(productUtil).createProductDetailResponse(testProduct);
+		verify(productDetailCache).put(eq(productId), any(ProductDetailResponse.class), eq(3L));
+		verify(readOnlyTransactionExecutor).execute(any());
+	}
+
+	@Test
+	@DisplayName("상품 상세 조회 - 캐시된 응답에 좋아요 여부를 덧씌움")
+	void testFindProductByIdFromCache() {
+		// Given
+		Long productId = 1L;
+		ProductDetailResponse cachedResponse = ProductDetailResponse.from(testProduct, false);
+		when(productDetailCache.find(productId)).thenReturn(Optional.of(cachedResponse));
+		when(productUtil.applyViewerState(cachedResponse))
+			.thenReturn(cachedResponse.withViewerState(testProduct.getLikeCount() + 1, true));
+
+		// When
+		ProductDetailResponse result = productService.findProductById(productId);
+
+		// Then
+		assertThat(result.isLiked()).isTrue();
+		assertThat(result.likeCount()).isEqualTo(testProduct.getLikeCount() + 1);
+		assertThat(result.name()).isEqualTo(cachedResponse.name());
+		verify(productRepository, never()).findById(anyLong());
+		verify(productDetailCache, never()).put(anyLong(), any(ProductDetailResponse.class), anyLong());
 	}
 
 	@Test
@@ -413,7 +567,7 @@ class ProductServiceImplTest {
 	@DisplayName("상품 생성 - 성공")
 	void testCreateProduct() {
 		// Given
-		when(memberUtil.getCurrentMember()).thenReturn(member);
+		when(memberUtil.getCurrentMemberReference()).thenReturn(member);
 		when(cityUtil.findCityEntityById(1L)).thenReturn(city);
 		when(subcategoryUtil.findSubcategoryEntityById(1L)).thenReturn(subcategory);
 		when(currencyUtil.findCurrencyEntityById(1L)).thenReturn(currency);
@@ -454,19 +608,12 @@ class ProductServiceImplTest {
 	void testUpdateProduct() {
 		// Given
 		when(productRepository.findById(1L)).thenReturn(Optional.of(testProduct));
-		when(memberUtil.getCurrentMember()).thenReturn(member);
 		when(cityUtil.findCityEntityById(1L)).thenReturn(city);
 		when(subcategoryUtil.findSubcategoryEntityById(1L)).thenReturn(subcategory);
 		when(currencyUtil.findCurrencyEntityById(1L)).thenReturn(currency);
 
 		Member currentMember = testProduct.getMember();
-		when(memberUtil.getCurrentMember()).thenReturn(currentMember);
-
-		when(cityUtil.findCityEntityById(1L)).thenReturn(city);
-		when(subcategoryUtil.findSubcategoryEntityById(1L)).thenReturn(subcategory);
-		when(currencyUtil.findCurrencyEntityById(1L)).thenReturn(currency);
-
-		when(likeUtil.isLikedByProductAndMember(testProduct, currentMember)).thenReturn(false);
+		when(memberUtil.getCurrentPrincipal()).thenReturn(MemberPrincipal.from(currentMember));
 
 		ProductDetailResponse expectedResponse = ProductDetailResponse.from(testProduct, false);
 		when(productUtil.createProductDetailResponse(testProduct)).thenReturn(expectedResponse);
@@ -504,7 +651,7 @@ class ProductServiceImplTest {
 	void testDeleteProduct() {
 		// Given
 		when(productRepository.findById(1L)).thenReturn(Optional.of(testProduct));
-		when(memberUtil.getCurrentMember()).thenReturn(member);
+		when(memberUtil.getCurrentPrincipal()).thenReturn(MemberPrincipal.from(member));
 
 		// When
 		productService.deleteProduct(1L);
@@ -512,6 +659,7 @@ class ProductServiceImplTest {
 		// Then
 		verify(productRepository).findById(1L);
 		verify(productRepository).delete(testProduct);
+		verify(productCountCache).invalidateAll();
 	}
 
 	@Test
@@ -524,57 +672,4 @@ class ProductServiceImplTest {
 		assertThrows(ProductNotFoundException.class, () -> productService.deleteProduct(1L));
 		verify(productRepository).findById(1L);
 	}
-
-	@Test
-	@DisplayName("상품 좋아요 수 추가 테스트")
-	void testAddLikeCount() {
-		// given
-		when(mockProduct.increaseLikeCount()).thenReturn(1);
-		when(mockProduct.getLikeCount()).thenReturn(1);
-
-		// when
-		int likeCount = productService.increaseLikeCount(mockProduct);
-
-		// then
-		assertThat(mockProduct.getLikeCount()).isEqualTo(likeCount);
-	}
-
-	@Test
-	@DisplayName("상품 좋아요 수 최대값 에러 테스트")
-	void testIncreaseLikeCountMaximum() {
-		// given
-		when(mockProduct.increaseLikeCount()).thenThrow(LikeCountOverMaximumException.class);
-
-		// when & then
-		org.junit.jupiter.api.Assertions.assertThrows(LikeCountOverMaximumException.class, () -> {
-			productService.increaseLikeCount(mockProduct);
-		});
-	}
-
-	@Test
-	@DisplayName("상품 좋아요 수 빼기 테스트")
-	void testSubtractLikeCount() {
-		// given
-		testProduct.increaseLikeCount();
-		int beforeLikeCount = testProduct.getLikeCount();
-
-		// when
-		productService.decreaseLikeCount(testProduct);
-
-		// then
-		assertThat(testProduct.getLikeCount()).isEqualTo(beforeLikeCount - 1);
-	}
-
-	@Test
-	@DisplayName("상품 좋아요 수 최소값 에러 테스트")
-	void testIncreaseLikeCountMinimum() {
-		// given
-		when(mockProduct.decreaseLikeCount()).thenThrow(LikeCountBelowMinimumException.class);
-
-		// when & then
-		org.junit.jupiter.api.Assertions.assertThrows(LikeCountBelowMinimumException.class, () -> {
-			productService.decreaseLikeCount(mockProduct);
-		});
-	}
-
 }
@@ -11,9 +11,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import jakarta.transaction.Transactional;
 import taco.klkl.domain.region.dto.response.region.RegionResponse;
@@ -44,4 +46,20 @@ public class RegionIntegrationTest {
 			.andExpect(jsonPath("$.isSuccess", is(true)))
 			.andExpect(jsonPath("$.data", hasSize(regionResponses.size())));
 	}
+
+	@Test
+	@DisplayName("지역 계층 조회 ETag 재검증 통합 테스트")
+	void testGetAllRegionsNotModified() throws Exception {
+		// given
+		MvcResult result = mockMvc.perform(get("/v1/regions/hierarchy"))
+			.andExpect(status().isOk())
+			.andExpect(header().exists(HttpHeaders.ETAG))
+			.andReturn();
+		String eTag = result.getResponse().getHeader(HttpHeaders.ETAG);
+
+		// when & then
+		mockMvc.perform(get("/v1/regions/hierarchy")
+				.header(HttpHeaders.IF_NONE_MATCH, eTag))
+			.andExpect(status().isNotModified());
+	}
 }
@@ -14,10 +14,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import taco.klkl.domain.region.dao.region.RegionRepository;
 import taco.klkl.domain.region.domain.region.Region;
 import taco.klkl.domain.region.domain.region.RegionType;
 import taco.klkl.domain.region.dto.response.region.RegionResponse;
+import taco.klkl.global.catalog.ReferenceCatalog;
+import taco.klkl.global.catalog.ReferenceCatalogProvider;
 
 @ExtendWith(MockitoExtension.class)
 class RegionServiceImplTest {
@@ -26,7 +27,10 @@ class RegionServiceImplTest {
 	RegionServiceImpl regionService;
 
 	@Mock
-	RegionRepository regionRepository;
+	ReferenceCatalogProvider referenceCatalogProvider;
+
+	@Mock
+	ReferenceCatalog referenceCatalog;
 
 	private final Region region1 = Region.from(RegionType.NORTHEAST_ASIA);
 	private final Region region2 = Region.from(RegionType.SOUTHEAST_ASIA);
@@ -38,7 +42,8 @@ class RegionServiceImplTest {
 		// given
 		List<Region> mockRegions = Arrays.asList(region1, region2, region3);
 
-		when(regionRepository.findAllByOrderByIdAsc()).thenReturn(mockRegions);
+		when(referenceCatalogProvider.getCatalog()).thenReturn(referenceCatalog);
+		when(referenceCatalog.getRegions()).thenReturn(mockRegions);
 
 		// when
 		List<RegionResponse> regionResponses = regionService.findAllRegions();
@@ -54,7 +59,8 @@ class RegionServiceImplTest {
 	@DisplayName("모든 지역 조회 실패 테스트")
 	void testGetAllRegionFail() {
 		// given
-		when(regionRepository.findAllByOrderByIdAsc()).thenReturn(Collections.emptyList());
+		when(referenceCatalogProvider.getCatalog()).thenReturn(referenceCatalog);
+		when(referenceCatalog.getRegions()).thenReturn(Collections.emptyList());
 
 		// when
 		List<RegionResponse> regionResponses = regionService.findAllRegions();
@@ -0,0 +1,85 @@
+package taco.klkl.domain.search.autocomplete;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import taco.klkl.domain.region.domain.country.Country;
+import taco.klkl.domain.region.domain.country.CountryType;
+import taco.klkl.domain.region.domain.currency.Currency;
+import taco.klkl.domain.region.domain.region.Region;
+import taco.klkl.domain.region.dto.response.country.CountrySimpleResponse;
+import taco.klkl.domain.search.dto.response.SearchResponse;
+import taco.klkl.global.catalog.ReferenceCatalog;
+
+class AutocompleteIndexTest {
+
+	private AutocompleteIndex index;
+
+	@BeforeEach
+	void setUp() {
+		final Region region = mock(Region.class);
+		final Currency currency = mock(Currency.class);
+		final ReferenceCatalog catalog = mock(ReferenceCatalog.class);
+		when(catalog.getCountries()).thenReturn(List.of(
+			Country.of(CountryType.MALAYSIA, region, "wallpaper", currency),
+			Country.of(CountryType.INDONESIA, region, "wallpaper", currency),
+			Country.of(CountryType.JAPAN, region, "wallpaper", currency)
+		));
+		index = AutocompleteIndex.from(catalog);
+	}
+
+	@Test
+	@DisplayName("앞부분이 일치하는 이름이 중간에 포함된 이름보다 먼저 반환된다")
+	void testSearchRanksPrefixBeforeInfix() {
+		// when
+		final SearchResponse result = index.search("ㅇ");
+
+		// then
+		assertThat(result.countries())
+			.extracting(CountrySimpleResponse::name)
+			.containsExactly("일본", "인도네시아", "말레이시아");
+		assertThat(result.cities()).isEmpty();
+		assertThat(result.categories()).isEmpty();
+		assertThat(result.subcategories()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("초성만 입력하면 이름의 초성으로 찾는다")
+	void testSearchByChosung() {
+		// when
+		final SearchResponse result = index.search("ㅁㄹ");
+
+		// then
+		assertThat(result.countries())
+			.extracting(CountrySimpleResponse::name)
+			.containsExactly("말레이시아");
+	}
+
+	@Test
+	@DisplayName("이름 중간에 포함된 검색어로도 찾는다")
+	void testSearchByInfix() {
+		// when
+		final SearchResponse result = index.search(" 네시아 ");
+
+		// then
+		assertThat(result.countries())
+			.extracting(CountrySimpleResponse::name)
+			.containsExactly("인도네시아");
+	}
+
+	@Test
+	@DisplayName("일치하는 이름이 없으면 빈 결과를 반환한다")
+	void testSearchWithoutMatch() {
+		// when
+		final SearchResponse result = index.search("미국");
+
+		// then
+		assertThat(result.countries()).isEmpty();
+	}
+}
@@ -0,0 +1,147 @@
+package taco.klkl.domain.search.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import taco.klkl.domain.category.domain.category.Category;
+import taco.klkl.domain.category.domain.category.CategoryType;
+import taco.klkl.domain.category.domain.subcategory.Subcategory;
+import taco.klkl.domain.category.domain.subcategory.SubcategoryType;
+import taco.klkl.domain.category.dto.response.category.CategorySimpleResponse;
+import taco.klkl.domain.category.dto.response.subcategory.SubcategorySimpleResponse;
+import taco.klkl.domain.category.service.category.CategoryService;
+import taco.klkl.domain.category.service.subcategory.SubcategoryService;
+import taco.klkl.domain.region.domain.city.City;
+import taco.klkl.domain.region.domain.city.CityType;
+import taco.klkl.domain.region.domain.country.Country;
+import taco.klkl.domain.region.domain.country.CountryType;
+import taco.klkl.domain.region.domain.currency.Currency;
+import taco.klkl.domain.region.domain.region.Region;
+import taco.klkl.domain.region.dto.response.city.CitySimpleResponse;
+import taco.klkl.domain.region.dto.response.country.CountrySimpleResponse;
+import taco.klkl.domain.region.service.city.CityService;
+import taco.klkl.domain.region.service.country.CountryService;
+import taco.klkl.domain.search.dto.response.SearchResponse;
+
+@ExtendWith(MockitoExtension.class)
+class ParallelSearchServiceImplTest {
+
+	@Mock
+	CountryService countryService;
+
+	@Mock
+	CityService cityService;
+
+	@Mock
+	CategoryService categoryService;
+
+	@Mock
+	SubcategoryService subcategoryService;
+
+	@Mock
+	Region region;
+
+	@Mock
+	Currency currency;
+
+	private SearchExecutor searchExecutor;
+	private ParallelSearchServiceImpl searchService;
+
+	private final Country country = Country.of(CountryType.MALAYSIA, region, "wallpaper", currency);
+	private final City city = City.of(CityType.BORACAY, country);
+	private final Category category = Category.of(CategoryType.CLOTHES);
+	private final Subcategory subcategory = Subcategory.of(category, SubcategoryType.MAKEUP);
+
+	@BeforeEach
+	void setUp() {
+		searchExecutor = new SearchExecutor(4, 16);
+		searchService = new ParallelSearchServiceImpl(
+			countryService,
+			cityService,
+			categoryService,
+			subcategoryService,
+			searchExecutor
+		);
+	}
+
+	@AfterEach
+	void tearDown() {
+		searchExecutor.destroy();
+	}
+
+	@Test
+	@DisplayName("모든 대상이 제한 시간 안에 응답하면 전체 결과를 반환한다")
+	void testFindSearchResult() {
+		// given
+		String queryParam = "Test";
+		List<CountrySimpleResponse> mockCountries = List.of(CountrySimpleResponse.from(country));
+		List<CitySimpleResponse> mockCities = List.of(CitySimpleResponse.from(city));
+		List<CategorySimpleResponse> mockCategories = List.of(CategorySimpleResponse.from(category));
+		List<SubcategorySimpleResponse> mockSubcategories = List.of(SubcategorySimpleResponse.from(subcategory));
+
+		when(countryService.findAllCountriesByPartialString(queryParam)).thenReturn(mockCountries);
+		when(cityService.findAllCitiesByPartialString(queryParam)).thenReturn(mockCities);
+		when(categoryService.findAllCategoriesByPartialString(queryParam)).thenReturn(mockCategories);
+		when(subcategoryService.findAllSubcategoriesByPartialString(queryParam)).thenReturn(mockSubcategories);
+
+		// when
+		SearchResponse result = searchService.findSearchResult(queryParam);
+
+		// then
+		assertThat(result.countries()).isEqualTo(mockCountries);
+		assertThat(result.cities()).isEqualTo(mockCities);
+		assertThat(result.categories()).isEqualTo(mockCategories);
+		assertThat(result.subcategories()).isEqualTo(mockSubcategories);
+		assertThat(result.isPartial()).isFalse();
+	}
+
+	@Test
+	@DisplayName("제한 시간 안에 응답하지 못한 대상은 비우고 일부 결과임을 표시한다")
+	void testFindSearchResultWithSlowSource() throws InterruptedException {
+		// given
+		String queryParam = "Test";
+		List<CountrySimpleResponse> mockCountries = List.of(CountrySimpleResponse.from(country));
+		List<CategorySimpleResponse> mockCategories = List.of(CategorySimpleResponse.from(category));
+		List<SubcategorySimpleResponse> mockSubcategories = List.of(SubcategorySimpleResponse.from(subcategory));
+
+		when(countryService.findAllCountriesByPartialString(queryParam)).thenReturn(mockCountries);
+		CountDownLatch interrupted = new CountDownLatch(1);
+		when(cityService.findAllCitiesByPartialString(queryParam)).thenAnswer(invocation -> {
+			try {
+				Thread.sleep(5_000L);
+			} catch (InterruptedException e) {
+				interrupted.countDown();
+				throw e;
+			}
+			return List.of(CitySimpleResponse.from(city));
+		});
+		when(categoryService.findAllCategoriesByPartialString(queryParam)).thenReturn(mockCategories);
+		when(subcategoryService.findAllSubcategoriesByPartialString(queryParam)).thenReturn(mockSubcategories);
+
+		// when
+		long startedAt = System.currentTimeMillis();
+		SearchResponse result = searchService.findSearchResult(queryParam);
+		long elapsed = System.currentTimeMillis() - startedAt;
+
+		// then
+		assertThat(result.countries()).isEqualTo(mockCountries);
+		assertThat(result.cities()).isEmpty();
+		assertThat(result.categories()).isEqualTo(mockCategories);
+		assertThat(result.subcategories()).isEqualTo(mockSubcategories);
+		assertThat(result.isPartial()).isTrue();
+		assertThat(elapsed).isLessThan(5_000L);
+		assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+	}
+}
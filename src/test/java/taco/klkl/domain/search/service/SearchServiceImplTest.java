@@ -19,8 +19,6 @@ import taco.klkl.domain.category.domain.subcategory.Subcategory;
 import taco.klkl.domain.category.domain.subcategory.SubcategoryType;
 import taco.klkl.domain.category.dto.response.category.CategorySimpleResponse;
 import taco.klkl.domain.category.dto.response.subcategory.SubcategorySimpleResponse;
-import taco.klkl.domain.category.service.category.CategoryService;
-import taco.klkl.domain.category.service.subcategory.SubcategoryService;
 import taco.klkl.domain.region.domain.city.City;
 import taco.klkl.domain.region.domain.city.CityType;
 import taco.klkl.domain.region.domain.country.Country;
@@ -29,8 +27,7 @@ import taco.klkl.domain.region.domain.currency.Currency;
 import taco.klkl.domain.region.domain.region.Region;
 import taco.klkl.domain.region.dto.response.city.CitySimpleResponse;
 import taco.klkl.domain.region.dto.response.country.CountrySimpleResponse;
-import taco.klkl.domain.region.service.city.CityService;
-import taco.klkl.domain.region.service.country.CountryService;
+import taco.klkl.domain.search.autocomplete.AutocompleteIndexProvider;
 import taco.klkl.domain.search.dto.response.SearchResponse;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,16 +37,7 @@ class SearchServiceImplTest {
 	SearchServiceImpl searchService;
 
 	@Mock
-	CountryService countryService;
-
-	@Mock
-	CityService cityService;
-
-	@Mock
-	CategoryService categoryService;
-
-	@Mock
-	SubcategoryService subcategoryService;
+	AutocompleteIndexProvider autocompleteIndexProvider;
 
 	@Mock
 	Region region;
@@ -74,11 +62,9 @@ class SearchServiceImplTest {
 		List<CategorySimpleResponse> mockCategories = Collections.singletonList(CategorySimpleResponse.from(category));
 		List<SubcategorySimpleResponse> mockSubcategories =
 			Collections.singletonList(SubcategorySimpleResponse.from(subcategory));
+		SearchResponse mockResponse = SearchResponse.of(mockCountries, mockCities, mockCategories, mockSubcategories);
 
-		when(countryService.findAllCountriesByPartialString(any(String.class))).thenReturn(mockCountries);
-		when(cityService.findAllCitiesByPartialString(any(String.class))).thenReturn(mockCities);
-		when(categoryService.findAllCategoriesByPartialString(any(String.class))).thenReturn(mockCategories);
-		when(subcategoryService.findAllSubcategoriesByPartialString(any(String.class))).thenReturn(mockSubcategories);
+		when(autocompleteIndexProvider.search(queryParam)).thenReturn(mockResponse);
 
 		// when
 		SearchResponse result = searchService.findSearchResult(queryParam);
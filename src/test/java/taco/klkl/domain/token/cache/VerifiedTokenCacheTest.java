@@ -0,0 +1,46 @@
+package taco.klkl.domain.token.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+class VerifiedTokenCacheTest {
+
+	private final VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache();
+
+	@Test
+	@DisplayName("만료 전인 토큰의 클레임을 반환한다")
+	void testFind() {
+		// given
+		Claims claims = Jwts.claims()
+			.subject("member")
+			.expiration(new Date(System.currentTimeMillis() + 60_000))
+			.build();
+		verifiedTokenCache.put("token", claims);
+
+		// when & then
+		assertThat(verifiedTokenCache.find("token")).contains(claims);
+		assertThat(verifiedTokenCache.find("other-token")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("만료된 토큰은 반환하지 않고 제거한다")
+	void testFindExpired() {
+		// given
+		Claims claims = Jwts.claims()
+			.subject("member")
+			.expiration(new Date(System.currentTimeMillis() - 1_000))
+			.build();
+		verifiedTokenCache.put("token", claims);
+
+		// when & then
+		assertThat(verifiedTokenCache.find("token")).isEmpty();
+		assertThat(verifiedTokenCache.size()).isZero();
+	}
+}
@@ -0,0 +1,54 @@
+package taco.klkl.domain.token.dao;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import taco.klkl.domain.token.domain.Token;
+
+class InMemoryTokenStoreTest {
+
+	private final InMemoryTokenStore tokenStore = new InMemoryTokenStore();
+
+	@Test
+	@DisplayName("액세스 토큰으로 저장된 리프레시 토큰을 찾는다")
+	void testFindByAccessToken() {
+		// given
+		tokenStore.saveOrUpdate("member", "refresh", "access");
+
+		// when & then
+		assertThat(tokenStore.findByAccessToken("access"))
+			.map(Token::getRefreshToken)
+			.contains("refresh");
+		assertThat(tokenStore.findByAccessToken("unknown")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("액세스 토큰을 재발급하면 이전 토큰으로는 찾을 수 없다")
+	void testUpdateAccessToken() {
+		// given
+		tokenStore.saveOrUpdate("member", "refresh", "access");
+		Token token = tokenStore.findByAccessToken("access").orElseThrow();
+
+		// when
+		tokenStore.updateAccessToken(token, "reissued");
+
+		// then
+		assertThat(tokenStore.findByAccessToken("access")).isEmpty();
+		assertThat(tokenStore.findByAccessToken("reissued")).contains(token);
+	}
+
+	@Test
+	@DisplayName("이름으로 삭제하면 액세스 토큰 색인도 함께 제거된다")
+	void testDeleteByName() {
+		// given
+		tokenStore.saveOrUpdate("member", "refresh", "access");
+
+		// when
+		tokenStore.deleteByName("member");
+
+		// then
+		assertThat(tokenStore.findByAccessToken("access")).isEmpty();
+	}
+}
@@ -0,0 +1,90 @@
+package taco.klkl.domain.token.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import taco.klkl.domain.token.cache.VerifiedTokenCache;
+import taco.klkl.domain.token.domain.Token;
+import taco.klkl.domain.token.exception.TokenExpiredException;
+
+class TokenProviderTest {
+
+	private static final String SECRET = "test-secret-key-for-token-provider-test-0123456789";
+	private static final int VALID_EXPIRATION_IN_MS = 60_000;
+	private static final int EXPIRED_EXPIRATION_IN_MS = -1_000;
+
+	private final TokenService tokenService = mock(TokenService.class);
+	private final TokenProvider tokenProvider = new TokenProvider(tokenService, new VerifiedTokenCache());
+
+	private final List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+	private final Authentication authentication = new UsernamePasswordAuthenticationToken(
+		new User("member", "", authorities), null, authorities
+	);
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(tokenProvider, "key", SECRET);
+		ReflectionTestUtils.setField(tokenProvider, "refreshTokenExpirationInMs", VALID_EXPIRATION_IN_MS);
+		tokenProvider.setSecretKey();
+	}
+
+	@Test
+	@DisplayName("만료된 액세스 토큰은 저장된 리프레시 토큰으로 재발급한다")
+	void testReissueAccessToken() {
+		// given
+		String expiredAccessToken = generateAccessToken(EXPIRED_EXPIRATION_IN_MS);
+		String refreshToken = generateRefreshToken();
+		Token token = Token.of("member", refreshToken, expiredAccessToken);
+		when(tokenService.findByAccessTokenOrThrow(expiredAccessToken)).thenReturn(token);
+		ReflectionTestUtils.setField(tokenProvider, "accessTokenExpirationInMs", VALID_EXPIRATION_IN_MS);
+
+		// when
+		String reissuedAccessToken = tokenProvider.reissueAccessToken(expiredAccessToken);
+
+		// then
+		assertThat(tokenProvider.validateAndGetClaims(reissuedAccessToken).getSubject()).isEqualTo("member");
+		verify(tokenService).updateToken(reissuedAccessToken, token);
+	}
+
+	@Test
+	@DisplayName("리프레시 토큰도 만료되었으면 재발급하지 않는다")
+	void testReissueAccessTokenWithExpiredRefreshToken() {
+		// given
+		String expiredAccessToken = generateAccessToken(EXPIRED_EXPIRATION_IN_MS);
+		ReflectionTestUtils.setField(tokenProvider, "refreshTokenExpirationInMs", EXPIRED_EXPIRATION_IN_MS);
+		String expiredRefreshToken = generateRefreshToken();
+		Token token = Token.of("member", expiredRefreshToken, expiredAccessToken);
+		when(tokenService.findByAccessTokenOrThrow(expiredAccessToken)).thenReturn(token);
+
+		// when & then
+		assertThatThrownBy(() -> tokenProvider.reissueAccessToken(expiredAccessToken))
+			.isInstanceOf(TokenExpiredException.class);
+		verify(tokenService, never()).updateToken(anyString(), any(Token.class));
+	}
+
+	private String generateAccessToken(final int expirationInMs) {
+		ReflectionTestUtils.setField(tokenProvider, "accessTokenExpirationInMs", expirationInMs);
+		return tokenProvider.generateAccessToken(authentication);
+	}
+
+	private String generateRefreshToken() {
+		tokenProvider.generateRefreshToken(authentication, "access-token");
+		ArgumentCaptor<String> refreshTokenCaptor = ArgumentCaptor.forClass(String.class);
+		verify(tokenService, atLeastOnce())
+			.saveOrUpdate(eq("member"), refreshTokenCaptor.capture(), eq("access-token"));
+		return refreshTokenCaptor.getValue();
+	}
+}
@@ -0,0 +1,111 @@
+package taco.klkl.global.common.collection;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LongBitmapTest {
+
+	@Test
+	@DisplayName("추가한 상품 ID 만 포함한다")
+	void testAddAndContains() {
+		// given
+		LongBitmap bitmap = LongBitmap.from(List.of(1L, 70_000L, 5_000_000_000L));
+
+		// when
+		boolean added = bitmap.add(3L);
+		boolean addedAgain = bitmap.add(3L);
+
+		// then
+		assertThat(added).isTrue();
+		assertThat(addedAgain).isFalse();
+		assertThat(bitmap.contains(1L)).isTrue();
+		assertThat(bitmap.contains(3L)).isTrue();
+		assertThat(bitmap.contains(70_000L)).isTrue();
+		assertThat(bitmap.contains(5_000_000_000L)).isTrue();
+		assertThat(bitmap.contains(2L)).isFalse();
+		assertThat(bitmap.contains(65_537L)).isFalse();
+		assertThat(bitmap.cardinality()).isEqualTo(4L);
+	}
+
+	@Test
+	@DisplayName("제거한 상품 ID 는 더 이상 포함하지 않는다")
+	void testRemove() {
+		// given
+		LongBitmap bitmap = LongBitmap.from(List.of(1L, 2L, 70_000L));
+
+		// when
+		boolean removed = bitmap.remove(70_000L);
+		boolean removedAgain = bitmap.remove(70_000L);
+
+		// then
+		assertThat(removed).isTrue();
+		assertThat(removedAgain).isFalse();
+		assertThat(bitmap.contains(70_000L)).isFalse();
+		assertThat(bitmap.cardinality()).isEqualTo(2L);
+	}
+
+	@Test
+	@DisplayName("원소가 많아지면 비트맵 컨테이너로, 줄어들면 배열 컨테이너로 전환된다")
+	void testContainerConversion() {
+		// given
+		LongBitmap bitmap = LongBitmap.empty();
+		LongStream.range(0, 5_000).forEach(bitmap::add);
+		long bitmapBytes = bitmap.sizeInBytes();
+
+		// when
+		LongStream.range(0, 4_000).forEach(bitmap::remove);
+
+		// then
+		assertThat(bitmap.cardinality()).isEqualTo(1_000L);
+		assertThat(bitmap.contains(3_999L)).isFalse();
+		assertThat(bitmap.contains(4_000L)).isTrue();
+		assertThat(bitmap.contains(4_999L)).isTrue();
+		assertThat(bitmap.sizeInBytes()).isLessThan(bitmapBytes);
+	}
+
+	@Test
+	@DisplayName("교집합과 합집합은 입력을 바꾸지 않고 새 비트맵을 반환한다")
+	void testAndOr() {
+		// given
+		LongBitmap left = LongBitmap.from(List.of(1L, 2L, 70_000L, 5_000_000_000L));
+		LongBitmap right = LongBitmap.from(List.of(2L, 3L, 5_000_000_000L));
+		LongStream.range(100_000, 110_000).forEach(left::add);
+		LongStream.range(105_000, 115_000).forEach(right::add);
+
+		// when
+		LongBitmap intersection = left.and(right);
+		LongBitmap union = left.or(right);
+
+		// then
+		assertThat(toList(intersection)).startsWith(2L, 105_000L).endsWith(109_999L, 5_000_000_000L);
+		assertThat(intersection.cardinality()).isEqualTo(5_002L);
+		assertThat(left.andCardinality(right)).isEqualTo(5_002L);
+		assertThat(union.cardinality()).isEqualTo(15_004L);
+		assertThat(union.contains(3L)).isTrue();
+		assertThat(union.contains(70_000L)).isTrue();
+		assertThat(left.cardinality()).isEqualTo(10_004L);
+		assertThat(right.contains(1L)).isFalse();
+	}
+
+	@Test
+	@DisplayName("원소를 오름차순으로 순회한다")
+	void testForEach() {
+		// given
+		LongBitmap bitmap = LongBitmap.from(List.of(5_000_000_000L, 70_000L, 3L, 1L));
+
+		// when & then
+		assertThat(toList(bitmap)).containsExactly(1L, 3L, 70_000L, 5_000_000_000L);
+	}
+
+	private List<Long> toList(final LongBitmap bitmap) {
+		List<Long> values = new ArrayList<>();
+		bitmap.forEach(values::add);
+		return values;
+	}
+}
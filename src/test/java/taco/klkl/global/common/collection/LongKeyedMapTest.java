@@ -0,0 +1,58 @@
+package taco.klkl.global.common.collection;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LongKeyedMapTest {
+
+	private record Item(long id, String name) {
+	}
+
+	@Test
+	@DisplayName("키로 값을 조회할 수 있다")
+	void testGet() {
+		// given
+		LongKeyedMap<Item> map = LongKeyedMap.from(
+			List.of(new Item(30L, "c"), new Item(10L, "a"), new Item(20L, "b")),
+			Item::id
+		);
+
+		// when & then
+		assertThat(map.size()).isEqualTo(3);
+		assertThat(map.get(20L).name()).isEqualTo("b");
+		assertThat(map.get(40L)).isNull();
+		assertThat(map.containsKey(10L)).isTrue();
+		assertThat(map.containsKey(11L)).isFalse();
+	}
+
+	@Test
+	@DisplayName("값 목록은 키 오름차순으로 반환된다")
+	void testValuesAreSortedByKey() {
+		// given
+		LongKeyedMap<Item> map = LongKeyedMap.from(
+			List.of(new Item(3L, "c"), new Item(1L, "a"), new Item(2L, "b")),
+			Item::id
+		);
+
+		// when
+		List<Item> values = map.values();
+
+		// then
+		assertThat(values).extracting(Item::name).containsExactly("a", "b", "c");
+	}
+
+	@Test
+	@DisplayName("중복된 키가 있으면 예외가 발생한다")
+	void testDuplicateKey() {
+		// given
+		List<Item> items = List.of(new Item(1L, "a"), new Item(1L, "b"));
+
+		// when & then
+		assertThatThrownBy(() -> LongKeyedMap.from(items, Item::id))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
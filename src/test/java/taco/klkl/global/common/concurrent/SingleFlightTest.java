@@ -0,0 +1,118 @@
+package taco.klkl.global.common.concurrent;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SingleFlightTest {
+
+	private static final String NAME = "test";
+
+	private SimpleMeterRegistry meterRegistry;
+	private SingleFlight singleFlight;
+	private ExecutorService executor;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		singleFlight = new SingleFlight(meterRegistry);
+		executor = Executors.newFixedThreadPool(2);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("같은 키로 동시에 조회하면 한 번만 조회하고 결과를 나눠 받는다")
+	void testExecuteCollapsesConcurrentCalls() throws Exception {
+		// given
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger loadCount = new AtomicInteger();
+
+		// when
+		CompletableFuture<String> leader = CompletableFuture.supplyAsync(
+			() -> singleFlight.execute(NAME, 1L, () -> {
+				loadCount.incrementAndGet();
+				loading.countDown();
+				await(release);
+				return "value";
+			}),
+			executor
+		);
+		assertThat(loading.await(1, TimeUnit.SECONDS)).isTrue();
+		CompletableFuture<String> follower = CompletableFuture.supplyAsync(
+			() -> singleFlight.execute(NAME, 1L, () -> {
+				loadCount.incrementAndGet();
+				return "other";
+			}),
+			executor
+		);
+		while (collapsedCount() < 1.0) {
+			Thread.onSpinWait();
+		}
+		release.countDown();
+
+		// then
+		assertThat(leader.get(1, TimeUnit.SECONDS)).isEqualTo("value");
+		assertThat(follower.get(1, TimeUnit.SECONDS)).isEqualTo("value");
+		assertThat(loadCount).hasValue(1);
+		assertThat(singleFlight.inFlightCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("조회가 끝난 뒤의 호출은 다시 조회한다")
+	void testExecuteLoadsAgainAfterCompletion() {
+		// given
+		AtomicInteger loadCount = new AtomicInteger();
+
+		// when
+		singleFlight.execute(NAME, 1L, loadCount::incrementAndGet);
+		Integer second = singleFlight.execute(NAME, 1L, loadCount::incrementAndGet);
+
+		// then
+		assertThat(second).isEqualTo(2);
+		assertThat(collapsedCount()).isZero();
+		assertThat(meterRegistry.get("single.flight").tag("result", "executed").counter().count())
+			.isEqualTo(2.0);
+	}
+
+	@Test
+	@DisplayName("조회 중 발생한 예외는 그대로 전달하고 다음 호출을 막지 않는다")
+	void testExecutePropagatesException() {
+		// when, then
+		assertThatThrownBy(() -> singleFlight.execute(NAME, 1L, () -> {
+			throw new IllegalStateException("fail");
+		})).isInstanceOf(IllegalStateException.class);
+		assertThat(singleFlight.inFlightCount()).isZero();
+		assertThat(singleFlight.execute(NAME, 1L, () -> "value")).isEqualTo("value");
+	}
+
+	private double collapsedCount() {
+		return meterRegistry.find("single.flight").tag("result", "collapsed").counters().stream()
+			.mapToDouble(counter -> counter.count())
+			.sum();
+	}
+
+	private static void await(final CountDownLatch latch) {
+		try {
+			latch.await(1, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -87,6 +87,22 @@ class GlobalResponseAdviceTest {
 		assertEquals(body, result);
 	}
 
+	@Test
+	@DisplayName("body가 미리 직렬화된 byte[] 일 때 원본 body를 그대로 반환하는지 확인")
+	void testBeforeBodyWrite_WithByteArrayBody() {
+		// Given
+		byte[] body = "{\"isSuccess\":true}".getBytes();
+		MockHttpServletResponse mockResponse = new MockHttpServletResponse();
+		mockResponse.setStatus(HttpStatus.OK.value());
+		when(response.getServletResponse()).thenReturn(mockResponse);
+
+		// When
+		Object result = advice.beforeBodyWrite(body, null, MediaType.APPLICATION_JSON, null, request, response);
+
+		// Then
+		assertSame(body, result);
+	}
+
 	@Test
 	@DisplayName("HttpStatus가 null일 때 (즉, 유효하지 않은 상태 코드) 원본 body를 그대로 반환하는지 확인")
 	void testBeforeBodyWrite_WithNullHttpStatus() {
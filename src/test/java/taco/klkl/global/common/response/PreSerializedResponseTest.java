@@ -0,0 +1,76 @@
+package taco.klkl.global.common.response;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+class PreSerializedResponseTest {
+
+	private final byte[] json = "{\"isSuccess\":true,\"data\":[]}".getBytes(StandardCharsets.UTF_8);
+
+	@Test
+	@DisplayName("같은 본문이면 같은 강한 ETag를 만든다")
+	void testETag() {
+		// when
+		PreSerializedResponse first = PreSerializedResponse.from(json);
+		PreSerializedResponse second = PreSerializedResponse.from(json.clone());
+
+		// then
+		assertThat(first.eTag()).startsWith("\"").endsWith("\"");
+		assertThat(first.eTag()).isEqualTo(second.eTag());
+	}
+
+	@Test
+	@DisplayName("gzip 을 허용하면 압축된 본문을 반환한다")
+	void testGzipBody() throws IOException {
+		// given
+		PreSerializedResponse response = PreSerializedResponse.from(json);
+
+		// when
+		ResponseEntity<byte[]> entity = response.toResponseEntity("gzip, deflate");
+
+		// then
+		assertThat(entity.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+		assertThat(entity.getHeaders().getETag()).isEqualTo(response.gzipETag());
+		assertThat(response.gzipETag()).isNotEqualTo(response.eTag());
+		try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(entity.getBody()))) {
+			assertThat(inputStream.readAllBytes()).isEqualTo(json);
+		}
+	}
+
+	@Test
+	@DisplayName("gzip 을 허용하지 않으면 원본 본문을 반환한다")
+	void testPlainBody() {
+		// given
+		PreSerializedResponse response = PreSerializedResponse.from(json);
+
+		// when
+		ResponseEntity<byte[]> entity = response.toResponseEntity(null);
+
+		// then
+		assertThat(entity.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+		assertThat(entity.getHeaders().getETag()).isEqualTo(response.eTag());
+		assertThat(entity.getBody()).isEqualTo(json);
+	}
+
+	@Test
+	@DisplayName("Accept-Encoding 의 q 값을 해석해 gzip 허용 여부를 판단한다")
+	void testAcceptsGzip() {
+		assertThat(PreSerializedResponse.acceptsGzip("gzip")).isTrue();
+		assertThat(PreSerializedResponse.acceptsGzip("deflate, GZIP;q=0.5")).isTrue();
+		assertThat(PreSerializedResponse.acceptsGzip("*")).isTrue();
+		assertThat(PreSerializedResponse.acceptsGzip("gzip;q=0")).isFalse();
+		assertThat(PreSerializedResponse.acceptsGzip("gzip;q=0, *")).isFalse();
+		assertThat(PreSerializedResponse.acceptsGzip("*;q=0")).isFalse();
+		assertThat(PreSerializedResponse.acceptsGzip("deflate, br")).isFalse();
+		assertThat(PreSerializedResponse.acceptsGzip("identity;q=1, gzip;q=abc")).isFalse();
+	}
+}